@@ -0,0 +1,40 @@
+// Muestreo Zipf por rejection-inversion (W. Hörmann, G. Derflinger), sin tablas:
+// devuelve rangos en [1, n] con probabilidad proporcional a 1 / rango^exponent.
+
+function helper1(x) {
+    return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1 / 3 - 0.25 * x));
+}
+
+function helper2(x) {
+    return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3 * (1 + 0.25 * x));
+}
+
+export function zipfSampler(n, exponent) {
+    const h = (x) => Math.exp(-exponent * Math.log(x));
+    const hIntegral = (x) => {
+        const logX = Math.log(x);
+        return helper2((1 - exponent) * logX) * logX;
+    };
+    const hIntegralInverse = (x) => {
+        let t = x * (1 - exponent);
+        if (t < -1) {
+            t = -1;
+        }
+        return Math.exp(helper1(t) * x);
+    };
+
+    const hIntegralX1 = hIntegral(1.5) - 1;
+    const hIntegralN = hIntegral(n + 0.5);
+    const s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+
+    return function sample() {
+        for (;;) {
+            const u = hIntegralN + Math.random() * (hIntegralX1 - hIntegralN);
+            const x = hIntegralInverse(u);
+            const k = Math.min(n, Math.max(1, Math.floor(x + 0.5)));
+            if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                return k;
+            }
+        }
+    };
+}
@@ -1,21 +1,150 @@
 // load-test.js
+//
+// Escenarios de carga de los endpoints de precios. Requiere una instancia con
+// el catálogo sintético cargado, por ejemplo:
+//
+//   ./gradlew bootRun --args='--price.seed.rows=1000000'
+//   k6 run load-tests/load-test.js
+//
+// Variables de entorno (k6 run -e NOMBRE=valor):
+//   BASE_URL       URL del servicio (http://localhost:8080)
+//   PRODUCTS       productos sembrados, price.seed.rows / 4 (250000)
+//   ZIPF_EXPONENT  sesgo de popularidad de productos (1.1)
+//   HOT_KEYS       productos más populares usados en el escenario caliente (100)
+//   RATE_SCALE     multiplicador de las peticiones por segundo (1)
+//   TIME_SCALE     multiplicador de la duración de cada fase (1)
+//   SCENARIOS      escenarios a ejecutar separados por comas (todos)
 import http from 'k6/http';
-import { check, sleep } from 'k6';
-
-export let options = {
-    vus: 10, // usuarios concurrentes
-    duration: '30s', // duración total de la prueba
-    thresholds: {
-        http_req_duration: ['p(95)<500'], // 95% de las peticiones < 500ms
-        http_req_failed: ['rate<0.01'],   // menos del 1% de errores
-    },
+import { check } from 'k6';
+import { zipfSampler } from './lib/zipf.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const FIRST_PRODUCT_ID = 100000; // SyntheticPriceSeeder.FIRST_PRODUCT_ID
+const PRICES_PER_PRODUCT = 4;
+const BRAND_ID = 1;
+const PRODUCTS = parseInt(__ENV.PRODUCTS || '250000', 10);
+const ZIPF_EXPONENT = parseFloat(__ENV.ZIPF_EXPONENT || '1.1');
+const HOT_KEYS = parseInt(__ENV.HOT_KEYS || '100', 10);
+const RATE_SCALE = parseFloat(__ENV.RATE_SCALE || '1');
+const TIME_SCALE = parseFloat(__ENV.TIME_SCALE || '1');
+
+const YEAR_START = Date.UTC(2020, 0, 1);
+const SECONDS_IN_YEAR = 366 * 24 * 60 * 60;
+const HOT_DATE = '2020-07-14T10:00:00';
+
+const zipfRank = zipfSampler(PRODUCTS, ZIPF_EXPONENT);
+
+function rate(perSecond) {
+    return Math.max(1, Math.round(perSecond * RATE_SCALE));
+}
+
+function seconds(value) {
+    return Math.max(1, Math.round(value * TIME_SCALE));
+}
+
+function ramping(peak) {
+    const stages = [
+        { target: rate(peak), duration: seconds(60) },
+        { target: rate(peak), duration: seconds(120) },
+        { target: 0, duration: seconds(30) },
+    ];
+    return {
+        length: stages.reduce((total, stage) => total + stage.duration, 0),
+        scenario: {
+            executor: 'ramping-arrival-rate',
+            startRate: rate(peak / 10),
+            timeUnit: '1s',
+            preAllocatedVUs: 50,
+            maxVUs: 500,
+            stages: stages.map((stage) => ({ target: stage.target, duration: `${stage.duration}s` })),
+        },
+    };
+}
+
+function constant(perSecond) {
+    const length = seconds(90);
+    return {
+        length: length,
+        scenario: {
+            executor: 'constant-arrival-rate',
+            rate: rate(perSecond),
+            timeUnit: '1s',
+            duration: `${length}s`,
+            preAllocatedVUs: 50,
+            maxVUs: 300,
+        },
+    };
+}
+
+const allScenarios = {
+    applicable_zipf: { ...ramping(500), exec: 'applicableZipf', thresholds: ['p(95)<50', 'p(99)<150'] },
+    applicable_hot: { ...constant(500), exec: 'applicableHot', thresholds: ['p(95)<20', 'p(99)<50'] },
+    applicable_cold: { ...constant(200), exec: 'applicableCold', thresholds: ['p(95)<100', 'p(99)<250'] },
+    listing: { ...ramping(50), exec: 'listing', thresholds: ['p(95)<250', 'p(99)<500'] },
+};
+
+const selected = __ENV.SCENARIOS
+    ? __ENV.SCENARIOS.split(',').map((name) => name.trim())
+    : Object.keys(allScenarios);
+
+// Los escenarios se ejecutan uno detrás de otro, con 5 s de pausa, para que
+// las latencias de cada uno no se mezclen.
+const scenarios = {};
+const thresholds = {
+    http_req_failed: ['rate<0.01'], // menos del 1% de errores
+    checks: ['rate>0.99'],
 };
+let startTime = 0;
+for (const name of selected) {
+    const definition = allScenarios[name];
+    scenarios[name] = { ...definition.scenario, exec: definition.exec, startTime: `${startTime}s` };
+    thresholds[`http_req_duration{scenario:${name}}`] = definition.thresholds;
+    startTime += definition.length + 5;
+}
+
+export const options = {
+    scenarios: scenarios,
+    thresholds: thresholds,
+};
+
+function randomDate() {
+    const seconds = Math.floor(Math.random() * SECONDS_IN_YEAR);
+    return new Date(YEAR_START + seconds * 1000).toISOString().substring(0, 19);
+}
 
+function getApplicable(productId, applicationDate, endpointTag) {
+    const res = http.get(
+        `${BASE_URL}/api/prices/applicable?productId=${productId}&brandId=${BRAND_ID}&applicationDate=${applicationDate}`,
+        { tags: { endpoint: 'applicable', name: endpointTag } },
+    );
+    check(res, {
+        'applicable status is 200': (r) => r.status === 200,
+    });
+}
 
-export default function () {
-    let res = http.get('http://localhost:8080/actuator/health');
+// Mezcla de productos con popularidad Zipf y fechas aleatorias de 2020.
+export function applicableZipf() {
+    getApplicable(FIRST_PRODUCT_ID + zipfRank() - 1, randomDate(), 'applicable-zipf');
+}
+
+// Pocas claves muy repetidas en la misma fecha: mide la coalescencia de peticiones.
+export function applicableHot() {
+    getApplicable(FIRST_PRODUCT_ID + Math.floor(Math.random() * HOT_KEYS), HOT_DATE, 'applicable-hot');
+}
+
+// Claves uniformes sobre todo el catálogo: casi siempre fallo de caché.
+export function applicableCold() {
+    getApplicable(FIRST_PRODUCT_ID + Math.floor(Math.random() * PRODUCTS), randomDate(), 'applicable-cold');
+}
+
+// Páginas de 100 precios del listado desde un cursor aleatorio.
+export function listing() {
+    const afterId = Math.floor(Math.random() * PRODUCTS * PRICES_PER_PRODUCT);
+    const res = http.get(`${BASE_URL}/api/prices?afterId=${afterId}&limit=100`, {
+        headers: { Accept: 'application/x-ndjson' },
+        tags: { endpoint: 'listing', name: 'listing' },
+    });
     check(res, {
-        'status is 200': (r) => r.status === 200,
+        'listing status is 200': (r) => r.status === 200,
     });
-    sleep(1);
 }
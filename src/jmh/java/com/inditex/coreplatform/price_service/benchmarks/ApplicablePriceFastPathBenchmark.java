@@ -0,0 +1,124 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceStore;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+import com.inditex.coreplatform.price_service.infrastructure.rest.handlers.ApplicablePriceFastPathHandler;
+import com.inditex.coreplatform.price_service.infrastructure.rest.handlers.ApplicablePriceJsonWriter;
+
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Work done per applicable-price request between the query parameters and
+ * the response bytes, without the HTTP stack, against the same
+ * {@link ColumnarPriceStore}:
+ *
+ * <ul>
+ * <li>{@code controller}: the parameters are converted to boxed IDs and a
+ * {@link LocalDateTime}, the segment and its price are materialized, mapped
+ * to a response and serialized by Jackson, as in the annotated
+ * controller;</li>
+ * <li>{@code fastPath}: the parameters are parsed to primitives, the row is
+ * looked up in place and written by {@link ApplicablePriceJsonWriter} into a
+ * pooled Netty buffer, as in {@link ApplicablePriceFastPathHandler}.</li>
+ * </ul>
+ *
+ * The GC profiler's {@code gc.alloc.rate.norm} is the allocation per request.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApplicablePriceFastPathBenchmark {
+
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({ "100000" })
+    private int rows;
+
+    private ColumnarPriceStore store;
+    private PriceMapper priceMapper;
+    private ObjectWriter writer;
+    private NettyDataBufferFactory bufferFactory;
+    private String[] productIds;
+    private String brandId;
+    private String[] applicationDates;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        store = ColumnarPriceStore.build(SyntheticPrices.generate(rows));
+        priceMapper = new PriceMapperImpl();
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+        int[] ids = SyntheticPrices.randomProductIds(rows, LOOKUPS, 42);
+        LocalDateTime[] dates = SyntheticPrices.randomDates(LOOKUPS, 43);
+        productIds = new String[LOOKUPS];
+        applicationDates = new String[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            productIds[i] = Integer.toString(ids[i]);
+            applicationDates[i] = dates[i].withNano(0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+        brandId = Integer.toString(SyntheticPrices.BRAND_ID);
+    }
+
+    @Benchmark
+    public int controller() throws JsonProcessingException {
+        int i = next++ & (LOOKUPS - 1);
+        GetApplicablePriceQuery query = new GetApplicablePriceQuery(
+                Integer.valueOf(productIds[i]),
+                Integer.valueOf(brandId),
+                LocalDateTime.parse(applicationDates[i], DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+        PriceSegment segment = store.find(query.brandId(), query.productId(),
+                PriceIntervalIndex.toEpochSecond(query.applicationDate()));
+        if (segment == null) {
+            return 0;
+        }
+        return writer.writeValueAsBytes(priceMapper.toResponse(segment.price())).length;
+    }
+
+    @Benchmark
+    public int fastPath() {
+        int i = next++ & (LOOKUPS - 1);
+        int productId = (int) ApplicablePriceFastPathHandler.parseId(productIds[i]);
+        int brand = (int) ApplicablePriceFastPathHandler.parseId(brandId);
+        long epochSecond = ApplicablePriceFastPathHandler.parseDateTime(applicationDates[i]);
+        int row = store.findRow(brand, productId, epochSecond);
+        if (row < 0) {
+            return 0;
+        }
+        DataBuffer buffer = bufferFactory.allocateBuffer(ApplicablePriceJsonWriter.MAX_LENGTH);
+        int length = ApplicablePriceJsonWriter.write(buffer, store, row, brand, productId).readableByteCount();
+        DataBufferUtils.release(buffer);
+        return length;
+    }
+}
@@ -0,0 +1,108 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+/**
+ * Cost of the fixed-point {@link Money} against the {@code Double} prices it
+ * replaced, at each step a price goes through:
+ *
+ * <ul>
+ * <li>mapping the {@code DECIMAL} read by the driver ({@code toDouble},
+ * {@code toMoney});</li>
+ * <li>parsing an imported amount ({@code parseDouble},
+ * {@code parseMoney});</li>
+ * <li>serializing a {@link PriceResponse} ({@code serializeDouble},
+ * {@code serializeMoney}), the {@code Double} one being the previous shape of
+ * the response.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyBenchmark {
+
+    private BigDecimal decimal;
+    private String text;
+    private ObjectWriter writer;
+    private DoublePriceResponse doubleResponse;
+    private PriceResponse moneyResponse;
+
+    @Setup
+    public void setUp() {
+        decimal = new BigDecimal("38.95");
+        text = "38.95";
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        LocalDateTime start = LocalDateTime.of(2020, 6, 15, 16, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+        doubleResponse = new DoublePriceResponse(4L, 35455, 1, 4, start, end, 38.95);
+        moneyResponse = new PriceResponse(4L, 35455, 1, 4, start, end, new Money(3895, null));
+    }
+
+    @Benchmark
+    public Double toDouble() {
+        return decimal.doubleValue();
+    }
+
+    @Benchmark
+    public Money toMoney() {
+        return Money.of(decimal, "EUR");
+    }
+
+    @Benchmark
+    public Double parseDouble() {
+        return Double.valueOf(text);
+    }
+
+    @Benchmark
+    public Money parseMoney() {
+        return Money.parse(text, "EUR");
+    }
+
+    @Benchmark
+    public byte[] serializeDouble() throws JsonProcessingException {
+        return writer.writeValueAsBytes(doubleResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeMoney() throws JsonProcessingException {
+        return writer.writeValueAsBytes(moneyResponse);
+    }
+
+    /**
+     * {@link PriceResponse} as it was with a {@code Double} price.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record DoublePriceResponse(
+            Long id,
+            Integer productId,
+            Integer brandId,
+            Integer rateId,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            Double price) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+
+/**
+ * {@link Price#isApplicableAt(LocalDateTime)} for dates inside and outside the
+ * validity of a price.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceApplicabilityBenchmark {
+
+    private Price price;
+    private LocalDateTime inside;
+    private LocalDateTime outside;
+
+    @Setup
+    public void setUp() {
+        price = SyntheticPrices.generate(1).get(0);
+        inside = LocalDateTime.of(2020, 6, 14, 10, 0);
+        outside = LocalDateTime.of(2021, 1, 1, 0, 0);
+    }
+
+    @Benchmark
+    public boolean applicable() {
+        return price.isApplicableAt(inside);
+    }
+
+    @Benchmark
+    public boolean notApplicable() {
+        return price.isApplicableAt(outside);
+    }
+}
@@ -0,0 +1,55 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+/**
+ * Lookups on the {@link PriceIntervalIndex} used by the in-memory engine.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceIntervalIndexBenchmark {
+
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private PriceIntervalIndex index;
+    private int[] productIds;
+    private long[] epochSeconds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        index = PriceIntervalIndex.build(SyntheticPrices.generate(rows));
+        productIds = SyntheticPrices.randomProductIds(rows, LOOKUPS, 42);
+        LocalDateTime[] dates = SyntheticPrices.randomDates(LOOKUPS, 43);
+        epochSeconds = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            epochSeconds[i] = PriceIntervalIndex.toEpochSecond(dates[i]);
+        }
+    }
+
+    @Benchmark
+    public PriceSegment find() {
+        int i = next++ & (LOOKUPS - 1);
+        return index.find(SyntheticPrices.BRAND_ID, productIds[i], epochSeconds[i]);
+    }
+}
@@ -0,0 +1,117 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceListingSnapshot;
+import com.inditex.coreplatform.price_service.infrastructure.rest.handlers.PriceListingSnapshotHandler;
+
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Work done per {@code GET /api/prices} between the catalog and the response
+ * bytes, without the HTTP stack and the database read, in requests per second:
+ *
+ * <ul>
+ * <li>{@code controller}: every price is mapped to a response and the list
+ * is serialized by Jackson, as in the annotated controller;</li>
+ * <li>{@code controllerGzip}: the same, then gzip-compressed at the default
+ * level, as response compression in the server would do;</li>
+ * <li>{@code snapshot} and {@code snapshotGzip}: the buffer of a
+ * {@link PriceListingSnapshot} is wrapped in a Netty buffer without copying
+ * it, as in {@link PriceListingSnapshotHandler}.</li>
+ * </ul>
+ *
+ * The body sizes are printed once per fork in the run log as a
+ * {@code listing} line.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PriceListingBenchmark {
+
+    @Param({ "100000" })
+    private int rows;
+
+    private List<Price> prices;
+    private PriceMapper priceMapper;
+    private ObjectWriter writer;
+    private PriceListingSnapshot snapshot;
+    private NettyDataBufferFactory bufferFactory;
+
+    @Setup
+    public void setUp() throws IOException {
+        prices = SyntheticPrices.generate(rows);
+        priceMapper = new PriceMapperImpl();
+        writer = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build()
+                .writer();
+        snapshot = PriceListingSnapshot.build("\"benchmark-0\"",
+                prices.stream().map(priceMapper::toResponse).toList(), writer);
+        bufferFactory = new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+
+        System.out.printf("%nlisting rows=%d identity=%d bytes gzip=%d bytes%n",
+                rows, snapshot.getIdentitySize(), snapshot.getGzipSize());
+    }
+
+    @Benchmark
+    public int controller() throws IOException {
+        return serialize().length;
+    }
+
+    @Benchmark
+    public int controllerGzip() throws IOException {
+        byte[] json = serialize();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        }
+        return bytes.size();
+    }
+
+    @Benchmark
+    public int snapshot() {
+        return write(false);
+    }
+
+    @Benchmark
+    public int snapshotGzip() {
+        return write(true);
+    }
+
+    private byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(prices.stream().map(priceMapper::toResponse).toList());
+    }
+
+    private int write(boolean gzip) {
+        DataBuffer buffer = bufferFactory.wrap(snapshot.body(gzip));
+        int length = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return length;
+    }
+}
@@ -0,0 +1,96 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.inditex.coreplatform.price_service.PriceServiceApplication;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.InMemoryPriceRepositoryAdapter;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+/**
+ * Applicable-price lookup from the use case down to H2, including the mapping
+ * to {@link PriceResponse}, against a synthetic catalog.
+ *
+ * The near-cache is disabled so every invocation reaches the repository.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceLookupPipelineBenchmark {
+
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({ "r2dbc", "in-memory" })
+    private String engine;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private GetApplicablePriceUseCase useCase;
+    private PriceMapper priceMapper;
+    private GetApplicablePriceQuery[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PriceServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///price_benchmark_" + engine + ";DB_CLOSE_DELAY=-1",
+                        "--spring.devtools.restart.enabled=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--price.cache.enabled=false",
+                        "--price.seed.rows=" + rows,
+                        "--price.repository.engine=" + engine);
+
+        // The index is loaded asynchronously once the application is ready
+        if ("in-memory".equals(engine)) {
+            context.getBean(InMemoryPriceRepositoryAdapter.class).reload().block();
+        }
+
+        useCase = context.getBean(GetApplicablePriceUseCase.class);
+        priceMapper = context.getBean(PriceMapper.class);
+
+        int[] productIds = SyntheticPrices.randomProductIds(rows, LOOKUPS, 42);
+        LocalDateTime[] dates = SyntheticPrices.randomDates(LOOKUPS, 43);
+        queries = new GetApplicablePriceQuery[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            queries[i] = new GetApplicablePriceQuery(productIds[i], SyntheticPrices.BRAND_ID, dates[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public PriceResponse getApplicablePrice() {
+        GetApplicablePriceQuery query = queries[next++ & (LOOKUPS - 1)];
+        return useCase.execute(query)
+                .map(priceMapper::toResponse)
+                .block();
+    }
+}
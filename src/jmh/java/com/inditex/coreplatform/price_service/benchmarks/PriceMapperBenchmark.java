@@ -0,0 +1,62 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+/**
+ * {@link PriceMapperImpl} conversions in isolation.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceMapperBenchmark {
+
+    private PriceMapper priceMapper;
+    private PriceEntity entity;
+    private Price price;
+
+    @Setup
+    public void setUp() {
+        priceMapper = new PriceMapperImpl();
+        entity = PriceEntity.builder()
+                .id(1L)
+                .brandId(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .priceList(1)
+                .productId(35455)
+                .priority(0)
+                .price(new BigDecimal("35.50"))
+                .curr("EUR")
+                .build();
+        price = priceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public Price toDomain() {
+        return priceMapper.toDomain(entity);
+    }
+
+    @Benchmark
+    public PriceResponse toResponse() {
+        return priceMapper.toResponse(price);
+    }
+}
@@ -0,0 +1,83 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.rest.codecs.BinaryPriceFormats;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+/**
+ * Encodes the response of {@code GET /api/prices/applicable} and of a batch
+ * of 100 lookups as JSON, with an {@code ObjectMapper} configured like the
+ * one Spring Boot uses for the WebFlux codecs, and as CBOR and Smile, with
+ * the mappers of {@link BinaryPriceFormats}.
+ *
+ * The encode cost is measured by JMH. The payload sizes are printed once
+ * per fork in the run log as a {@code payload} line.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceResponseFormatBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    private String format;
+
+    private ObjectWriter writer;
+    private PriceResponse response;
+    private List<ApplicablePriceBatchResponse> batch;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper mapper = switch (format) {
+            case "cbor" -> BinaryPriceFormats.cborObjectMapper();
+            case "smile" -> BinaryPriceFormats.smileObjectMapper();
+            default -> Jackson2ObjectMapperBuilder.json()
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+        };
+        writer = mapper.writer();
+
+        PriceMapper priceMapper = new PriceMapperImpl();
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+        batch = SyntheticPrices.generate(100).stream()
+                .map(price -> new ApplicablePriceBatchResponse(price.getProductId(), price.getBrandId(),
+                        applicationDate, 200, priceMapper.toResponse(price)))
+                .toList();
+        response = batch.get(0).price();
+
+        System.out.printf("%npayload format=%s single=%d bytes batchOf100=%d bytes%n",
+                format, writer.writeValueAsBytes(response).length, writer.writeValueAsBytes(batch).length);
+    }
+
+    @Benchmark
+    public byte[] single() throws JsonProcessingException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] batchOf100() throws JsonProcessingException {
+        return writer.writeValueAsBytes(batch);
+    }
+}
@@ -0,0 +1,96 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceStore;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+/**
+ * Compares the on-heap {@link PriceIntervalIndex} of the {@code in-memory}
+ * engine with the off-heap {@link ColumnarPriceStore} of the
+ * {@code columnar} engine.
+ *
+ * The lookup is measured by JMH, with the allocation per lookup reported by
+ * the GC profiler. The memory retained by each store, on heap and in direct
+ * buffers, is measured once per fork after a full GC and printed in the run
+ * log as a {@code footprint} line.
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = { "-Xmx2g", "-XX:+UseSerialGC" })
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceStoreFootprintBenchmark {
+
+    private static final int LOOKUPS = 1 << 16;
+
+    @Param({ "interval-index", "columnar" })
+    private String store;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private PriceIntervalIndex index;
+    private ColumnarPriceStore columnar;
+    private int[] productIds;
+    private long[] epochSeconds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        productIds = SyntheticPrices.randomProductIds(rows, LOOKUPS, 42);
+        LocalDateTime[] dates = SyntheticPrices.randomDates(LOOKUPS, 43);
+        epochSeconds = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            epochSeconds[i] = PriceIntervalIndex.toEpochSecond(dates[i]);
+        }
+
+        long heapBefore = usedHeap();
+        long directBefore = usedDirectMemory();
+        if (store.equals("columnar")) {
+            columnar = ColumnarPriceStore.build(SyntheticPrices.generate(rows));
+        } else {
+            index = PriceIntervalIndex.build(SyntheticPrices.generate(rows));
+        }
+        long heap = usedHeap() - heapBefore;
+        long direct = usedDirectMemory() - directBefore;
+        System.out.printf("%nfootprint store=%s rows=%d heap=%.1f MB direct=%.1f MB bytes/row=%.1f%n",
+                store, rows, heap / 1e6, direct / 1e6, (heap + direct) / (double) rows);
+    }
+
+    @Benchmark
+    public PriceSegment find() {
+        int i = next++ & (LOOKUPS - 1);
+        return columnar != null
+                ? columnar.find(SyntheticPrices.BRAND_ID, productIds[i], epochSeconds[i])
+                : index.find(SyntheticPrices.BRAND_ID, productIds[i], epochSeconds[i]);
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long usedDirectMemory() {
+        return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+                .filter(pool -> pool.getName().equals("direct"))
+                .mapToLong(BufferPoolMXBean::getMemoryUsed)
+                .sum();
+    }
+}
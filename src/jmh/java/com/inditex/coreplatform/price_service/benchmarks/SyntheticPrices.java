@@ -0,0 +1,68 @@
+package com.inditex.coreplatform.price_service.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.seed.SyntheticPriceSeeder;
+
+/**
+ * In-memory copy of the catalog that {@link SyntheticPriceSeeder} inserts
+ * into the {@code prices} table, shared by the benchmarks.
+ */
+final class SyntheticPrices {
+
+    static final int BRAND_ID = 1;
+    static final int FIRST_PRODUCT_ID = SyntheticPriceSeeder.FIRST_PRODUCT_ID;
+    static final int PRICES_PER_PRODUCT = SyntheticPriceSeeder.PRICES_PER_PRODUCT;
+
+    private static final LocalDateTime YEAR_START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int SECONDS_IN_YEAR = 366 * 24 * 60 * 60;
+
+    private SyntheticPrices() {
+    }
+
+    static List<Price> generate(int rows) {
+        List<Price> prices = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            int rate = row % PRICES_PER_PRODUCT;
+            LocalDateTime start = YEAR_START.plusMonths(3L * rate);
+            LocalDateTime end = rate == 0
+                    ? LocalDateTime.of(2020, 12, 31, 23, 59, 59)
+                    : start.plusMonths(1).minusSeconds(1);
+            prices.add(Price.builder()
+                    .id(row + 1L)
+                    .brandId(BRAND_ID)
+                    .startDate(start)
+                    .endDate(end)
+                    .rateId(rate + 1)
+                    .productId(FIRST_PRODUCT_ID + row / PRICES_PER_PRODUCT)
+                    .priority(rate == 0 ? 0 : 1)
+                    .value(new Money(1000 + (row + 1) % 9000, "EUR"))
+                    .build());
+        }
+        return prices;
+    }
+
+    static int[] randomProductIds(int rows, int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int products = Math.max(1, rows / PRICES_PER_PRODUCT);
+        int[] productIds = new int[count];
+        for (int i = 0; i < count; i++) {
+            productIds[i] = FIRST_PRODUCT_ID + random.nextInt(products);
+        }
+        return productIds;
+    }
+
+    static LocalDateTime[] randomDates(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        LocalDateTime[] dates = new LocalDateTime[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = YEAR_START.plusSeconds(random.nextInt(SECONDS_IN_YEAR));
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,98 @@
+package com.inditex.coreplatform.price_service.application.observability;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * Observes the price lookup chains of every layer under a single
+ * {@value #NAME} observation, which Spring Boot records as a timer.
+ *
+ * Each observation is tagged with the {@code layer} (controller, usecase,
+ * service, repository, index or r2dbc), the {@code endpoint} it serves, the
+ * {@code brand} and the {@code outcome}: found, not-found, error or
+ * cancelled. Only the controller layer tags a bounded brand bucket; the inner
+ * layers tag {@value #ALL_BRANDS}, so the brand does not multiply their time
+ * series. With a no-op registry the publisher is returned as is.
+ */
+public final class PriceObservations {
+
+    public static final String NAME = "price.lookup";
+
+    /**
+     * Brands above this ID share the {@code other} bucket, which keeps the
+     * number of time series bounded.
+     */
+    static final int MAX_TAGGED_BRAND_ID = 16;
+
+    static final String BRAND_TAGGED_LAYER = "controller";
+    static final String ALL_BRANDS = "all";
+
+    private PriceObservations() {
+    }
+
+    public static <T> Mono<T> observe(Mono<T> mono, ObservationRegistry registry, String layer, String endpoint,
+            Integer brandId) {
+        if (registry.isNoop()) {
+            return mono;
+        }
+        return Mono.defer(() -> {
+            Observation observation = start(registry, layer, endpoint, brandId);
+            AtomicBoolean found = new AtomicBoolean();
+            return mono
+                    .doOnNext(value -> found.set(true))
+                    .doOnError(observation::error)
+                    .doFinally(signal -> stop(observation, signal, found.get()));
+        });
+    }
+
+    public static <T> Flux<T> observe(Flux<T> flux, ObservationRegistry registry, String layer, String endpoint,
+            Integer brandId) {
+        if (registry.isNoop()) {
+            return flux;
+        }
+        return Flux.defer(() -> {
+            Observation observation = start(registry, layer, endpoint, brandId);
+            AtomicBoolean found = new AtomicBoolean();
+            return flux
+                    .doOnNext(value -> found.set(true))
+                    .doOnError(observation::error)
+                    .doFinally(signal -> stop(observation, signal, found.get()));
+        });
+    }
+
+    static String brandBucket(Integer brandId) {
+        if (brandId == null) {
+            return "none";
+        }
+        return brandId > 0 && brandId <= MAX_TAGGED_BRAND_ID ? String.valueOf(brandId) : "other";
+    }
+
+    static String outcome(SignalType signal, boolean found) {
+        if (signal == SignalType.ON_ERROR) {
+            return "error";
+        }
+        if (signal == SignalType.CANCEL) {
+            return "cancelled";
+        }
+        return found ? "found" : "not-found";
+    }
+
+    private static Observation start(ObservationRegistry registry, String layer, String endpoint, Integer brandId) {
+        return Observation.createNotStarted(NAME, registry)
+                .lowCardinalityKeyValue("layer", layer)
+                .lowCardinalityKeyValue("endpoint", endpoint)
+                .lowCardinalityKeyValue("brand",
+                        BRAND_TAGGED_LAYER.equals(layer) ? brandBucket(brandId) : ALL_BRANDS)
+                .start();
+    }
+
+    private static void stop(Observation observation, SignalType signal, boolean found) {
+        observation.lowCardinalityKeyValue("outcome", outcome(signal, found));
+        observation.stop();
+    }
+}
@@ -0,0 +1,156 @@
+package com.inditex.coreplatform.price_service.application.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PricePage;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link IPriceService} decorator that keeps the last resolved
+ * {@link PriceSegment} of each (brandId, productId).
+ *
+ * Any application date inside the cached segment is answered without calling
+ * the delegate, whether the segment is current, past or future. An entry
+ * expires when a lookup of its key passes the end of its segment, which is
+ * the next tariff boundary, and the least recently used entry is evicted once
+ * the cache is full.
+ *
+ * Entries of changed products and brands are dropped with
+ * {@link #invalidate(PriceKey)}. A lookup that started before an invalidation
+ * does not cache its result, as it may have read the previous prices.
+ */
+public class CachingPriceService implements IPriceService {
+
+    private final IPriceService delegate;
+    private final int maxSize;
+    private final Map<PriceKey, PriceSegment> entries;
+    private long generation;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingPriceService(IPriceService delegate, int maxSize) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PriceKey, PriceSegment> eldest) {
+                boolean full = size() > CachingPriceService.this.maxSize;
+                if (full) {
+                    evictions.increment();
+                }
+                return full;
+            }
+        };
+    }
+
+    @Override
+    public Mono<Price> getPriceByProductAndBrandIdAndApplicationDate(Integer productId, Integer brandId,
+            LocalDateTime applicationDate) {
+        return getApplicablePriceSegment(productId, brandId, applicationDate)
+                .map(PriceSegment::price);
+    }
+
+    @Override
+    public Mono<PriceSegment> getApplicablePriceSegment(Integer productId, Integer brandId,
+            LocalDateTime applicationDate) {
+        if (productId == null || brandId == null || applicationDate == null) {
+            return delegate.getApplicablePriceSegment(productId, brandId, applicationDate);
+        }
+
+        PriceKey key = new PriceKey(brandId, productId);
+        PriceSegment cached = get(key, applicationDate);
+        if (cached != null) {
+            hits.increment();
+            return Mono.just(cached);
+        }
+
+        misses.increment();
+        long missGeneration = generation();
+        return delegate.getApplicablePriceSegment(productId, brandId, applicationDate)
+                .doOnNext(segment -> put(key, segment, missGeneration));
+    }
+
+    @Override
+    public Flux<PriceLookupResult> getApplicablePrices(List<PriceLookup> lookups) {
+        return delegate.getApplicablePrices(lookups);
+    }
+
+    @Override
+    public Flux<Price> getAllPrices() {
+        return delegate.getAllPrices();
+    }
+
+    @Override
+    public Flux<Price> getAllPrices(Long afterId, Integer limit) {
+        return delegate.getAllPrices(afterId, limit);
+    }
+
+    @Override
+    public Mono<PricePage> searchPrices(PriceFilter filter, Long afterId, int limit) {
+        return delegate.searchPrices(filter, afterId, limit);
+    }
+
+    /**
+     * Drops the entry of a product and brand whose prices have changed.
+     *
+     * @param key the changed product and brand
+     */
+    public synchronized void invalidate(PriceKey key) {
+        generation++;
+        entries.remove(key);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized PriceSegment get(PriceKey key, LocalDateTime applicationDate) {
+        PriceSegment segment = entries.get(key);
+        if (segment == null || segment.contains(applicationDate)) {
+            return segment;
+        }
+        if (applicationDate.truncatedTo(ChronoUnit.SECONDS).isAfter(segment.endDate())) {
+            entries.remove(key);
+            evictions.increment();
+        }
+        return null;
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private synchronized void put(PriceKey key, PriceSegment segment, long missGeneration) {
+        if (missGeneration == generation) {
+            entries.put(key, segment);
+        }
+    }
+}
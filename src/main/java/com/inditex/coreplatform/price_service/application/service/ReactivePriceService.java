@@ -3,14 +3,23 @@ package com.inditex.coreplatform.price_service.application.service;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PricePage;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
 import com.inditex.coreplatform.price_service.application.exceptions.MissingPriceApplicationRequestParamException;
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
 
+import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -18,19 +27,93 @@ import reactor.core.publisher.Mono;
  * Reactive service for handling price-related operations.
  * This service interacts with the price repository to fetch prices based on
  * product ID, brand ID, and application date.
+ *
+ * Concurrent identical applicable-price lookups share a single repository
+ * call through {@link SingleFlight}.
  */
 
 @Service
 public class ReactivePriceService implements IPriceService {
     private final IPriceRepository priceRepository;
+    private final ObservationRegistry observationRegistry;
+    private final SingleFlight<PriceLookup, Price> priceLookups = new SingleFlight<>();
+    private final SingleFlight<PriceLookup, PriceSegment> segmentLookups = new SingleFlight<>();
 
     public ReactivePriceService(IPriceRepository priceRepository) {
+        this(priceRepository, ObservationRegistry.NOOP);
+    }
+
+    @Autowired
+    public ReactivePriceService(IPriceRepository priceRepository, ObservationRegistry observationRegistry) {
         this.priceRepository = priceRepository;
+        this.observationRegistry = observationRegistry;
     }
 
     public Mono<Price> getPriceByProductAndBrandIdAndApplicationDate(Integer productId, Integer brandId,
             LocalDateTime applicationDate) {
 
+        MissingPriceApplicationRequestParamException missingParams = validate(productId, brandId, applicationDate);
+        if (missingParams != null) {
+            return Mono.error(missingParams);
+        }
+
+        return PriceObservations.observe(
+                priceLookups.execute(new PriceLookup(productId, brandId, applicationDate), () -> priceRepository
+                        .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                                productId, brandId, applicationDate, applicationDate)
+                        .filter(price -> price.isApplicableAt(applicationDate))),
+                observationRegistry, "service", "applicable", brandId);
+    }
+
+    public Mono<PriceSegment> getApplicablePriceSegment(Integer productId, Integer brandId,
+            LocalDateTime applicationDate) {
+
+        MissingPriceApplicationRequestParamException missingParams = validate(productId, brandId, applicationDate);
+        if (missingParams != null) {
+            return Mono.error(missingParams);
+        }
+
+        return PriceObservations.observe(
+                segmentLookups.execute(new PriceLookup(productId, brandId, applicationDate),
+                        () -> priceRepository.findApplicableSegment(productId, brandId, applicationDate)),
+                observationRegistry, "service", "applicable", brandId);
+    }
+
+    public Flux<PriceLookupResult> getApplicablePrices(List<PriceLookup> lookups) {
+        MissingPriceApplicationRequestParamException missingParams = lookups.stream()
+                .map(lookup -> validate(lookup.productId(), lookup.brandId(), lookup.applicationDate()))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        if (missingParams != null) {
+            return Flux.error(missingParams);
+        }
+
+        return PriceObservations.observe(priceRepository.findApplicablePrices(lookups)
+                .map(result -> result.isFound() && !result.price().isApplicableAt(result.lookup().applicationDate())
+                        ? new PriceLookupResult(result.lookup(), null)
+                        : result), observationRegistry, "service", "applicable-batch", null);
+    }
+
+    public Flux<Price> getAllPrices() {
+        return priceRepository.findAll();
+    }
+
+    public Flux<Price> getAllPrices(Long afterId, Integer limit) {
+        return priceRepository.findAllAfter(afterId, limit);
+    }
+
+    public Mono<PricePage> searchPrices(PriceFilter filter, Long afterId, int limit) {
+        return priceRepository.findByFilter(filter, afterId, limit + 1)
+                .collectList()
+                .map(prices -> prices.size() > limit
+                        ? new PricePage(prices.subList(0, limit), prices.get(limit - 1).getId())
+                        : new PricePage(prices, null));
+    }
+
+    private MissingPriceApplicationRequestParamException validate(Integer productId, Integer brandId,
+            LocalDateTime applicationDate) {
+
         List<String> missingParams = new ArrayList<>();
 
         if (productId == null) {
@@ -43,20 +126,13 @@ public class ReactivePriceService implements IPriceService {
             missingParams.add("applicationDate");
         }
 
-        if (!missingParams.isEmpty()) {
-            String joinedParams = String.join(", ", missingParams);
-            String errorMessage = "Missing required request parameter" + (missingParams.size() > 1 ? "s" : "") + ": "
-                    + joinedParams;
-            return Mono.error(new MissingPriceApplicationRequestParamException(errorMessage));
+        if (missingParams.isEmpty()) {
+            return null;
         }
 
-        return priceRepository
-                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
-                        productId, brandId, applicationDate, applicationDate)
-                .filter(price -> price.isApplicableAt(applicationDate));
-    }
-
-    public Flux<Price> getAllPrices() {
-        return priceRepository.findAll();
+        String joinedParams = String.join(", ", missingParams);
+        String errorMessage = "Missing required request parameter" + (missingParams.size() > 1 ? "s" : "") + ": "
+                + joinedParams;
+        return new MissingPriceApplicationRequestParamException(errorMessage);
     }
 }
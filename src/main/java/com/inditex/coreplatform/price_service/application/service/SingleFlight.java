@@ -0,0 +1,49 @@
+package com.inditex.coreplatform.price_service.application.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Coalesces concurrent calls for the same key into a single in-flight
+ * {@link Mono}.
+ *
+ * The first caller for a key starts the call, and every caller that arrives
+ * before it terminates subscribes to the same shared publisher. Once the call
+ * completes, errors or is cancelled by all its subscribers, the key is
+ * released and the next caller starts a new one. Results are never cached.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the in-flight call for the key, or starts a new one with the
+     * supplier when there is none.
+     *
+     * @param key      the key identifying identical calls
+     * @param supplier supplies the call to run
+     * @return a Mono shared by every concurrent caller of the key
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> supplier) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> start(k, supplier)));
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Mono<V> start(K key, Supplier<Mono<V>> supplier) {
+        AtomicReference<Mono<V>> call = new AtomicReference<>();
+        call.set(Mono.defer(supplier)
+                .doFinally(signal -> inFlight.remove(key, call.get()))
+                .share());
+        return call.get();
+    }
+}
@@ -1,9 +1,12 @@
 package com.inditex.coreplatform.price_service.application.usecases;
 
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
 import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
 
+import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Mono;
 
 /**
@@ -12,16 +15,34 @@ import reactor.core.publisher.Mono;
 
 public class GetApplicablePriceUseCase {
     private final IPriceService priceService;
+    private final ObservationRegistry observationRegistry;
 
     public GetApplicablePriceUseCase(IPriceService priceService) {
+        this(priceService, ObservationRegistry.NOOP);
+    }
+
+    public GetApplicablePriceUseCase(IPriceService priceService, ObservationRegistry observationRegistry) {
         this.priceService = priceService;
+        this.observationRegistry = observationRegistry;
     }
 
     public Mono<Price> execute(GetApplicablePriceQuery query) {
-        return priceService.getPriceByProductAndBrandIdAndApplicationDate(
+        return PriceObservations.observe(priceService.getPriceByProductAndBrandIdAndApplicationDate(
+            query.productId(),
+            query.brandId(),
+            query.applicationDate()
+        ), observationRegistry, "usecase", "applicable", query.brandId());
+    }
+
+    /**
+     * Retrieves the effective segment that contains the application date, for
+     * callers that need to know how long the applicable price lasts.
+     */
+    public Mono<PriceSegment> executeSegment(GetApplicablePriceQuery query) {
+        return PriceObservations.observe(priceService.getApplicablePriceSegment(
             query.productId(),
             query.brandId(),
             query.applicationDate()
-        );
+        ), observationRegistry, "usecase", "applicable", query.brandId());
     }
 }
@@ -0,0 +1,35 @@
+package com.inditex.coreplatform.price_service.application.usecases;
+
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+
+/**
+ * Use case for retrieving the applicable prices of several products in a single
+ * batched lookup. Results are emitted in the same order as the lookups.
+ */
+public class GetApplicablePricesUseCase {
+    private final IPriceService priceService;
+    private final ObservationRegistry observationRegistry;
+
+    public GetApplicablePricesUseCase(IPriceService priceService) {
+        this(priceService, ObservationRegistry.NOOP);
+    }
+
+    public GetApplicablePricesUseCase(IPriceService priceService, ObservationRegistry observationRegistry) {
+        this.priceService = priceService;
+        this.observationRegistry = observationRegistry;
+    }
+
+    public Flux<PriceLookupResult> execute(GetApplicablePricesQuery query) {
+        return PriceObservations.observe(priceService.getApplicablePrices(query.lookups()
+                .stream()
+                .map(lookup -> new PriceLookup(lookup.productId(), lookup.brandId(), lookup.applicationDate()))
+                .toList()), observationRegistry, "usecase", "applicable-batch", null);
+    }
+}
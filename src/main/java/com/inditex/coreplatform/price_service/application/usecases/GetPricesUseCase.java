@@ -1,5 +1,6 @@
 package com.inditex.coreplatform.price_service.application.usecases;
 
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetPricesQuery;
 import com.inditex.coreplatform.price_service.domain.models.Price;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
 
@@ -20,4 +21,8 @@ public class GetPricesUseCase {
         return priceService.getAllPrices();
     }
 
+    public Flux<Price> execute(GetPricesQuery query) {
+        return priceService.getAllPrices(query.afterId(), query.limit());
+    }
+
 }
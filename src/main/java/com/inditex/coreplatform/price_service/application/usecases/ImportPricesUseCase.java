@@ -0,0 +1,181 @@
+package com.inditex.coreplatform.price_service.application.usecases;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportLine;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportReject;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportReport;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceWriteRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for loading a stream of prices into the catalog.
+ *
+ * Lines are validated as they arrive and the valid ones are written in batches
+ * of {@code batchSize}, with at most {@code concurrency} batches in flight, so
+ * memory stays bounded whatever the size of the input. Rejected lines are
+ * counted and the first {@code maxReportedRejects} are kept for the report.
+ *
+ * Each batch is written in full or not at all. A batch that cannot be written
+ * does not stop the import: its lines are reported as rejected and the
+ * following batches are still written, so the accepted count is always the
+ * number of rows committed.
+ *
+ * Once a batch is written, the products and brands it touched are published
+ * on the {@link IPriceChangeBus} so that caches and indexes rebuild them.
+ */
+public class ImportPricesUseCase {
+    public static final Money MAX_VALUE = Money.parse("99999999.99", null);
+
+    private static final Logger log = LoggerFactory.getLogger(ImportPricesUseCase.class);
+    private static final Pattern CURRENCY = Pattern.compile("[A-Z]{3}");
+
+    private final IPriceWriteRepository priceWriteRepository;
+    private final IPriceChangeBus priceChangeBus;
+    private final int batchSize;
+    private final int concurrency;
+    private final int maxReportedRejects;
+
+    public ImportPricesUseCase(IPriceWriteRepository priceWriteRepository, IPriceChangeBus priceChangeBus,
+            int batchSize, int concurrency, int maxReportedRejects) {
+        this.priceWriteRepository = priceWriteRepository;
+        this.priceChangeBus = priceChangeBus;
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    public Mono<PriceImportReport> execute(Flux<PriceImportLine> lines) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            Rejects rejects = new Rejects(maxReportedRejects);
+            return lines
+                    .filter(line -> accept(line, rejects))
+                    .buffer(batchSize)
+                    .flatMap(batch -> insert(batch, rejects), concurrency)
+                    .reduce(0L, Long::sum)
+                    .map(accepted -> report(accepted, rejects, System.nanoTime() - start))
+                    .doOnNext(report -> log.info("Imported {} prices ({} rejected) in {} ms, {} rows/s",
+                            report.accepted(), report.rejected(), report.elapsedMillis(),
+                            Math.round(report.rowsPerSecond())));
+        });
+    }
+
+    /**
+     * Checks a price against the constraints of the catalog.
+     *
+     * @param price the price
+     * @return the first violated constraint, or {@code null} if the price is
+     *         valid
+     */
+    static String validate(Price price) {
+        if (price.getBrandId() == null || price.getBrandId() <= 0) {
+            return "'brandId' must be a positive integer";
+        }
+        if (price.getProductId() == null || price.getProductId() <= 0) {
+            return "'productId' must be a positive integer";
+        }
+        if (price.getRateId() == null || price.getRateId() <= 0) {
+            return "'rateId' must be a positive integer";
+        }
+        if (price.getPriority() == null || price.getPriority() < 0) {
+            return "'priority' must be zero or a positive integer";
+        }
+        if (price.getStartDate() == null || price.getEndDate() == null) {
+            return "'startDate' and 'endDate' are required";
+        }
+        if (price.getEndDate().isBefore(price.getStartDate())) {
+            return "'endDate' must not be before 'startDate'";
+        }
+        Money value = price.getValue();
+        if (value == null || value.minorUnits() < 0 || value.minorUnits() > MAX_VALUE.minorUnits()) {
+            return "'price' must be between 0 and " + MAX_VALUE;
+        }
+        if (value.currency() == null || !CURRENCY.matcher(value.currency()).matches()) {
+            return "'currency' must be an ISO 4217 code";
+        }
+        return null;
+    }
+
+    private Mono<Long> insert(List<PriceImportLine> batch, Rejects rejects) {
+        List<Price> prices = batch.stream().map(PriceImportLine::price).toList();
+        return priceWriteRepository.insertAll(prices)
+                .onErrorResume(e -> {
+                    long first = batch.get(0).lineNumber();
+                    long last = batch.get(batch.size() - 1).lineNumber();
+                    log.warn("Import batch of lines {} to {} could not be written", first, last, e);
+                    String reason = "Batch of lines " + first + " to " + last + " could not be written: "
+                            + e.getMessage();
+                    for (PriceImportLine line : batch) {
+                        rejects.add(new PriceImportReject(line.lineNumber(), reason));
+                    }
+                    return Mono.empty();
+                })
+                .doOnNext(inserted -> priceChangeBus.publish(keys(prices)));
+    }
+
+    private static Set<PriceKey> keys(List<Price> prices) {
+        Set<PriceKey> keys = new LinkedHashSet<>();
+        for (Price price : prices) {
+            keys.add(PriceKey.of(price));
+        }
+        return keys;
+    }
+
+    private static boolean accept(PriceImportLine line, Rejects rejects) {
+        String reason = line.isParsed() ? validate(line.price()) : line.error();
+        if (reason != null) {
+            rejects.add(new PriceImportReject(line.lineNumber(), reason));
+            return false;
+        }
+        return true;
+    }
+
+    private static PriceImportReport report(long accepted, Rejects rejects, long elapsedNanos) {
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        synchronized (rejects) {
+            return new PriceImportReport(
+                    accepted,
+                    rejects.count,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    seconds > 0 ? accepted / seconds : 0,
+                    List.copyOf(rejects.reported));
+        }
+    }
+
+    /**
+     * Rejected lines of one import, in the order they were rejected. Lines
+     * are filtered one at a time, but the lines of failed batches are added
+     * from the batches in flight, hence the synchronization.
+     */
+    private static final class Rejects {
+        private final int max;
+        private final List<PriceImportReject> reported = new ArrayList<>();
+        private long count;
+
+        private Rejects(int max) {
+            this.max = max;
+        }
+
+        private synchronized void add(PriceImportReject reject) {
+            count++;
+            if (reported.size() < max) {
+                reported.add(reject);
+            }
+        }
+    }
+}
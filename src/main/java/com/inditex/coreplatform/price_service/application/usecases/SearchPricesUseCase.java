@@ -0,0 +1,30 @@
+package com.inditex.coreplatform.price_service.application.usecases;
+
+import com.inditex.coreplatform.price_service.application.usecases.queries.SearchPricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PricePage;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Use case for listing prices filtered by brand, products and validity window,
+ * one keyset page at a time. The page size is bounded by
+ * {@link #MAX_PAGE_SIZE}.
+ */
+public class SearchPricesUseCase {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    private final IPriceService priceService;
+
+    public SearchPricesUseCase(IPriceService priceService) {
+        this.priceService = priceService;
+    }
+
+    public Mono<PricePage> execute(SearchPricesQuery query) {
+        int limit = query.limit() == null ? DEFAULT_PAGE_SIZE : Math.min(query.limit(), MAX_PAGE_SIZE);
+        PriceFilter filter = new PriceFilter(query.brandId(), query.productIds(), query.validFrom(), query.validTo());
+        return priceService.searchPrices(filter, query.afterId(), limit);
+    }
+}
@@ -0,0 +1,7 @@
+package com.inditex.coreplatform.price_service.application.usecases.queries;
+
+import java.util.List;
+
+public record GetApplicablePricesQuery(
+    List<GetApplicablePriceQuery> lookups
+) {}
@@ -0,0 +1,10 @@
+package com.inditex.coreplatform.price_service.application.usecases.queries;
+
+/**
+ * Keyset page of the price listing: the prices with an ID greater than
+ * {@code afterId}, up to {@code limit}. Both are optional.
+ */
+public record GetPricesQuery(
+    Long afterId,
+    Integer limit
+) {}
@@ -0,0 +1,13 @@
+package com.inditex.coreplatform.price_service.application.usecases.queries;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public record SearchPricesQuery(
+    Integer brandId,
+    Set<Integer> productIds,
+    LocalDateTime validFrom,
+    LocalDateTime validTo,
+    Long afterId,
+    Integer limit
+) {}
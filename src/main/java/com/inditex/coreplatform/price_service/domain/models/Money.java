@@ -0,0 +1,178 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * An amount of money, held as a whole number of minor units so that it is
+ * exact and free of decimal to binary conversions.
+ *
+ * Minor units are hundredths whatever the currency, the scale of the
+ * {@code price} column. The currency is an ISO 4217 code, or {@code null}
+ * when only the amount is known, as in a {@code PriceResponse}.
+ *
+ * @param minorUnits the amount in hundredths
+ * @param currency   the currency code, or {@code null}
+ */
+public record Money(long minorUnits, String currency) {
+
+    public static final int SCALE = 2;
+
+    /**
+     * Maximum length of {@link #toChars(char[], int)}: a sign, 17 integer
+     * digits, the point and 2 decimals.
+     */
+    public static final int MAX_DECIMAL_LENGTH = 21;
+
+    private static final int UNIT = 100;
+
+    /**
+     * Converts a decimal amount, such as a {@code DECIMAL(10,2)} column.
+     *
+     * @param amount   the amount
+     * @param currency the currency code, or {@code null}
+     * @return the money
+     * @throws ArithmeticException if the amount has more than {@link #SCALE}
+     *                             decimals or does not fit in a {@code long}
+     */
+    public static Money of(BigDecimal amount, String currency) {
+        return new Money(amount.movePointRight(SCALE).longValueExact(), currency);
+    }
+
+    /**
+     * Parses a plain decimal amount, such as {@code 35.5} or {@code -0.05},
+     * with at most {@link #SCALE} decimals and an optional sign.
+     *
+     * @param amount   the amount
+     * @param currency the currency code, or {@code null}
+     * @return the money
+     * @throws NumberFormatException if the amount is not a plain decimal with
+     *                               at most {@link #SCALE} decimals, or does
+     *                               not fit in a {@code long} of minor units
+     */
+    public static Money parse(CharSequence amount, String currency) {
+        try {
+            return new Money(parseMinorUnits(amount), currency);
+        } catch (ArithmeticException e) {
+            throw invalid(amount);
+        }
+    }
+
+    public Money withCurrency(String currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Adds an amount in the same currency.
+     *
+     * @throws IllegalArgumentException if the currencies differ
+     * @throws ArithmeticException      if the sum overflows
+     */
+    public Money plus(Money other) {
+        if (!Objects.equals(currency, other.currency)) {
+            throw new IllegalArgumentException("Cannot add " + other + " to " + this);
+        }
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    /**
+     * Writes the amount as a plain decimal with one or two decimals:
+     * {@code 35.5}, {@code 25.45}, {@code 10.0}. Below ten million this is
+     * what {@link Double#toString(double)} writes for the same amount.
+     *
+     * @param buffer the buffer, with room for {@link #MAX_DECIMAL_LENGTH}
+     *               chars from {@code offset}
+     * @param offset the first position to write
+     * @return the number of chars written
+     */
+    public int toChars(char[] buffer, int offset) {
+        int position = offset;
+        if (minorUnits < 0) {
+            buffer[position++] = '-';
+        }
+        // Divide before taking the absolute value so Long.MIN_VALUE does not overflow
+        long integer = Math.abs(minorUnits / UNIT);
+        int cents = (int) Math.abs(minorUnits % UNIT);
+
+        int digits = 1;
+        for (long rest = integer / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + integer % 10);
+            integer /= 10;
+        }
+        position += digits;
+
+        buffer[position++] = '.';
+        buffer[position++] = (char) ('0' + cents / 10);
+        if (cents % 10 != 0) {
+            buffer[position++] = (char) ('0' + cents % 10);
+        }
+        return position - offset;
+    }
+
+    /**
+     * The amount as written by {@link #toChars(char[], int)}.
+     */
+    public String toDecimalString() {
+        char[] buffer = new char[MAX_DECIMAL_LENGTH];
+        return new String(buffer, 0, toChars(buffer, 0));
+    }
+
+    @Override
+    public String toString() {
+        return currency == null ? toDecimalString() : toDecimalString() + " " + currency;
+    }
+
+    private static long parseMinorUnits(CharSequence amount) {
+        int length = amount.length();
+        int index = 0;
+        boolean negative = false;
+        if (length > 0 && (amount.charAt(0) == '-' || amount.charAt(0) == '+')) {
+            negative = amount.charAt(0) == '-';
+            index++;
+        }
+
+        long units = 0;
+        int integerDigits = 0;
+        for (; index < length && amount.charAt(index) != '.'; index++, integerDigits++) {
+            units = Math.addExact(Math.multiplyExact(units, 10), digit(amount, index));
+        }
+        int decimals = 0;
+        if (index < length) {
+            for (index++; index < length; index++, decimals++) {
+                if (decimals == SCALE) {
+                    throw invalid(amount);
+                }
+                units = Math.addExact(Math.multiplyExact(units, 10), digit(amount, index));
+            }
+            if (decimals == 0) {
+                throw invalid(amount);
+            }
+        }
+        if (integerDigits == 0) {
+            throw invalid(amount);
+        }
+        for (; decimals < SCALE; decimals++) {
+            units = Math.multiplyExact(units, 10);
+        }
+        return negative ? -units : units;
+    }
+
+    private static int digit(CharSequence amount, int index) {
+        int digit = amount.charAt(index) - '0';
+        if (digit < 0 || digit > 9) {
+            throw invalid(amount);
+        }
+        return digit;
+    }
+
+    private static NumberFormatException invalid(CharSequence amount) {
+        return new NumberFormatException("Invalid amount: " + amount);
+    }
+}
@@ -24,14 +24,14 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 public class Price {
 
+    private Long id;
     private Integer brandId;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
     private Integer rateId;
     private Integer productId;
     private Integer priority;
-    private Double value;
-    private String currency;
+    private Money value;
 
     public boolean isApplicableAt(LocalDateTime applicationDate) {
         return !applicationDate.isBefore(startDate) && !applicationDate.isAfter(endDate);
@@ -0,0 +1,21 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Criteria for listing prices. Every criterion is optional: {@code brandId}
+ * restricts to a brand, {@code productIds} to a set of products, and
+ * {@code validFrom}/{@code validTo} to the prices whose validity overlaps that
+ * window.
+ */
+public record PriceFilter(
+    Integer brandId,
+    Set<Integer> productIds,
+    LocalDateTime validFrom,
+    LocalDateTime validTo
+) {
+    public PriceFilter {
+        productIds = productIds == null ? Set.of() : Set.copyOf(productIds);
+    }
+}
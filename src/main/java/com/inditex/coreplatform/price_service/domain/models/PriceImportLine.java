@@ -0,0 +1,23 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+/**
+ * One line of a bulk price import, numbered from 1. It holds either the
+ * parsed price or the reason why the line could not be parsed.
+ */
+public record PriceImportLine(
+    long lineNumber,
+    Price price,
+    String error
+) {
+    public static PriceImportLine parsed(long lineNumber, Price price) {
+        return new PriceImportLine(lineNumber, price, null);
+    }
+
+    public static PriceImportLine malformed(long lineNumber, String error) {
+        return new PriceImportLine(lineNumber, null, error);
+    }
+
+    public boolean isParsed() {
+        return error == null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+/**
+ * Line of a bulk price import that was not written, with the reason.
+ */
+public record PriceImportReject(
+    long lineNumber,
+    String reason
+) {}
@@ -0,0 +1,19 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk price import. {@code rejects} holds the first rejected
+ * lines only; {@code rejected} counts all of them.
+ */
+public record PriceImportReport(
+    long accepted,
+    long rejected,
+    long elapsedMillis,
+    double rowsPerSecond,
+    List<PriceImportReject> rejects
+) {
+    public boolean isRejectsTruncated() {
+        return rejected > rejects.size();
+    }
+}
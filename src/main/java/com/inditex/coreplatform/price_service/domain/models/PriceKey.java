@@ -0,0 +1,13 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+/**
+ * Identifies the set of prices of a product within a brand.
+ */
+public record PriceKey(
+    Integer brandId,
+    Integer productId
+) {
+    public static PriceKey of(Price price) {
+        return new PriceKey(price.getBrandId(), price.getProductId());
+    }
+}
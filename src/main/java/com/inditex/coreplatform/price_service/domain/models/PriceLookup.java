@@ -0,0 +1,16 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import java.time.LocalDateTime;
+
+/**
+ * Request for the price of a product and brand at a given date.
+ */
+public record PriceLookup(
+    Integer productId,
+    Integer brandId,
+    LocalDateTime applicationDate
+) {
+    public PriceKey key() {
+        return new PriceKey(brandId, productId);
+    }
+}
@@ -0,0 +1,14 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+/**
+ * Outcome of a {@link PriceLookup}. The price is {@code null} when no price
+ * applies.
+ */
+public record PriceLookupResult(
+    PriceLookup lookup,
+    Price price
+) {
+    public boolean isFound() {
+        return price != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import java.util.List;
+
+/**
+ * Page of a keyset-paginated listing. {@code nextCursor} is the ID to pass as
+ * {@code afterId} to read the next page, or {@code null} on the last page.
+ */
+public record PricePage(
+    List<Price> items,
+    Long nextCursor
+) {}
@@ -0,0 +1,19 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Stretch of time, with inclusive bounds, during which a single price wins for
+ * a product and brand.
+ */
+public record PriceSegment(
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    Price price
+) {
+    public boolean contains(LocalDateTime instant) {
+        LocalDateTime truncated = instant.truncatedTo(ChronoUnit.SECONDS);
+        return !truncated.isBefore(startDate) && !truncated.isAfter(endDate);
+    }
+}
@@ -0,0 +1,131 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Effective price timeline of a product within a brand.
+ *
+ * Overlapping prices are flattened into non-overlapping segments, each one
+ * carrying the price that wins for that stretch of time: the highest priority,
+ * then the most recent start date, then the highest rate. Dates are resolved
+ * with second granularity, which is the resolution of the {@code prices}
+ * table.
+ */
+public final class PriceTimeline {
+
+    private static final Comparator<Price> WINNER_ORDER = Comparator
+            .comparing(Price::getPriority)
+            .thenComparing(Price::getStartDate)
+            .thenComparing(Price::getRateId)
+            .reversed();
+
+    private final List<PriceSegment> segments;
+
+    private PriceTimeline(List<PriceSegment> segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Compiles the timeline of a single product and brand.
+     *
+     * @param prices the prices of the product and brand
+     * @return the timeline
+     */
+    public static PriceTimeline compile(Collection<Price> prices) {
+        List<LocalDateTime> boundaries = prices.stream()
+                .flatMap(p -> Stream.of(start(p), exclusiveEnd(p)))
+                .distinct()
+                .sorted()
+                .toList();
+
+        List<Price> byStart = prices.stream()
+                .sorted(Comparator.comparing(PriceTimeline::start))
+                .toList();
+
+        List<PriceSegment> segments = new ArrayList<>();
+        PriorityQueue<Price> active = new PriorityQueue<>(WINNER_ORDER);
+        int next = 0;
+        for (int i = 0; i < boundaries.size() - 1; i++) {
+            LocalDateTime boundary = boundaries.get(i);
+            while (next < byStart.size() && !start(byStart.get(next)).isAfter(boundary)) {
+                active.add(byStart.get(next++));
+            }
+            while (!active.isEmpty() && !exclusiveEnd(active.peek()).isAfter(boundary)) {
+                active.poll();
+            }
+            if (active.isEmpty()) {
+                continue;
+            }
+
+            Price winner = active.peek();
+            LocalDateTime end = boundaries.get(i + 1).minusSeconds(1);
+            int last = segments.size() - 1;
+            if (last >= 0 && segments.get(last).price() == winner
+                    && segments.get(last).endDate().plusSeconds(1).equals(boundary)) {
+                segments.set(last, new PriceSegment(segments.get(last).startDate(), end, winner));
+            } else {
+                segments.add(new PriceSegment(boundary, end, winner));
+            }
+        }
+        return new PriceTimeline(List.copyOf(segments));
+    }
+
+    /**
+     * Groups the given prices by product and brand and compiles the timeline of
+     * each group.
+     *
+     * @param prices the prices of any number of products and brands
+     * @return the timelines by key
+     */
+    public static Map<PriceKey, PriceTimeline> compileAll(Collection<Price> prices) {
+        return prices.stream()
+                .collect(Collectors.groupingBy(PriceKey::of, Collectors.collectingAndThen(
+                        Collectors.toList(), PriceTimeline::compile)));
+    }
+
+    /**
+     * Finds the segment that contains the given instant.
+     *
+     * @param instant the instant
+     * @return the segment, or empty if no price applies
+     */
+    public Optional<PriceSegment> segmentAt(LocalDateTime instant) {
+        LocalDateTime truncated = instant.truncatedTo(ChronoUnit.SECONDS);
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            PriceSegment segment = segments.get(mid);
+            if (truncated.isBefore(segment.startDate())) {
+                high = mid - 1;
+            } else if (truncated.isAfter(segment.endDate())) {
+                low = mid + 1;
+            } else {
+                return Optional.of(segment);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<PriceSegment> getSegments() {
+        return segments;
+    }
+
+    private static LocalDateTime start(Price price) {
+        return price.getStartDate().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static LocalDateTime exclusiveEnd(Price price) {
+        return price.getEndDate().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1);
+    }
+}
@@ -0,0 +1,26 @@
+package com.inditex.coreplatform.price_service.domain.ports;
+
+import java.util.Collection;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+
+import reactor.core.publisher.Flux;
+
+public interface IPriceChangeBus {
+    /**
+     * Announces that the prices of the given products and brands have changed
+     * in the catalog, so that anything derived from them must be rebuilt.
+     *
+     * @param keys the changed products and brands
+     */
+    void publish(Collection<PriceKey> keys);
+
+    /**
+     * Streams the changed products and brands, published on this node or
+     * received from other nodes, from the moment of subscription. A key may
+     * be emitted more than once for a single change.
+     *
+     * @return the changed keys
+     */
+    Flux<PriceKey> changes();
+}
@@ -1,8 +1,14 @@
 package com.inditex.coreplatform.price_service.domain.ports;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -22,5 +28,75 @@ public interface IPriceRepository {
             LocalDateTime startDate,
             LocalDateTime endDate);
 
+    /**
+     * Finds the effective price segment of a product and brand that contains
+     * the application date. Overlapping prices are already resolved by
+     * priority in the returned segment.
+     *
+     * @param productId       the product ID
+     * @param brandId         the brand ID
+     * @param applicationDate the application date
+     * @return the segment, or empty if no price applies
+     */
+    Mono<PriceSegment> findApplicableSegment(
+            Integer productId,
+            Integer brandId,
+            LocalDateTime applicationDate);
+
+    /**
+     * Resolves the applicable price of several lookups at once. Results are
+     * emitted in the same order as the lookups, with a {@code null} price for
+     * the lookups that have no applicable price.
+     *
+     * @param lookups the lookups
+     * @return one result per lookup
+     */
+    Flux<PriceLookupResult> findApplicablePrices(List<PriceLookup> lookups);
+
     Flux<Price> findAll();
+
+    /**
+     * Streams the prices ordered by ID, starting after the given cursor.
+     *
+     * @param afterId the last ID already read, or {@code null} to start from
+     *                the beginning
+     * @param limit   the maximum number of prices, or {@code null} for no limit
+     * @return the prices
+     */
+    Flux<Price> findAllAfter(Long afterId, Integer limit);
+
+    /**
+     * Finds the prices matching the filter, ordered by ID, starting after the
+     * given cursor.
+     *
+     * @param filter  the filter
+     * @param afterId the last ID already read, or {@code null} to start from
+     *                the beginning
+     * @param limit   the maximum number of prices
+     * @return the prices
+     */
+    Flux<Price> findByFilter(PriceFilter filter, Long afterId, int limit);
+
+    /**
+     * Completes once the repository answers from its own copy of the catalog,
+     * for repositories that load one at startup, whether the load succeeded or
+     * not. Repositories that read the catalog directly complete at once.
+     *
+     * @return completes when the repository is loaded
+     */
+    default Mono<Void> whenLoaded() {
+        return Mono.empty();
+    }
+
+    /**
+     * Emits the products and brands whose changes this repository has applied,
+     * for repositories that answer from a copy of the catalog and apply the
+     * changes announced on the {@link IPriceChangeBus} some time after they are
+     * written. Repositories that read the catalog directly emit nothing.
+     *
+     * @return the refreshed keys
+     */
+    default Flux<PriceKey> refreshedKeys() {
+        return Flux.empty();
+    }
 }
@@ -1,8 +1,14 @@
 package com.inditex.coreplatform.price_service.domain.ports;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PricePage;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -21,6 +27,50 @@ public interface IPriceService {
             Integer brandId,
             LocalDateTime applicationDate);
 
+    /**
+     * Retrieves the effective price segment of a product and brand that
+     * contains the application date.
+     *
+     * @param productId       the product ID
+     * @param brandId         the brand ID
+     * @param applicationDate the application date
+     * @return a Mono containing the segment
+     */
+    Mono<PriceSegment> getApplicablePriceSegment(
+            Integer productId,
+            Integer brandId,
+            LocalDateTime applicationDate);
+
+    /**
+     * Retrieves the applicable price of several lookups in a single batched
+     * lookup.
+     *
+     * @param lookups the lookups
+     * @return a Flux with one result per lookup, in the same order
+     */
+    Flux<PriceLookupResult> getApplicablePrices(List<PriceLookup> lookups);
+
     Flux<Price> getAllPrices();
 
+    /**
+     * Retrieves the prices ordered by ID using keyset pagination.
+     *
+     * @param afterId the last ID already read, or {@code null} to start from
+     *                the beginning
+     * @param limit   the maximum number of prices, or {@code null} for no limit
+     * @return a Flux containing the prices
+     */
+    Flux<Price> getAllPrices(Long afterId, Integer limit);
+
+    /**
+     * Retrieves a keyset page of the prices matching the filter.
+     *
+     * @param filter  the filter
+     * @param afterId the last ID already read, or {@code null} to start from
+     *                the beginning
+     * @param limit   the page size
+     * @return a Mono containing the page
+     */
+    Mono<PricePage> searchPrices(PriceFilter filter, Long afterId, int limit);
+
 }
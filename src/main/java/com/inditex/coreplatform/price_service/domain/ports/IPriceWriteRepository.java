@@ -0,0 +1,19 @@
+package com.inditex.coreplatform.price_service.domain.ports;
+
+import java.util.List;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+
+import reactor.core.publisher.Mono;
+
+public interface IPriceWriteRepository {
+    /**
+     * Inserts the prices as a single batched statement, all or none of them.
+     * IDs are generated by the store, so the ID of the given prices is
+     * ignored.
+     *
+     * @param prices the prices to insert
+     * @return the number of inserted rows, or an error if none was inserted
+     */
+    Mono<Long> insertAll(List<Price> prices);
+}
@@ -0,0 +1,43 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceRepositoryAdapter;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceHttpCache;
+import com.inditex.coreplatform.price_service.infrastructure.rest.handlers.ApplicablePriceFastPathHandler;
+
+/**
+ * Routes applicable-price lookups to the {@link ApplicablePriceFastPathHandler}.
+ * Router functions are mapped before annotated controllers, so the requests
+ * the handler does not accept still reach the controller.
+ */
+@Configuration
+@ConditionalOnProperty(name = "price.fast-path.enabled", havingValue = "true")
+public class ApplicablePriceFastPathConfig {
+
+    @Bean
+    public RouterFunction<ServerResponse> applicablePriceFastPath(
+            ObjectProvider<ColumnarPriceRepositoryAdapter> columnarPriceRepositoryAdapter,
+            PriceHttpCache priceHttpCache) {
+        ColumnarPriceRepositoryAdapter repository = columnarPriceRepositoryAdapter.getIfAvailable();
+        if (repository == null) {
+            throw new IllegalStateException("price.fast-path.enabled requires price.repository.engine=columnar");
+        }
+        ApplicablePriceFastPathHandler handler = new ApplicablePriceFastPathHandler(repository, priceHttpCache);
+        return RouterFunctions.route(
+                GET(ApplicablePriceFastPathHandler.PATH)
+                        .and(accept(MediaType.APPLICATION_JSON))
+                        .and(handler::accepts),
+                handler);
+    }
+}
@@ -0,0 +1,35 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.codecs.BinaryPriceFormats;
+import com.inditex.coreplatform.price_service.infrastructure.rest.codecs.CollectingCborEncoder;
+
+/**
+ * Registers the CBOR and Smile codecs of {@link BinaryPriceFormats} with the
+ * WebFlux server. Smile replaces the default Smile codecs, which write dates
+ * as arrays; CBOR has no default Jackson codecs and is added as custom ones.
+ */
+@Configuration
+public class BinaryCodecConfig implements WebFluxConfigurer {
+
+    @Override
+    public void configureHttpMessageCodecs(ServerCodecConfigurer configurer) {
+        if (BinaryPriceFormats.CBOR_PRESENT) {
+            ObjectMapper cbor = BinaryPriceFormats.cborObjectMapper();
+            configurer.customCodecs().registerWithDefaultConfig(new CollectingCborEncoder(cbor));
+            configurer.customCodecs().registerWithDefaultConfig(new Jackson2CborDecoder(cbor));
+        }
+        if (BinaryPriceFormats.SMILE_PRESENT) {
+            ObjectMapper smile = BinaryPriceFormats.smileObjectMapper();
+            configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(smile));
+            configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(smile));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.sql.init.AbstractScriptDatabaseInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+
+@Configuration
+public class LazyInitializationConfig {
+
+    /**
+     * Beans created at startup even with
+     * {@code spring.main.lazy-initialization}: the initializer that runs
+     * {@code schema.sql} and {@code data.sql}, which nothing else depends on,
+     * the repositories, so that a snapshot that cannot be opened still fails
+     * the startup instead of the first request, and the price change bus, so
+     * that no change published before the first lookup is lost.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerPriceBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(AbstractScriptDatabaseInitializer.class,
+                IPriceRepository.class, IPriceChangeBus.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.inditex.coreplatform.price_service.application.service.CachingPriceService;
+import com.inditex.coreplatform.price_service.application.service.ReactivePriceService;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import reactor.core.publisher.Flux;
+
+@Configuration
+@ConditionalOnProperty(name = "price.cache.enabled", havingValue = "true")
+public class PriceCacheConfig {
+
+    @Bean
+    @Primary
+    public CachingPriceService cachingPriceService(ReactivePriceService reactivePriceService,
+            IPriceChangeBus priceChangeBus, IPriceRepository priceRepository,
+            @Value("${price.cache.max-size:10000}") int maxSize) {
+        CachingPriceService cachingPriceService = new CachingPriceService(reactivePriceService, maxSize);
+        // A change is invalidated again once the lookup engine has applied it, so that a
+        // lookup made in between does not keep the previous price. Completes with the bus.
+        Flux.merge(priceChangeBus.changes(), priceRepository.refreshedKeys())
+                .takeUntilOther(priceChangeBus.changes().ignoreElements())
+                .subscribe(cachingPriceService::invalidate);
+        return cachingPriceService;
+    }
+
+    @Bean
+    public MeterBinder priceCacheMetrics(CachingPriceService cachingPriceService) {
+        return registry -> {
+            FunctionCounter.builder("price.cache.gets", cachingPriceService, CachingPriceService::getHitCount)
+                    .tag("result", "hit")
+                    .description("Applicable-price lookups answered from the cache")
+                    .register(registry);
+            FunctionCounter.builder("price.cache.gets", cachingPriceService, CachingPriceService::getMissCount)
+                    .tag("result", "miss")
+                    .description("Applicable-price lookups that reached the price service")
+                    .register(registry);
+            FunctionCounter.builder("price.cache.evictions", cachingPriceService,
+                    CachingPriceService::getEvictionCount)
+                    .description("Cache entries evicted by size or passed by a later lookup")
+                    .register(registry);
+            Gauge.builder("price.cache.size", cachingPriceService, CachingPriceService::size)
+                    .description("Number of cached price segments")
+                    .register(registry);
+        };
+    }
+}
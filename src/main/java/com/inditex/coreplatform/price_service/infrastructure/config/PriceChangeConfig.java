@@ -0,0 +1,51 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.inditex.coreplatform.price_service.infrastructure.events.LocalPriceChangeBroker;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeBus;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeTransport;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class PriceChangeConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "price.changes.transport", havingValue = "local")
+    public PriceChangeTransport localPriceChangeTransport(@Value("${price.changes.channel:prices}") String channel) {
+        return LocalPriceChangeBroker.shared().transport(channel);
+    }
+
+    /**
+     * The bus of this node. Changes are exchanged with other nodes through the
+     * {@link PriceChangeTransport} bean, if there is one.
+     */
+    @Bean(destroyMethod = "close")
+    public PriceChangeBus priceChangeBus(ObjectProvider<PriceChangeTransport> transport,
+            @Value("${price.changes.node-id:}") String nodeId) {
+        return new PriceChangeBus(nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId,
+                transport.getIfAvailable(() -> PriceChangeTransport.NONE));
+    }
+
+    @Bean
+    public MeterBinder priceChangeMetrics(PriceChangeBus priceChangeBus) {
+        return registry -> {
+            FunctionCounter.builder("price.changes", priceChangeBus, PriceChangeBus::getPublishedCount)
+                    .tag("source", "local")
+                    .description("Changed price keys, published on this node or received from other nodes")
+                    .register(registry);
+            FunctionCounter.builder("price.changes", priceChangeBus, PriceChangeBus::getReceivedCount)
+                    .tag("source", "remote")
+                    .description("Changed price keys, published on this node or received from other nodes")
+                    .register(registry);
+        };
+    }
+}
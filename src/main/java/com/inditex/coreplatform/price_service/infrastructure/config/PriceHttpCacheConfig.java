@@ -0,0 +1,39 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceCatalogVersion;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.repositories.IReactivePriceRepository;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceHttpCache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+public class PriceHttpCacheConfig {
+
+    @Bean
+    public PriceHttpCache priceHttpCache(@Value("${price.http-cache.max-age:1h}") Duration maxAge) {
+        return new PriceHttpCache(Clock.systemDefaultZone(), maxAge);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PriceCatalogVersion priceCatalogVersion(IReactivePriceRepository priceRepository,
+            IPriceChangeBus priceChangeBus,
+            @Value("${price.catalog-version.poll-interval:5s}") Duration pollInterval) {
+        return new PriceCatalogVersion(priceRepository, priceChangeBus, pollInterval);
+    }
+
+    @Bean
+    public MeterBinder priceCatalogVersionMetrics(PriceCatalogVersion priceCatalogVersion) {
+        return registry -> Gauge.builder("price.catalog.rows", priceCatalogVersion, PriceCatalogVersion::getRowCount)
+                .description("Prices in the catalog at the version in the listing ETag")
+                .register(registry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.GET;
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceCatalogVersion;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceListingSnapshotCache;
+import com.inditex.coreplatform.price_service.infrastructure.rest.handlers.PriceListingSnapshotHandler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Routes the JSON {@code GET /api/prices} to the
+ * {@link PriceListingSnapshotHandler}. Router functions are mapped before
+ * annotated controllers, so the requests the handler does not accept, and the
+ * NDJSON and server-sent events listings, still reach the controller.
+ */
+@Configuration
+@ConditionalOnProperty(name = "price.listing-snapshot.enabled", havingValue = "true")
+public class PriceListingSnapshotConfig {
+
+    @Bean(destroyMethod = "close")
+    public PriceListingSnapshotCache priceListingSnapshotCache(GetPricesUseCase getPricesUseCase,
+            PriceMapper priceMapper, ObjectMapper objectMapper, PriceCatalogVersion priceCatalogVersion,
+            @Value("${price.listing-snapshot.rebuild-delay:5s}") Duration rebuildDelay,
+            @Value("${price.listing-snapshot.rebuild-cost-factor:10}") int rebuildCostFactor) {
+        return new PriceListingSnapshotCache(getPricesUseCase, priceMapper, objectMapper, priceCatalogVersion,
+                rebuildDelay, rebuildCostFactor);
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> priceListingSnapshot(PriceListingSnapshotCache priceListingSnapshotCache) {
+        PriceListingSnapshotHandler handler = new PriceListingSnapshotHandler(priceListingSnapshotCache);
+        return RouterFunctions.route(
+                GET(PriceListingSnapshotHandler.PATH)
+                        .and(accept(MediaType.APPLICATION_JSON))
+                        .and(handler::accepts),
+                handler);
+    }
+
+    @Bean
+    public MeterBinder priceListingSnapshotMetrics(PriceListingSnapshotCache priceListingSnapshotCache) {
+        return registry -> {
+            FunctionCounter.builder("price.listing.snapshot.rebuilds", priceListingSnapshotCache,
+                    PriceListingSnapshotCache::getRebuildCount)
+                    .description("Snapshots of the price listing built")
+                    .register(registry);
+            Gauge.builder("price.listing.snapshot.size", priceListingSnapshotCache, cache -> cache.getSize(false))
+                    .tag("encoding", "identity")
+                    .baseUnit("bytes")
+                    .description("Size of the last snapshot of the price listing")
+                    .register(registry);
+            Gauge.builder("price.listing.snapshot.size", priceListingSnapshotCache, cache -> cache.getSize(true))
+                    .tag("encoding", "gzip")
+                    .baseUnit("bytes")
+                    .description("Size of the last snapshot of the price listing")
+                    .register(registry);
+        };
+    }
+}
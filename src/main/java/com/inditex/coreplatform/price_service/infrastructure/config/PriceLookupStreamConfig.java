@@ -0,0 +1,54 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.reactive.handler.SimpleUrlHandlerMapping;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.websocket.PriceLookupWebSocketHandler;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.validation.Validator;
+
+@Configuration
+@ConditionalOnProperty(name = "price.lookup-stream.enabled", havingValue = "true")
+public class PriceLookupStreamConfig {
+
+    @Bean
+    public PriceLookupWebSocketHandler priceLookupWebSocketHandler(GetApplicablePriceUseCase getApplicablePriceUseCase,
+            PriceMapper priceMapper, ObjectMapper objectMapper, Validator validator,
+            @Value("${price.lookup-stream.max-in-flight:64}") int maxInFlight) {
+        return new PriceLookupWebSocketHandler(getApplicablePriceUseCase, priceMapper, objectMapper, validator,
+                maxInFlight);
+    }
+
+    @Bean
+    public HandlerMapping priceLookupStreamMapping(PriceLookupWebSocketHandler priceLookupWebSocketHandler) {
+        return new SimpleUrlHandlerMapping(Map.of(PriceLookupWebSocketHandler.PATH, priceLookupWebSocketHandler),
+                Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    @Bean
+    public MeterBinder priceLookupStreamMetrics(PriceLookupWebSocketHandler priceLookupWebSocketHandler) {
+        return registry -> {
+            Gauge.builder("price.lookup.stream.sessions", priceLookupWebSocketHandler,
+                    PriceLookupWebSocketHandler::getOpenSessions)
+                    .description("Open WebSocket lookup connections")
+                    .register(registry);
+            FunctionCounter.builder("price.lookup.stream.lookups", priceLookupWebSocketHandler,
+                    PriceLookupWebSocketHandler::getLookupCount)
+                    .description("Applicable-price lookups answered over WebSocket")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.rsocket.messaging.RSocketStrategiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.codecs.BinaryPriceFormats;
+
+@Configuration
+public class PriceRSocketConfig {
+
+    /**
+     * CBOR payloads with the epoch-second dates of {@link BinaryPriceFormats},
+     * like the CBOR responses of the HTTP API. Registered ahead of the CBOR
+     * codecs of Spring Boot, which write dates as ISO-8601 strings.
+     */
+    @Bean
+    @ConditionalOnClass(name = "com.fasterxml.jackson.dataformat.cbor.CBORFactory")
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public RSocketStrategiesCustomizer binaryPriceFormatsRSocketStrategies() {
+        ObjectMapper cbor = BinaryPriceFormats.cborObjectMapper();
+        return strategies -> strategies
+                .encoder(new Jackson2CborEncoder(cbor))
+                .decoder(new Jackson2CborDecoder(cbor));
+    }
+}
@@ -0,0 +1,54 @@
+package com.inditex.coreplatform.price_service.infrastructure.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+import com.inditex.coreplatform.price_service.infrastructure.warmup.PriceWarmUp;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+@Configuration
+@ConditionalOnProperty(name = "price.warmup.enabled", havingValue = "true")
+public class PriceWarmUpConfig {
+
+    @Bean
+    public PriceWarmUp priceWarmUp(IPriceRepository priceRepository, WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${price.warmup.lookups:}") List<String> lookups,
+            @Value("${price.warmup.iterations:200}") int iterations,
+            @Value("${price.warmup.concurrency:4}") int concurrency,
+            @Value("${price.warmup.timeout:60s}") Duration timeout) {
+        return new PriceWarmUp(priceRepository, webClientBuilder, meterRegistry,
+                lookups.stream().filter(lookup -> !lookup.isBlank()).map(PriceWarmUp::parseLookup).toList(),
+                iterations, concurrency, timeout);
+    }
+
+    @Bean
+    public MeterBinder priceWarmUpMetrics(PriceWarmUp priceWarmUp) {
+        return registry -> {
+            TimeGauge.builder("price.warmup.duration", priceWarmUp, TimeUnit.NANOSECONDS, PriceWarmUp::getDuration)
+                    .description("Time spent warming up before reporting ready, or -1 before it has run")
+                    .register(registry);
+            TimeGauge.builder("price.warmup.latency", priceWarmUp, TimeUnit.NANOSECONDS,
+                    PriceWarmUp::getFirstPassLatency)
+                    .tag("pass", "first")
+                    .description("Mean latency of the warm-up lookups, in the first and the last pass")
+                    .register(registry);
+            TimeGauge.builder("price.warmup.latency", priceWarmUp, TimeUnit.NANOSECONDS,
+                    PriceWarmUp::getLastPassLatency)
+                    .tag("pass", "last")
+                    .description("Mean latency of the warm-up lookups, in the first and the last pass")
+                    .register(registry);
+        };
+    }
+}
@@ -1,22 +1,51 @@
 package com.inditex.coreplatform.price_service.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePricesUseCase;
 import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.ImportPricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.SearchPricesUseCase;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceWriteRepository;
+
+import io.micrometer.observation.ObservationRegistry;
 
 @Configuration
 public class UseCaseBeanConfig {
 
     @Bean
-    public GetApplicablePriceUseCase getApplicablePriceUseCase(IPriceService priceService) {
-        return new GetApplicablePriceUseCase(priceService);
+    public GetApplicablePriceUseCase getApplicablePriceUseCase(IPriceService priceService,
+            ObservationRegistry observationRegistry) {
+        return new GetApplicablePriceUseCase(priceService, observationRegistry);
+    }
+
+    @Bean
+    public GetApplicablePricesUseCase getApplicablePricesUseCase(IPriceService priceService,
+            ObservationRegistry observationRegistry) {
+        return new GetApplicablePricesUseCase(priceService, observationRegistry);
     }
 
     @Bean
     public GetPricesUseCase getPricesUseCase(IPriceService priceService) {
         return new GetPricesUseCase(priceService);
     }
+
+    @Bean
+    public SearchPricesUseCase searchPricesUseCase(IPriceService priceService) {
+        return new SearchPricesUseCase(priceService);
+    }
+
+    @Bean
+    public ImportPricesUseCase importPricesUseCase(IPriceWriteRepository priceWriteRepository,
+            IPriceChangeBus priceChangeBus,
+            @Value("${price.import.batch-size:1000}") int batchSize,
+            @Value("${price.import.concurrency:4}") int concurrency,
+            @Value("${price.import.max-reported-rejects:1000}") int maxReportedRejects) {
+        return new ImportPricesUseCase(priceWriteRepository, priceChangeBus, batchSize, concurrency, maxReportedRejects);
+    }
 }
@@ -0,0 +1,57 @@
+package com.inditex.coreplatform.price_service.infrastructure.events;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * In-process stand-in for a message broker, shared by every node running in
+ * the same JVM, such as several application contexts in a test.
+ *
+ * Each named channel fans every message out to the nodes receiving at the
+ * time it is sent, asynchronously, as a publish-subscribe topic of a real
+ * broker would. Messages are not persisted.
+ */
+public final class LocalPriceChangeBroker {
+
+    private static final LocalPriceChangeBroker SHARED = new LocalPriceChangeBroker();
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Map<String, Sinks.Many<PriceChangeMessage>> channels = new ConcurrentHashMap<>();
+
+    /**
+     * The broker of this JVM.
+     */
+    public static LocalPriceChangeBroker shared() {
+        return SHARED;
+    }
+
+    /**
+     * A transport that sends and receives on a channel of this broker.
+     *
+     * @param channel the channel name
+     * @return the transport
+     */
+    public PriceChangeTransport transport(String channel) {
+        Sinks.Many<PriceChangeMessage> sink = channels.computeIfAbsent(channel,
+                name -> Sinks.many().multicast().directBestEffort());
+        return new PriceChangeTransport() {
+            @Override
+            public void send(PriceChangeMessage message) {
+                sink.emitNext(message, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+            }
+
+            @Override
+            public Flux<PriceChangeMessage> receive() {
+                return sink.asFlux()
+                        .onBackpressureBuffer()
+                        .publishOn(Schedulers.boundedElastic());
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.inditex.coreplatform.price_service.infrastructure.events;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceCatalogStats;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.repositories.IReactivePriceRepository;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Version of the price catalog, derived from the data: the row count and the
+ * highest ID of the {@code prices} table. Prices are only ever inserted, so
+ * every import changes the version, and every node reading the same database
+ * ends up with the same one, whenever it started.
+ *
+ * The stats are read once the application is ready, then every poll interval
+ * and after the changes received from the {@link IPriceChangeBus}, never two
+ * reads at a time. Imports on this node, or on nodes whose changes reach it,
+ * are seen right away; the rest within a poll interval. A version read before
+ * the catalog is read can only be older than what was read, never newer.
+ */
+public class PriceCatalogVersion implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceCatalogVersion.class);
+
+    public static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(5);
+
+    private final IReactivePriceRepository priceRepository;
+    private final IPriceChangeBus priceChangeBus;
+    private final Duration pollInterval;
+
+    private final AtomicReference<PriceCatalogStats> stats = new AtomicReference<>();
+    private final Sinks.Many<String> versions = Sinks.many().replay().latest();
+    private Disposable subscription;
+
+    public PriceCatalogVersion(IReactivePriceRepository priceRepository, IPriceChangeBus priceChangeBus,
+            Duration pollInterval) {
+        this.priceRepository = priceRepository;
+        this.priceChangeBus = priceChangeBus;
+        this.pollInterval = pollInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        start();
+    }
+
+    /**
+     * Reads the first version and starts following the catalog. Does nothing
+     * if already started.
+     */
+    public synchronized void start() {
+        if (subscription != null) {
+            return;
+        }
+        subscription = Flux.merge(Flux.interval(Duration.ZERO, pollInterval).map(tick -> Boolean.TRUE),
+                priceChangeBus.changes().map(key -> Boolean.TRUE))
+                .onBackpressureLatest()
+                .concatMap(ignored -> read(), 1)
+                .subscribe(this::update);
+    }
+
+    /**
+     * Strong entity tag of the catalog at the current version.
+     *
+     * @return the quoted tag, or {@code null} if the catalog has not been read
+     *         yet
+     */
+    public String etag() {
+        return etag(stats.get());
+    }
+
+    /**
+     * The entity tags of the catalog versions, starting with the current one,
+     * each emitted once when the version changes.
+     */
+    public Flux<String> versions() {
+        return versions.asFlux();
+    }
+
+    /**
+     * Number of prices in the catalog at the current version, or 0 if it has
+     * not been read yet.
+     */
+    public long getRowCount() {
+        PriceCatalogStats current = stats.get();
+        return current == null ? 0 : current.rowCount();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        versions.tryEmitComplete();
+    }
+
+    private Mono<PriceCatalogStats> read() {
+        return priceRepository.findCatalogStats()
+                .onErrorResume(e -> {
+                    log.warn("Price catalog version could not be read, keeping {}", etag(), e);
+                    return Mono.empty();
+                });
+    }
+
+    private void update(PriceCatalogStats current) {
+        if (!current.equals(stats.getAndSet(current))) {
+            versions.tryEmitNext(etag(current));
+        }
+    }
+
+    private static String etag(PriceCatalogStats stats) {
+        return stats == null ? null : "\"" + stats.rowCount() + "-" + stats.maxId() + "\"";
+    }
+}
@@ -0,0 +1,102 @@
+package com.inditex.coreplatform.price_service.infrastructure.events;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * {@link IPriceChangeBus} backed by a multicast {@link Sinks.Many}.
+ *
+ * Published keys are emitted to the local subscribers and sent to the other
+ * nodes through the {@link PriceChangeTransport}, and the keys received from
+ * other nodes are emitted to the local subscribers only. Keys published while
+ * nobody is subscribed are dropped: subscribers load the whole catalog when
+ * they start. Each subscriber buffers the keys it has not consumed yet, so a
+ * slow rebuild never makes it miss a change.
+ */
+public class PriceChangeBus implements IPriceChangeBus, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceChangeBus.class);
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final String nodeId;
+    private final PriceChangeTransport transport;
+    private final Sinks.Many<PriceKey> sink = Sinks.many().multicast().directBestEffort();
+    private final Disposable remote;
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder received = new LongAdder();
+
+    public PriceChangeBus(String nodeId, PriceChangeTransport transport) {
+        this.nodeId = nodeId;
+        this.transport = transport;
+        this.remote = transport.receive()
+                .filter(message -> !nodeId.equals(message.origin()))
+                .subscribe(message -> {
+                    received.add(message.keys().size());
+                    emit(message.keys());
+                }, error -> log.error("Price changes from other nodes are no longer received", error));
+    }
+
+    @Override
+    public void publish(Collection<PriceKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<PriceKey> copy = List.copyOf(keys);
+        published.add(copy.size());
+        emit(copy);
+        transport.send(new PriceChangeMessage(nodeId, copy));
+    }
+
+    @Override
+    public Flux<PriceKey> changes() {
+        return sink.asFlux().onBackpressureBuffer();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Keys published on this node.
+     */
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    /**
+     * Keys received from other nodes.
+     */
+    public long getReceivedCount() {
+        return received.sum();
+    }
+
+    /**
+     * Stops receiving from other nodes and completes the stream of every
+     * subscriber.
+     */
+    @Override
+    public void close() {
+        remote.dispose();
+        sink.emitComplete(Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+    }
+
+    private void emit(List<PriceKey> keys) {
+        for (PriceKey key : keys) {
+            sink.emitNext(key, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.inditex.coreplatform.price_service.infrastructure.events;
+
+import java.util.List;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+
+/**
+ * Price changes sent by a node to the others through a
+ * {@link PriceChangeTransport}.
+ *
+ * @param origin the ID of the node that published the changes
+ * @param keys   the changed products and brands
+ */
+public record PriceChangeMessage(
+    String origin,
+    List<PriceKey> keys
+) {
+}
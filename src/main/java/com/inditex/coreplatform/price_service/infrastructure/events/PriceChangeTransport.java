@@ -0,0 +1,43 @@
+package com.inditex.coreplatform.price_service.infrastructure.events;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Carries price changes between the nodes of the service.
+ *
+ * A transport delivers every message sent by any node, including its own, to
+ * every node receiving at that time; {@link PriceChangeBus} discards the
+ * messages of its own node. Delivery is best effort: a node that is not
+ * receiving misses the messages sent meanwhile, and reloads its indexes when
+ * it starts.
+ */
+public interface PriceChangeTransport {
+
+    /**
+     * Transport of a single node, which sends nothing and never receives.
+     */
+    PriceChangeTransport NONE = new PriceChangeTransport() {
+        @Override
+        public void send(PriceChangeMessage message) {
+        }
+
+        @Override
+        public Flux<PriceChangeMessage> receive() {
+            return Flux.never();
+        }
+    };
+
+    /**
+     * Sends a message to every node. Must not block.
+     *
+     * @param message the message
+     */
+    void send(PriceChangeMessage message);
+
+    /**
+     * Streams the messages sent by any node from the moment of subscription.
+     *
+     * @return the messages
+     */
+    Flux<PriceChangeMessage> receive();
+}
@@ -0,0 +1,52 @@
+package com.inditex.coreplatform.price_service.infrastructure.health;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.AbstractReactiveHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reports the state of the R2DBC connection pool.
+ *
+ * The pool is {@link #DEGRADED} while more than
+ * {@code price.r2dbc.pool.health.max-pending} acquisitions are waiting for a
+ * connection, which means requests are queuing on the database.
+ */
+@Component
+public class ConnectionPoolHealthIndicator extends AbstractReactiveHealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "Pending connection acquisitions are piling up");
+
+    private final ConnectionFactory connectionFactory;
+    private final int maxPending;
+
+    public ConnectionPoolHealthIndicator(ConnectionFactory connectionFactory,
+            @Value("${price.r2dbc.pool.health.max-pending:10}") int maxPending) {
+        super("Connection pool health check failed");
+        this.connectionFactory = connectionFactory;
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    protected Mono<Health> doHealthCheck(Health.Builder builder) {
+        if (!(connectionFactory instanceof ConnectionPool pool) || pool.getMetrics().isEmpty()) {
+            return Mono.just(builder.unknown().withDetail("pool", "disabled").build());
+        }
+
+        PoolMetrics metrics = pool.getMetrics().get();
+        builder.status(metrics.pendingAcquireSize() > maxPending ? DEGRADED : Status.UP)
+                .withDetail("acquired", metrics.acquiredSize())
+                .withDetail("idle", metrics.idleSize())
+                .withDetail("pending", metrics.pendingAcquireSize())
+                .withDetail("allocated", metrics.allocatedSize())
+                .withDetail("maxAllocated", metrics.getMaxAllocatedSize())
+                .withDetail("maxPending", maxPending);
+        return Mono.just(builder.build());
+    }
+}
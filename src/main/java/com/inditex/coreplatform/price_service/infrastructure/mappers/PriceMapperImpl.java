@@ -2,6 +2,7 @@ package com.inditex.coreplatform.price_service.infrastructure.mappers;
 
 import org.springframework.stereotype.Component;
 
+import com.inditex.coreplatform.price_service.domain.models.Money;
 import com.inditex.coreplatform.price_service.domain.models.Price;
 import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
 import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
@@ -16,14 +17,14 @@ public class PriceMapperImpl implements PriceMapper {
         }
 
         return Price.builder()
+                .id(entity.getId())
                 .brandId(entity.getBrandId())
                 .startDate(entity.getStartDate())
                 .endDate(entity.getEndDate())
                 .rateId(entity.getPriceList())
                 .productId(entity.getProductId())
                 .priority(entity.getPriority())
-                .value(entity.getPrice())
-                .currency(entity.getCurr())
+                .value(entity.getPrice() == null ? null : Money.of(entity.getPrice(), entity.getCurr()))
                 .build();
     }
 
@@ -34,14 +35,17 @@ public class PriceMapperImpl implements PriceMapper {
         }
 
         PriceEntity entity = new PriceEntity();
+        entity.setId(domain.getId());
         entity.setBrandId(domain.getBrandId());
         entity.setStartDate(domain.getStartDate());
         entity.setEndDate(domain.getEndDate());
         entity.setPriceList(domain.getRateId());
         entity.setProductId(domain.getProductId());
         entity.setPriority(domain.getPriority());
-        entity.setPrice(domain.getValue());
-        entity.setCurr(domain.getCurrency());
+        if (domain.getValue() != null) {
+            entity.setPrice(domain.getValue().toBigDecimal());
+            entity.setCurr(domain.getValue().currency());
+        }
         return entity;
     }
 
@@ -52,6 +56,7 @@ public class PriceMapperImpl implements PriceMapper {
         }
 
         return PriceResponse.builder()
+                .id(domain.getId())
                 .brandId(domain.getBrandId())
                 .startDate(domain.getStartDate())
                 .endDate(domain.getEndDate())
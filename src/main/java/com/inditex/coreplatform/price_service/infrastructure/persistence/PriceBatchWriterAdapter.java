@@ -0,0 +1,73 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence;
+
+import java.util.List;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceWriteRepository;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Result;
+import io.r2dbc.spi.Statement;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link IPriceWriteRepository} that inserts each batch through a single
+ * R2DBC {@link Statement}, adding one binding per price, so the whole batch
+ * is sent on one connection in one round trip. Each batch runs in its own
+ * transaction: it is either written in full or not at all.
+ */
+@Repository
+public class PriceBatchWriterAdapter implements IPriceWriteRepository {
+
+        static final String INSERT_SQL = """
+                        INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+                        VALUES ($1, $2, $3, $4, $5, $6, $7, $8)
+                        """;
+
+        private final DatabaseClient databaseClient;
+        private final PriceMapper priceMapper;
+
+        public PriceBatchWriterAdapter(DatabaseClient databaseClient, PriceMapper priceMapper) {
+                this.databaseClient = databaseClient;
+                this.priceMapper = priceMapper;
+        }
+
+        @Override
+        public Mono<Long> insertAll(List<Price> prices) {
+                if (prices.isEmpty()) {
+                        return Mono.just(0L);
+                }
+                return databaseClient.inConnectionMany(connection -> {
+                        Statement statement = connection.createStatement(INSERT_SQL);
+                        for (int i = 0; i < prices.size(); i++) {
+                                if (i > 0) {
+                                        statement.add();
+                                }
+                                bind(statement, priceMapper.toEntity(prices.get(i)));
+                        }
+                        // Rolled back on error and on cancel, so a pooled connection is never returned mid-transaction
+                        return Flux.usingWhen(Mono.from(connection.beginTransaction()).thenReturn(connection),
+                                        tx -> Flux.from(statement.execute()).flatMap(Result::getRowsUpdated),
+                                        Connection::commitTransaction,
+                                        (tx, e) -> tx.rollbackTransaction(),
+                                        Connection::rollbackTransaction);
+                }).reduce(0L, Long::sum);
+        }
+
+        private static void bind(Statement statement, PriceEntity entity) {
+                statement.bind(0, entity.getBrandId())
+                                .bind(1, entity.getStartDate())
+                                .bind(2, entity.getEndDate())
+                                .bind(3, entity.getPriceList())
+                                .bind(4, entity.getProductId())
+                                .bind(5, entity.getPriority())
+                                .bind(6, entity.getPrice())
+                                .bind(7, entity.getCurr());
+        }
+}
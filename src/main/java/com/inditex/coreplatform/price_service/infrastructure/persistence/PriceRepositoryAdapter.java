@@ -1,25 +1,51 @@
 package com.inditex.coreplatform.price_service.infrastructure.persistence;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
 import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
 import com.inditex.coreplatform.price_service.infrastructure.persistence.repositories.IReactivePriceRepository;
 
+import io.micrometer.observation.ObservationRegistry;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
 public class PriceRepositoryAdapter  implements IPriceRepository {
+        private static final int TIMELINE_QUERY_CONCURRENCY = 4;
+
         private final IReactivePriceRepository reactivePriceRepository;
         private final PriceMapper priceMapper;
+        private final ObservationRegistry observationRegistry;
 
         public PriceRepositoryAdapter (IReactivePriceRepository reactivePriceRepository, PriceMapper priceMapper) {
+                this(reactivePriceRepository, priceMapper, ObservationRegistry.NOOP);
+        }
+
+        @Autowired
+        public PriceRepositoryAdapter(IReactivePriceRepository reactivePriceRepository, PriceMapper priceMapper,
+                        ObservationRegistry observationRegistry) {
                 this.reactivePriceRepository = reactivePriceRepository;
                 this.priceMapper = priceMapper;
+                this.observationRegistry = observationRegistry;
         }
 
         @Override
@@ -28,13 +54,55 @@ public class PriceRepositoryAdapter  implements IPriceRepository {
                         Integer brandId,
                         LocalDateTime startDate,
                         LocalDateTime endDate) {
-                return reactivePriceRepository
+                Mono<Price> price = PriceObservations.observe(reactivePriceRepository
                                 .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
                                                 productId,
                                                 brandId,
                                                 startDate,
-                                                endDate)
+                                                endDate),
+                                observationRegistry, "r2dbc", "applicable", brandId)
                                 .map(priceMapper::toDomain);
+                return PriceObservations.observe(price, observationRegistry, "repository", "applicable", brandId);
+        }
+
+        @Override
+        public Mono<PriceSegment> findApplicableSegment(
+                        Integer productId,
+                        Integer brandId,
+                        LocalDateTime applicationDate) {
+                Mono<PriceSegment> segment = PriceObservations.observe(reactivePriceRepository
+                                .findByProductIdAndBrandId(productId, brandId),
+                                observationRegistry, "r2dbc", "applicable", brandId)
+                                .map(priceMapper::toDomain)
+                                .collectList()
+                                .flatMap(prices -> Mono.justOrEmpty(
+                                                PriceTimeline.compile(prices).segmentAt(applicationDate)));
+                return PriceObservations.observe(segment, observationRegistry, "repository", "applicable", brandId);
+        }
+
+        @Override
+        public Flux<PriceLookupResult> findApplicablePrices(List<PriceLookup> lookups) {
+                if (lookups.isEmpty()) {
+                        return Flux.empty();
+                }
+
+                Set<Integer> productIds = lookups.stream().map(PriceLookup::productId).collect(Collectors.toSet());
+                Set<Integer> brandIds = lookups.stream().map(PriceLookup::brandId).collect(Collectors.toSet());
+                LocalDateTime from = lookups.stream().map(PriceLookup::applicationDate)
+                                .min(Comparator.naturalOrder()).orElseThrow();
+                LocalDateTime to = lookups.stream().map(PriceLookup::applicationDate)
+                                .max(Comparator.naturalOrder()).orElseThrow();
+
+                Flux<PriceLookupResult> results = PriceObservations.observe(reactivePriceRepository
+                                .findByProductIdInAndBrandIdInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                                                productIds, brandIds, to, from),
+                                observationRegistry, "r2dbc", "applicable-batch", null)
+                                .map(priceMapper::toDomain)
+                                .collectList()
+                                .map(PriceTimeline::compileAll)
+                                .flatMapMany(timelines -> Flux.fromIterable(lookups)
+                                                .map(lookup -> resolve(timelines, lookup)));
+                return PriceObservations.observe(results, observationRegistry, "repository", "applicable-batch", null);
         }
 
         @Override
@@ -43,4 +111,46 @@ public class PriceRepositoryAdapter  implements IPriceRepository {
                                 .findAll()
                                 .map(priceMapper::toDomain);
         }
+
+        @Override
+        public Flux<Price> findAllAfter(Long afterId, Integer limit) {
+                return reactivePriceRepository
+                                .findByIdGreaterThanOrderByIdAsc(
+                                                afterId == null ? 0L : afterId,
+                                                limit == null ? Limit.unlimited() : Limit.of(limit))
+                                .map(priceMapper::toDomain);
+        }
+
+        @Override
+        public Flux<Price> findByFilter(PriceFilter filter, Long afterId, int limit) {
+                return reactivePriceRepository
+                                .search(filter.brandId(), filter.productIds(), filter.validFrom(), filter.validTo(),
+                                                afterId, limit)
+                                .map(priceMapper::toDomain);
+        }
+
+        /**
+         * Compiles the timelines of the given products and brands from their
+         * current prices. A key without prices gets an empty timeline.
+         *
+         * @param keys the products and brands
+         * @return the timelines by key
+         */
+        public Mono<Map<PriceKey, PriceTimeline>> findTimelines(Collection<PriceKey> keys) {
+                return Flux.fromIterable(keys)
+                                .flatMap(key -> reactivePriceRepository
+                                                .findByProductIdAndBrandId(key.productId(), key.brandId())
+                                                .map(priceMapper::toDomain)
+                                                .collectList()
+                                                .map(prices -> Map.entry(key, PriceTimeline.compile(prices))),
+                                                TIMELINE_QUERY_CONCURRENCY)
+                                .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+        }
+
+        private static PriceLookupResult resolve(Map<PriceKey, PriceTimeline> timelines, PriceLookup lookup) {
+                PriceTimeline timeline = timelines.get(lookup.key());
+                Price price = timeline == null ? null
+                                : timeline.segmentAt(lookup.applicationDate()).map(PriceSegment::price).orElse(null);
+                return new PriceLookupResult(lookup, price);
+        }
 }
@@ -0,0 +1,91 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * Keeps a lookup engine built from the catalog in step with the
+ * {@link IPriceChangeBus}.
+ *
+ * Changed keys are collected for up to {@link #BATCH_WINDOW}, or until
+ * {@link #MAX_BATCH_KEYS} are pending, and the timelines of those keys only
+ * are compiled again from the R2DBC {@link PriceRepositoryAdapter} and handed
+ * to the engine. Batches are applied one at a time and in order, and none is
+ * applied before the engine has finished loading, so a change made while the
+ * catalog was being read is never lost.
+ *
+ * The keys of each applied batch are then emitted by {@link #refreshedKeys()},
+ * for the layers in front of the engine that must not read it before the
+ * change is applied.
+ */
+public final class PriceTimelineRefresher {
+
+    static final int MAX_BATCH_KEYS = 1024;
+    static final Duration BATCH_WINDOW = Duration.ofMillis(50);
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private static final Logger log = LoggerFactory.getLogger(PriceTimelineRefresher.class);
+
+    private final IPriceChangeBus priceChangeBus;
+    private final PriceRepositoryAdapter repository;
+    private final Sinks.Many<PriceKey> refreshed = Sinks.many().multicast().directBestEffort();
+
+    public PriceTimelineRefresher(IPriceChangeBus priceChangeBus, PriceRepositoryAdapter repository) {
+        this.priceChangeBus = priceChangeBus;
+        this.repository = repository;
+    }
+
+    /**
+     * Starts following the changes.
+     *
+     * @param loaded completes when the engine is loaded
+     * @param apply  replaces the timelines of the changed keys in the engine
+     * @return the subscription, which also ends when the bus is closed
+     */
+    public Disposable follow(Mono<?> loaded, Consumer<Map<PriceKey, PriceTimeline>> apply) {
+        return priceChangeBus.changes()
+                .bufferTimeout(MAX_BATCH_KEYS, BATCH_WINDOW, true)
+                .concatMap(keys -> loaded.onErrorComplete()
+                        .then(Mono.defer(() -> {
+                            long start = System.nanoTime();
+                            return repository.findTimelines(new LinkedHashSet<>(keys))
+                                    .doOnNext(apply)
+                                    .doOnNext(this::emit)
+                                    .doOnNext(timelines -> log.debug("Refreshed {} price timelines in {} ms",
+                                            timelines.size(), Duration.ofNanos(System.nanoTime() - start).toMillis()));
+                        }))
+                        .onErrorResume(error -> {
+                            log.warn("Price timelines of {} changed keys could not be refreshed", keys.size(), error);
+                            return Mono.empty();
+                        }))
+                .subscribe();
+    }
+
+    /**
+     * The keys whose new timelines have been applied to the engine.
+     */
+    public Flux<PriceKey> refreshedKeys() {
+        return refreshed.asFlux().onBackpressureBuffer();
+    }
+
+    private void emit(Map<PriceKey, PriceTimeline> timelines) {
+        for (PriceKey key : timelines.keySet()) {
+            refreshed.emitNext(key, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+        }
+    }
+}
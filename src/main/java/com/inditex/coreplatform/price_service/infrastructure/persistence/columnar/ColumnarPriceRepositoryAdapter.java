@@ -0,0 +1,191 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.columnar;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceRepositoryAdapter;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceTimelineRefresher;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * {@link IPriceRepository} that answers applicable-price lookups from an
+ * off-heap {@link ColumnarPriceStore} loaded from the {@code prices} table.
+ *
+ * Enabled with {@code price.repository.engine=columnar}. Until the store is
+ * loaded, and for any query the store cannot answer, calls are delegated to
+ * the R2DBC {@link PriceRepositoryAdapter}. Once loaded, the store follows the
+ * {@link IPriceChangeBus} and only the timelines of the changed products and
+ * brands are rebuilt.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "price.repository.engine", havingValue = "columnar")
+public class ColumnarPriceRepositoryAdapter implements IPriceRepository {
+
+        private static final Logger log = LoggerFactory.getLogger(ColumnarPriceRepositoryAdapter.class);
+
+        private final PriceRepositoryAdapter fallback;
+        private final ObservationRegistry observationRegistry;
+        private final PriceTimelineRefresher refresher;
+        private final AtomicReference<ColumnarPriceStore> store = new AtomicReference<>();
+        private final Sinks.Empty<Void> loaded = Sinks.empty();
+
+        public ColumnarPriceRepositoryAdapter(PriceRepositoryAdapter fallback) {
+                this(fallback, ObservationRegistry.NOOP, null);
+        }
+
+        @Autowired
+        public ColumnarPriceRepositoryAdapter(PriceRepositoryAdapter fallback, ObservationRegistry observationRegistry,
+                        IPriceChangeBus priceChangeBus) {
+                this.fallback = fallback;
+                this.observationRegistry = observationRegistry;
+                this.refresher = priceChangeBus == null ? null : new PriceTimelineRefresher(priceChangeBus, fallback);
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        public void onApplicationReady() {
+                Mono<ColumnarPriceStore> load = reload().cache();
+                if (refresher != null) {
+                        refresher.follow(load, this::refresh);
+                }
+                load.doFinally(signal -> loaded.tryEmitEmpty()).subscribe(
+                                loaded -> log.info("Columnar price store loaded with {} segments in {} bytes off-heap",
+                                                loaded.size(), loaded.getOffHeapBytes()),
+                                error -> log.error("Columnar price store could not be loaded, using R2DBC lookups",
+                                                error));
+        }
+
+        /**
+         * Rebuilds the store from the fallback repository and swaps it in once
+         * complete, so lookups never observe a partially built store. The
+         * previous store is released when it is garbage collected.
+         *
+         * @return the new store
+         */
+        public Mono<ColumnarPriceStore> reload() {
+                return fallback.findAll()
+                                .collectList()
+                                .map(ColumnarPriceStore::build)
+                                .doOnNext(store::set);
+        }
+
+        /**
+         * Replaces the timelines of some keys in the loaded store, leaving the
+         * other keys as they are. Does nothing until the store is loaded.
+         *
+         * @param timelines the new timelines by key
+         * @return the new store, or {@code null} if it is not loaded
+         */
+        public ColumnarPriceStore refresh(Map<PriceKey, PriceTimeline> timelines) {
+                return store.updateAndGet(current -> current == null ? null : current.withTimelines(timelines));
+        }
+
+        @Override
+        public Mono<Void> whenLoaded() {
+                return loaded.asMono();
+        }
+
+        @Override
+        public Flux<PriceKey> refreshedKeys() {
+                return refresher == null ? Flux.empty() : refresher.refreshedKeys();
+        }
+
+        /**
+         * The loaded store.
+         *
+         * @return the store, or {@code null} until it is loaded
+         */
+        public ColumnarPriceStore getStore() {
+                return store.get();
+        }
+
+        @Override
+        public Mono<Price> findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        Integer productId,
+                        Integer brandId,
+                        LocalDateTime startDate,
+                        LocalDateTime endDate) {
+                ColumnarPriceStore current = store.get();
+                if (current == null || !startDate.equals(endDate)) {
+                        return fallback
+                                        .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                                                        productId, brandId, startDate, endDate);
+                }
+                return findApplicableSegment(current, productId, brandId, startDate)
+                                .map(PriceSegment::price);
+        }
+
+        @Override
+        public Mono<PriceSegment> findApplicableSegment(
+                        Integer productId,
+                        Integer brandId,
+                        LocalDateTime applicationDate) {
+                ColumnarPriceStore current = store.get();
+                if (current == null) {
+                        return fallback.findApplicableSegment(productId, brandId, applicationDate);
+                }
+                return findApplicableSegment(current, productId, brandId, applicationDate);
+        }
+
+        @Override
+        public Flux<PriceLookupResult> findApplicablePrices(List<PriceLookup> lookups) {
+                ColumnarPriceStore current = store.get();
+                if (current == null) {
+                        return fallback.findApplicablePrices(lookups);
+                }
+                return PriceObservations.observe(Flux.fromIterable(lookups)
+                                .map(lookup -> {
+                                        PriceSegment segment = current.find(lookup.brandId(), lookup.productId(),
+                                                        PriceIntervalIndex.toEpochSecond(lookup.applicationDate()));
+                                        return new PriceLookupResult(lookup, segment == null ? null : segment.price());
+                                }), observationRegistry, "columnar", "applicable-batch", null);
+        }
+
+        @Override
+        public Flux<Price> findAll() {
+                return fallback.findAll();
+        }
+
+        @Override
+        public Flux<Price> findAllAfter(Long afterId, Integer limit) {
+                return fallback.findAllAfter(afterId, limit);
+        }
+
+        @Override
+        public Flux<Price> findByFilter(PriceFilter filter, Long afterId, int limit) {
+                return fallback.findByFilter(filter, afterId, limit);
+        }
+
+        private Mono<PriceSegment> findApplicableSegment(ColumnarPriceStore current, Integer productId,
+                        Integer brandId, LocalDateTime applicationDate) {
+                return PriceObservations.observe(Mono.justOrEmpty(
+                                current.find(brandId, productId, PriceIntervalIndex.toEpochSecond(applicationDate))),
+                                observationRegistry, "columnar", "applicable", brandId);
+        }
+}
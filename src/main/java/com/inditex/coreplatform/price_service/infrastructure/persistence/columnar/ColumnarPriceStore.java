@@ -0,0 +1,514 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.columnar;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+/**
+ * Immutable, off-heap copy of the compiled price catalog.
+ *
+ * Holds the same {@link PriceTimeline}s as {@link PriceIntervalIndex}, but as
+ * primitive columns in direct buffers instead of {@link Price} objects:
+ *
+ * <ul>
+ * <li>per key: brand and product IDs, and the offset of its first segment;</li>
+ * <li>per segment: start and end in epoch seconds, and the winning row;</li>
+ * <li>per row, only for prices that win a segment: ID, start and end in epoch
+ * seconds, priority, rate, price in hundredths and a currency dictionary
+ * index.</li>
+ * </ul>
+ *
+ * The rows of a key are contiguous and follow the rows of the previous key, so
+ * the rows of a range of keys can be copied as a block.
+ *
+ * A lookup is a binary search on the key columns followed by a binary search
+ * on the segment starts, and only the returned segment and its price are
+ * materialized. The heap holds nothing but the buffer headers and the
+ * currency dictionary, so the catalog adds no GC work. Direct memory is
+ * bounded by {@code -XX:MaxDirectMemorySize}, which defaults to the maximum
+ * heap size.
+ */
+public final class ColumnarPriceStore {
+
+    public static final int AMOUNT_SCALE = Money.SCALE;
+
+    private static final int MAX_CURRENCIES = 256;
+
+    private static final Comparator<PriceKey> KEY_ORDER = Comparator.comparing(PriceKey::brandId)
+            .thenComparing(PriceKey::productId);
+
+    private final int keyCount;
+    private final int segmentCount;
+    private final int rowCount;
+    private final String[] currencies;
+
+    private final IntBuffer brandIds;
+    private final IntBuffer productIds;
+    private final IntBuffer offsets;
+
+    private final LongBuffer segmentStarts;
+    private final LongBuffer segmentEnds;
+    private final IntBuffer segmentRows;
+
+    private final LongBuffer ids;
+    private final LongBuffer starts;
+    private final LongBuffer ends;
+    private final IntBuffer priorities;
+    private final IntBuffer rateIds;
+    private final LongBuffer amounts;
+    private final ByteBuffer currencyCodes;
+
+    private ColumnarPriceStore(int keyCount, int segmentCount, int rowCount) {
+        this.keyCount = keyCount;
+        this.segmentCount = segmentCount;
+        this.rowCount = rowCount;
+        this.currencies = new String[MAX_CURRENCIES];
+        this.brandIds = ints(keyCount);
+        this.productIds = ints(keyCount);
+        this.offsets = ints(keyCount + 1);
+        this.segmentStarts = longs(segmentCount);
+        this.segmentEnds = longs(segmentCount);
+        this.segmentRows = ints(segmentCount);
+        this.ids = longs(rowCount);
+        this.starts = longs(rowCount);
+        this.ends = longs(rowCount);
+        this.priorities = ints(rowCount);
+        this.rateIds = ints(rowCount);
+        this.amounts = longs(rowCount);
+        this.currencyCodes = allocate(rowCount);
+    }
+
+    /**
+     * Builds the store from the full list of prices. The prices are only
+     * needed while the store is built.
+     *
+     * @param prices the prices to store
+     * @return the store
+     */
+    public static ColumnarPriceStore build(Collection<Price> prices) {
+        Map<PriceKey, PriceTimeline> timelines = PriceTimeline.compileAll(prices);
+        List<PriceKey> sortedKeys = timelines.keySet().stream()
+                .sorted(KEY_ORDER)
+                .toList();
+
+        Map<Price, Integer> rows = new IdentityHashMap<>();
+        int segmentCount = 0;
+        for (PriceKey key : sortedKeys) {
+            for (PriceSegment segment : timelines.get(key).getSegments()) {
+                rows.putIfAbsent(segment.price(), rows.size());
+                segmentCount++;
+            }
+        }
+
+        ColumnarPriceStore store = new ColumnarPriceStore(sortedKeys.size(), segmentCount, rows.size());
+        Map<String, Integer> currencies = new LinkedHashMap<>();
+        rows.forEach((price, row) -> store.putRow(row, price, currencies));
+        currencies.forEach((code, index) -> store.currencies[index] = code);
+
+        int segment = 0;
+        for (int key = 0; key < sortedKeys.size(); key++) {
+            PriceKey priceKey = sortedKeys.get(key);
+            store.brandIds.put(key, priceKey.brandId());
+            store.productIds.put(key, priceKey.productId());
+            store.offsets.put(key, segment);
+            for (PriceSegment priceSegment : timelines.get(priceKey).getSegments()) {
+                store.segmentStarts.put(segment, PriceIntervalIndex.toEpochSecond(priceSegment.startDate()));
+                store.segmentEnds.put(segment, PriceIntervalIndex.toEpochSecond(priceSegment.endDate()));
+                store.segmentRows.put(segment, rows.get(priceSegment.price()));
+                segment++;
+            }
+        }
+        store.offsets.put(sortedKeys.size(), segment);
+        return store;
+    }
+
+    /**
+     * Returns a copy of the store with the timelines of some keys replaced.
+     * The columns of the other keys are copied as blocks, without being
+     * compiled again. A key with an empty timeline is removed.
+     *
+     * @param timelines the new timelines by key
+     * @return the new store
+     */
+    public ColumnarPriceStore withTimelines(Map<PriceKey, PriceTimeline> timelines) {
+        List<PriceKey> changedKeys = timelines.keySet().stream()
+                .sorted(KEY_ORDER)
+                .toList();
+
+        int newKeyCount = keyCount;
+        int newSegmentCount = segmentCount;
+        int newRowCount = rowCount;
+        for (PriceKey changedKey : changedKeys) {
+            int existing = keyIndex(changedKey.brandId(), changedKey.productId());
+            List<PriceSegment> segments = timelines.get(changedKey).getSegments();
+            if (existing >= 0) {
+                newKeyCount--;
+                newSegmentCount -= offsets.get(existing + 1) - offsets.get(existing);
+                newRowCount -= firstRow(existing + 1) - firstRow(existing);
+            }
+            if (!segments.isEmpty()) {
+                newKeyCount++;
+                newSegmentCount += segments.size();
+                newRowCount += winners(segments).size();
+            }
+        }
+
+        Splice splice = new Splice(this, new ColumnarPriceStore(newKeyCount, newSegmentCount, newRowCount));
+        int from = 0;
+        for (PriceKey changedKey : changedKeys) {
+            int existing = keyIndex(changedKey.brandId(), changedKey.productId());
+            int to = existing >= 0 ? existing : -existing - 1;
+            splice.copy(from, to);
+            splice.append(changedKey, timelines.get(changedKey).getSegments());
+            from = existing >= 0 ? existing + 1 : to;
+        }
+        splice.copy(from, keyCount);
+        return splice.build();
+    }
+
+    /**
+     * Finds the segment of a product and brand that contains the given instant.
+     *
+     * @param brandId     the brand ID
+     * @param productId   the product ID
+     * @param epochSecond the instant, in epoch seconds
+     * @return the segment, or {@code null} if no price applies
+     */
+    public PriceSegment find(int brandId, int productId, long epochSecond) {
+        int segment = applicableSegment(brandId, productId, epochSecond);
+        if (segment < 0) {
+            return null;
+        }
+        return new PriceSegment(
+                toDateTime(segmentStarts.get(segment)),
+                toDateTime(segmentEnds.get(segment)),
+                price(brandId, productId, segmentRows.get(segment)));
+    }
+
+    /**
+     * Finds the row of the price that applies to a product and brand at the
+     * given instant. Nothing is allocated: the fields of the row are read with
+     * {@link #rowId(int)}, {@link #rowStart(int)}, {@link #rowEnd(int)},
+     * {@link #rowRateId(int)} and {@link #rowAmount(int)}.
+     *
+     * @param brandId     the brand ID
+     * @param productId   the product ID
+     * @param epochSecond the instant, in epoch seconds
+     * @return the row, or {@code -1} if no price applies
+     */
+    public int findRow(int brandId, int productId, long epochSecond) {
+        int segment = findSegment(brandId, productId, epochSecond);
+        return segment < 0 ? -1 : segmentRow(segment);
+    }
+
+    /**
+     * Finds the index of the segment of a product and brand that contains the
+     * given instant. Nothing is allocated: its bounds and winning row are read
+     * with {@link #segmentStart(int)}, {@link #segmentEnd(int)} and
+     * {@link #segmentRow(int)}.
+     *
+     * @param brandId     the brand ID
+     * @param productId   the product ID
+     * @param epochSecond the instant, in epoch seconds
+     * @return the segment, or {@code -1} if no price applies
+     */
+    public int findSegment(int brandId, int productId, long epochSecond) {
+        return applicableSegment(brandId, productId, epochSecond);
+    }
+
+    /**
+     * Start of a segment, in epoch seconds, inclusive.
+     */
+    public long segmentStart(int segment) {
+        return segmentStarts.get(segment);
+    }
+
+    /**
+     * End of a segment, in epoch seconds, inclusive.
+     */
+    public long segmentEnd(int segment) {
+        return segmentEnds.get(segment);
+    }
+
+    /**
+     * Row of the price that wins a segment.
+     */
+    public int segmentRow(int segment) {
+        return segmentRows.get(segment);
+    }
+
+    /**
+     * ID of the price in a row, or {@code 0} if the price had none.
+     */
+    public long rowId(int row) {
+        return ids.get(row);
+    }
+
+    /**
+     * Start date of the price in a row, in epoch seconds.
+     */
+    public long rowStart(int row) {
+        return starts.get(row);
+    }
+
+    /**
+     * End date of the price in a row, in epoch seconds.
+     */
+    public long rowEnd(int row) {
+        return ends.get(row);
+    }
+
+    public int rowRateId(int row) {
+        return rateIds.get(row);
+    }
+
+    /**
+     * Price in a row, in hundredths.
+     */
+    public long rowAmount(int row) {
+        return amounts.get(row);
+    }
+
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public int size() {
+        return segmentCount;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Direct memory used by the columns, in bytes.
+     */
+    public long getOffHeapBytes() {
+        return (long) keyCount * 3 * Integer.BYTES + Integer.BYTES
+                + (long) segmentCount * (2 * Long.BYTES + Integer.BYTES)
+                + (long) rowCount * (4 * Long.BYTES + 2 * Integer.BYTES + 1);
+    }
+
+    private void putRow(int row, Price price, Map<String, Integer> currencyIndexes) {
+        String code = price.getValue().currency();
+        Integer currency = currencyIndexes.get(code);
+        if (currency == null) {
+            if (currencyIndexes.size() == MAX_CURRENCIES) {
+                throw new IllegalArgumentException("Too many currencies in catalog");
+            }
+            currency = currencyIndexes.size();
+            currencyIndexes.put(code, currency);
+        }
+
+        ids.put(row, price.getId() == null ? 0L : price.getId());
+        starts.put(row, PriceIntervalIndex.toEpochSecond(price.getStartDate()));
+        ends.put(row, PriceIntervalIndex.toEpochSecond(price.getEndDate()));
+        priorities.put(row, price.getPriority());
+        rateIds.put(row, price.getRateId());
+        amounts.put(row, price.getValue().minorUnits());
+        currencyCodes.put(row, currency.byteValue());
+    }
+
+    private int keyIndex(int brandId, int productId) {
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Integer.compare(brandIds.get(mid), brandId);
+            if (cmp == 0) {
+                cmp = Integer.compare(productIds.get(mid), productId);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private int applicableSegment(int brandId, int productId, long epochSecond) {
+        int key = keyIndex(brandId, productId);
+        if (key < 0) {
+            return -1;
+        }
+
+        int segment = segmentIndex(offsets.get(key), offsets.get(key + 1), epochSecond);
+        if (segment < 0 || epochSecond > segmentEnds.get(segment)) {
+            return -1;
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the last segment in {@code [from, to)} that starts at or before
+     * the instant, or {@code -1} if there is none.
+     */
+    private int segmentIndex(int from, int to, long epochSecond) {
+        int low = from;
+        int high = to - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segmentStarts.get(mid) <= epochSecond) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private Price price(int brandId, int productId, int row) {
+        long id = ids.get(row);
+        return Price.builder()
+                .id(id == 0 ? null : id)
+                .brandId(brandId)
+                .productId(productId)
+                .startDate(toDateTime(starts.get(row)))
+                .endDate(toDateTime(ends.get(row)))
+                .priority(priorities.get(row))
+                .rateId(rateIds.get(row))
+                .value(new Money(amounts.get(row), currencies[Byte.toUnsignedInt(currencyCodes.get(row))]))
+                .build();
+    }
+
+    /**
+     * First row of a key, or the row count past the last key.
+     */
+    private int firstRow(int key) {
+        return key < keyCount ? segmentRows.get(offsets.get(key)) : rowCount;
+    }
+
+    /**
+     * Distinct prices of the segments, in order of first appearance.
+     */
+    private static Map<Price, Integer> winners(List<PriceSegment> segments) {
+        Map<Price, Integer> rows = new IdentityHashMap<>();
+        for (PriceSegment segment : segments) {
+            rows.putIfAbsent(segment.price(), rows.size());
+        }
+        return rows;
+    }
+
+    /**
+     * Columns of a new store filled key by key, in key order, from the keys of
+     * a source store and new timelines.
+     */
+    private static final class Splice {
+        private final ColumnarPriceStore source;
+        private final ColumnarPriceStore target;
+        private final Map<String, Integer> currencyIndexes = new LinkedHashMap<>();
+        private int key;
+        private int segment;
+        private int row;
+
+        private Splice(ColumnarPriceStore source, ColumnarPriceStore target) {
+            this.source = source;
+            this.target = target;
+            // Keep the dictionary indexes of the source so currency codes copy as they are
+            for (int i = 0; i < MAX_CURRENCIES && source.currencies[i] != null; i++) {
+                currencyIndexes.put(source.currencies[i], i);
+            }
+        }
+
+        /**
+         * Copies the keys {@code [from, to)} of the source with their segments
+         * and rows.
+         */
+        private void copy(int from, int to) {
+            if (from == to) {
+                return;
+            }
+            int firstSegment = source.offsets.get(from);
+            int segmentCount = source.offsets.get(to) - firstSegment;
+            int firstRow = source.firstRow(from);
+            int rowCount = source.firstRow(to) - firstRow;
+
+            target.brandIds.put(key, source.brandIds, from, to - from);
+            target.productIds.put(key, source.productIds, from, to - from);
+            for (int i = from; i < to; i++) {
+                target.offsets.put(key++, source.offsets.get(i) - firstSegment + segment);
+            }
+
+            target.segmentStarts.put(segment, source.segmentStarts, firstSegment, segmentCount);
+            target.segmentEnds.put(segment, source.segmentEnds, firstSegment, segmentCount);
+            for (int i = firstSegment; i < firstSegment + segmentCount; i++) {
+                target.segmentRows.put(segment++, source.segmentRows.get(i) - firstRow + row);
+            }
+
+            target.ids.put(row, source.ids, firstRow, rowCount);
+            target.starts.put(row, source.starts, firstRow, rowCount);
+            target.ends.put(row, source.ends, firstRow, rowCount);
+            target.priorities.put(row, source.priorities, firstRow, rowCount);
+            target.rateIds.put(row, source.rateIds, firstRow, rowCount);
+            target.amounts.put(row, source.amounts, firstRow, rowCount);
+            target.currencyCodes.put(row, source.currencyCodes, firstRow, rowCount);
+            row += rowCount;
+        }
+
+        /**
+         * Appends a key with the given segments, or nothing if there are none.
+         */
+        private void append(PriceKey priceKey, List<PriceSegment> segments) {
+            if (segments.isEmpty()) {
+                return;
+            }
+            target.brandIds.put(key, priceKey.brandId());
+            target.productIds.put(key, priceKey.productId());
+            target.offsets.put(key++, segment);
+
+            int firstRow = row;
+            Map<Price, Integer> rows = winners(segments);
+            rows.forEach((price, keyRow) -> target.putRow(firstRow + keyRow, price, currencyIndexes));
+            row += rows.size();
+            for (PriceSegment priceSegment : segments) {
+                target.segmentStarts.put(segment, PriceIntervalIndex.toEpochSecond(priceSegment.startDate()));
+                target.segmentEnds.put(segment, PriceIntervalIndex.toEpochSecond(priceSegment.endDate()));
+                target.segmentRows.put(segment++, firstRow + rows.get(priceSegment.price()));
+            }
+        }
+
+        private ColumnarPriceStore build() {
+            target.offsets.put(key, segment);
+            currencyIndexes.forEach((code, index) -> target.currencies[index] = code);
+            return target;
+        }
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static IntBuffer ints(int count) {
+        return allocate(count * Integer.BYTES).asIntBuffer();
+    }
+
+    private static LongBuffer longs(int count) {
+        return allocate(count * Long.BYTES).asLongBuffer();
+    }
+
+    private static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+}
@@ -0,0 +1,14 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.entities;
+
+/**
+ * Size of the {@code prices} table. Prices are only ever inserted, with
+ * increasing IDs, so any write changes at least one of the two values.
+ *
+ * @param rowCount the number of rows
+ * @param maxId    the highest ID, or 0 if the table is empty
+ */
+public record PriceCatalogStats(
+    long rowCount,
+    long maxId
+) {
+}
@@ -1,5 +1,6 @@
 package com.inditex.coreplatform.price_service.infrastructure.persistence.entities;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import org.springframework.data.annotation.Id;
@@ -40,7 +41,7 @@ public class PriceEntity {
     private Integer priority;
 
     @Column("price")
-    private Double price;
+    private BigDecimal price;
 
     @Column("curr")
     private String curr;
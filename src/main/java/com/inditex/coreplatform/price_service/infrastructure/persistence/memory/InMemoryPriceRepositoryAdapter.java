@@ -0,0 +1,178 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.memory;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceRepositoryAdapter;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceTimelineRefresher;
+
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * {@link IPriceRepository} that answers applicable-price lookups from a
+ * {@link PriceIntervalIndex} loaded from the {@code prices} table.
+ *
+ * Enabled with {@code price.repository.engine=in-memory}. Until the index is
+ * loaded, and for any query the index cannot answer, calls are delegated to
+ * the R2DBC {@link PriceRepositoryAdapter}. Once loaded, the index follows the
+ * {@link IPriceChangeBus} and only the timelines of the changed products and
+ * brands are rebuilt.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "price.repository.engine", havingValue = "in-memory")
+public class InMemoryPriceRepositoryAdapter implements IPriceRepository {
+
+        private static final Logger log = LoggerFactory.getLogger(InMemoryPriceRepositoryAdapter.class);
+
+        private final PriceRepositoryAdapter fallback;
+        private final ObservationRegistry observationRegistry;
+        private final PriceTimelineRefresher refresher;
+        private final AtomicReference<PriceIntervalIndex> index = new AtomicReference<>();
+        private final Sinks.Empty<Void> loaded = Sinks.empty();
+
+        public InMemoryPriceRepositoryAdapter(PriceRepositoryAdapter fallback) {
+                this(fallback, ObservationRegistry.NOOP, null);
+        }
+
+        @Autowired
+        public InMemoryPriceRepositoryAdapter(PriceRepositoryAdapter fallback, ObservationRegistry observationRegistry,
+                        IPriceChangeBus priceChangeBus) {
+                this.fallback = fallback;
+                this.observationRegistry = observationRegistry;
+                this.refresher = priceChangeBus == null ? null : new PriceTimelineRefresher(priceChangeBus, fallback);
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        public void onApplicationReady() {
+                Mono<PriceIntervalIndex> load = reload().cache();
+                if (refresher != null) {
+                        refresher.follow(load, this::refresh);
+                }
+                load.doFinally(signal -> loaded.tryEmitEmpty()).subscribe(
+                                loaded -> log.info("Price index loaded with {} segments", loaded.size()),
+                                error -> log.error("Price index could not be loaded, using R2DBC lookups", error));
+        }
+
+        /**
+         * Rebuilds the index from the fallback repository and swaps it in once
+         * complete, so lookups never observe a partially built index.
+         *
+         * @return the new index
+         */
+        public Mono<PriceIntervalIndex> reload() {
+                return fallback.findAll()
+                                .collectList()
+                                .map(PriceIntervalIndex::build)
+                                .doOnNext(index::set);
+        }
+
+        /**
+         * Replaces the timelines of some keys in the loaded index, leaving the
+         * other keys as they are. Does nothing until the index is loaded.
+         *
+         * @param timelines the new timelines by key
+         * @return the new index, or {@code null} if it is not loaded
+         */
+        public PriceIntervalIndex refresh(Map<PriceKey, PriceTimeline> timelines) {
+                return index.updateAndGet(current -> current == null ? null : current.withTimelines(timelines));
+        }
+
+        @Override
+        public Mono<Void> whenLoaded() {
+                return loaded.asMono();
+        }
+
+        @Override
+        public Flux<PriceKey> refreshedKeys() {
+                return refresher == null ? Flux.empty() : refresher.refreshedKeys();
+        }
+
+        @Override
+        public Mono<Price> findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        Integer productId,
+                        Integer brandId,
+                        LocalDateTime startDate,
+                        LocalDateTime endDate) {
+                PriceIntervalIndex current = index.get();
+                if (current == null || !startDate.equals(endDate)) {
+                        return fallback
+                                        .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                                                        productId, brandId, startDate, endDate);
+                }
+                return findApplicableSegment(current, productId, brandId, startDate)
+                                .map(PriceSegment::price);
+        }
+
+        @Override
+        public Mono<PriceSegment> findApplicableSegment(
+                        Integer productId,
+                        Integer brandId,
+                        LocalDateTime applicationDate) {
+                PriceIntervalIndex current = index.get();
+                if (current == null) {
+                        return fallback.findApplicableSegment(productId, brandId, applicationDate);
+                }
+                return findApplicableSegment(current, productId, brandId, applicationDate);
+        }
+
+        @Override
+        public Flux<PriceLookupResult> findApplicablePrices(List<PriceLookup> lookups) {
+                PriceIntervalIndex current = index.get();
+                if (current == null) {
+                        return fallback.findApplicablePrices(lookups);
+                }
+                return PriceObservations.observe(Flux.fromIterable(lookups)
+                                .map(lookup -> {
+                                        PriceSegment segment = current.find(lookup.brandId(), lookup.productId(),
+                                                        PriceIntervalIndex.toEpochSecond(lookup.applicationDate()));
+                                        return new PriceLookupResult(lookup, segment == null ? null : segment.price());
+                                }), observationRegistry, "index", "applicable-batch", null);
+        }
+
+        @Override
+        public Flux<Price> findAll() {
+                return fallback.findAll();
+        }
+
+        @Override
+        public Flux<Price> findAllAfter(Long afterId, Integer limit) {
+                return fallback.findAllAfter(afterId, limit);
+        }
+
+        @Override
+        public Flux<Price> findByFilter(PriceFilter filter, Long afterId, int limit) {
+                return fallback.findByFilter(filter, afterId, limit);
+        }
+
+        private Mono<PriceSegment> findApplicableSegment(PriceIntervalIndex current, Integer productId,
+                        Integer brandId, LocalDateTime applicationDate) {
+                return PriceObservations.observe(Mono.justOrEmpty(
+                                current.find(brandId, productId, PriceIntervalIndex.toEpochSecond(applicationDate))),
+                                observationRegistry, "index", "applicable", brandId);
+        }
+}
@@ -0,0 +1,218 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.memory;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+
+/**
+ * Immutable in-memory index of the price catalog.
+ *
+ * Holds the {@link PriceTimeline} of every (brandId, productId) in flat
+ * arrays. A lookup is a binary search on the packed keys followed by a binary
+ * search on the segment start array, expressed in epoch seconds, and does not
+ * allocate.
+ *
+ * Dates are resolved with second granularity, which is the resolution of the
+ * values stored in the {@code prices} table.
+ */
+public final class PriceIntervalIndex {
+
+    private final long[] keys;
+    private final int[] offsets;
+    private final long[] segmentStarts;
+    private final long[] segmentEnds;
+    private final PriceSegment[] segments;
+
+    private PriceIntervalIndex(long[] keys, int[] offsets, long[] segmentStarts, long[] segmentEnds,
+            PriceSegment[] segments) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.segmentStarts = segmentStarts;
+        this.segmentEnds = segmentEnds;
+        this.segments = segments;
+    }
+
+    /**
+     * Builds the index from the full list of prices.
+     *
+     * @param prices the prices to index
+     * @return the index
+     */
+    public static PriceIntervalIndex build(Collection<Price> prices) {
+        Map<PriceKey, PriceTimeline> timelines = PriceTimeline.compileAll(prices);
+        List<PriceKey> sortedKeys = timelines.keySet().stream()
+                .sorted(Comparator.comparingLong(PriceIntervalIndex::key))
+                .toList();
+
+        long[] keys = new long[sortedKeys.size()];
+        int[] offsets = new int[sortedKeys.size() + 1];
+        List<PriceSegment> flat = new ArrayList<>();
+        for (int i = 0; i < sortedKeys.size(); i++) {
+            keys[i] = key(sortedKeys.get(i));
+            offsets[i] = flat.size();
+            flat.addAll(timelines.get(sortedKeys.get(i)).getSegments());
+        }
+        offsets[sortedKeys.size()] = flat.size();
+
+        long[] starts = new long[flat.size()];
+        long[] ends = new long[flat.size()];
+        for (int i = 0; i < flat.size(); i++) {
+            starts[i] = toEpochSecond(flat.get(i).startDate());
+            ends[i] = toEpochSecond(flat.get(i).endDate());
+        }
+        return new PriceIntervalIndex(keys, offsets, starts, ends, flat.toArray(new PriceSegment[0]));
+    }
+
+    /**
+     * Returns a copy of the index with the timelines of some keys replaced.
+     * The segments of the other keys are copied as they are, without being
+     * compiled again. A key with an empty timeline is removed.
+     *
+     * @param timelines the new timelines by key
+     * @return the new index
+     */
+    public PriceIntervalIndex withTimelines(Map<PriceKey, PriceTimeline> timelines) {
+        List<PriceKey> changedKeys = timelines.keySet().stream()
+                .sorted(Comparator.comparingLong(PriceIntervalIndex::key))
+                .toList();
+
+        int keyCount = keys.length;
+        int segmentCount = segments.length;
+        for (PriceKey changedKey : changedKeys) {
+            int existing = Arrays.binarySearch(keys, key(changedKey));
+            int newSegments = timelines.get(changedKey).getSegments().size();
+            if (existing >= 0) {
+                segmentCount -= offsets[existing + 1] - offsets[existing];
+                keyCount -= newSegments == 0 ? 1 : 0;
+            } else {
+                keyCount += newSegments == 0 ? 0 : 1;
+            }
+            segmentCount += newSegments;
+        }
+
+        Splice splice = new Splice(this, keyCount, segmentCount);
+        int from = 0;
+        for (PriceKey changedKey : changedKeys) {
+            int existing = Arrays.binarySearch(keys, key(changedKey));
+            int to = existing >= 0 ? existing : -existing - 1;
+            splice.copy(from, to);
+            splice.append(key(changedKey), timelines.get(changedKey).getSegments());
+            from = existing >= 0 ? existing + 1 : to;
+        }
+        splice.copy(from, keys.length);
+        return splice.build();
+    }
+
+    /**
+     * Finds the segment of a product and brand that contains the given instant.
+     *
+     * @param brandId     the brand ID
+     * @param productId   the product ID
+     * @param epochSecond the instant, in epoch seconds
+     * @return the segment, or {@code null} if no price applies
+     */
+    public PriceSegment find(int brandId, int productId, long epochSecond) {
+        int keyIndex = Arrays.binarySearch(keys, key(brandId, productId));
+        if (keyIndex < 0) {
+            return null;
+        }
+
+        int from = offsets[keyIndex];
+        int to = offsets[keyIndex + 1];
+        int segment = Arrays.binarySearch(segmentStarts, from, to, epochSecond);
+        if (segment < 0) {
+            segment = -segment - 2;
+            if (segment < from) {
+                return null;
+            }
+        }
+        return epochSecond <= segmentEnds[segment] ? segments[segment] : null;
+    }
+
+    public int size() {
+        return segments.length;
+    }
+
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Arrays of a new index filled key by key, in key order, from the keys of
+     * a source index and new timelines.
+     */
+    private static final class Splice {
+        private final PriceIntervalIndex source;
+        private final long[] keys;
+        private final int[] offsets;
+        private final long[] starts;
+        private final long[] ends;
+        private final PriceSegment[] segments;
+        private int key;
+        private int segment;
+
+        private Splice(PriceIntervalIndex source, int keyCount, int segmentCount) {
+            this.source = source;
+            this.keys = new long[keyCount];
+            this.offsets = new int[keyCount + 1];
+            this.starts = new long[segmentCount];
+            this.ends = new long[segmentCount];
+            this.segments = new PriceSegment[segmentCount];
+        }
+
+        /**
+         * Copies the keys {@code [from, to)} of the source and their segments.
+         */
+        private void copy(int from, int to) {
+            int firstSegment = source.offsets[from];
+            int segmentCount = source.offsets[to] - firstSegment;
+            System.arraycopy(source.keys, from, keys, key, to - from);
+            for (int i = from; i < to; i++) {
+                offsets[key++] = source.offsets[i] - firstSegment + segment;
+            }
+            System.arraycopy(source.segmentStarts, firstSegment, starts, segment, segmentCount);
+            System.arraycopy(source.segmentEnds, firstSegment, ends, segment, segmentCount);
+            System.arraycopy(source.segments, firstSegment, segments, segment, segmentCount);
+            segment += segmentCount;
+        }
+
+        /**
+         * Appends a key with the given segments, or nothing if there are none.
+         */
+        private void append(long packedKey, List<PriceSegment> keySegments) {
+            if (keySegments.isEmpty()) {
+                return;
+            }
+            keys[key] = packedKey;
+            offsets[key++] = segment;
+            for (PriceSegment keySegment : keySegments) {
+                starts[segment] = toEpochSecond(keySegment.startDate());
+                ends[segment] = toEpochSecond(keySegment.endDate());
+                segments[segment++] = keySegment;
+            }
+        }
+
+        private PriceIntervalIndex build() {
+            offsets[key] = segment;
+            return new PriceIntervalIndex(keys, offsets, starts, ends, segments);
+        }
+    }
+
+    private static long key(PriceKey key) {
+        return key(key.brandId(), key.productId());
+    }
+
+    private static long key(int brandId, int productId) {
+        return ((long) brandId << 32) | (productId & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,31 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
+
+import reactor.core.publisher.Flux;
+
+public interface IPriceSearchRepository {
+
+    /**
+     * Finds a keyset page of prices matching the given criteria, ordered by ID.
+     * Null or empty criteria are not applied.
+     *
+     * @param brandId    the brand ID
+     * @param productIds the product IDs
+     * @param validFrom  the start of the validity window
+     * @param validTo    the end of the validity window
+     * @param afterId    the ID to start after
+     * @param limit      the maximum number of prices
+     * @return the prices
+     */
+    Flux<PriceEntity> search(
+            Integer brandId,
+            Collection<Integer> productIds,
+            LocalDateTime validFrom,
+            LocalDateTime validTo,
+            Long afterId,
+            int limit);
+}
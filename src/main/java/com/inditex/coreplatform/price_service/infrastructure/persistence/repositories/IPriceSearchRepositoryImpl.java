@@ -0,0 +1,54 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.repositories;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Builds the search query from the criteria that are present, so that every
+ * filter is pushed down to SQL.
+ */
+public class IPriceSearchRepositoryImpl implements IPriceSearchRepository {
+
+    private final R2dbcEntityOperations entityOperations;
+
+    public IPriceSearchRepositoryImpl(R2dbcEntityOperations entityOperations) {
+        this.entityOperations = entityOperations;
+    }
+
+    @Override
+    public Flux<PriceEntity> search(
+            Integer brandId,
+            Collection<Integer> productIds,
+            LocalDateTime validFrom,
+            LocalDateTime validTo,
+            Long afterId,
+            int limit) {
+
+        Criteria criteria = Criteria.where("id").greaterThan(afterId == null ? 0L : afterId);
+        if (brandId != null) {
+            criteria = criteria.and("brandId").is(brandId);
+        }
+        if (productIds != null && !productIds.isEmpty()) {
+            criteria = criteria.and("productId").in(productIds);
+        }
+        if (validTo != null) {
+            criteria = criteria.and("startDate").lessThanOrEquals(validTo);
+        }
+        if (validFrom != null) {
+            criteria = criteria.and("endDate").greaterThanOrEquals(validFrom);
+        }
+
+        return entityOperations.select(PriceEntity.class)
+                .matching(Query.query(criteria).sort(Sort.by("id")).limit(limit))
+                .all();
+    }
+}
@@ -1,14 +1,43 @@
 package com.inditex.coreplatform.price_service.infrastructure.persistence.repositories;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceCatalogStats;
 import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-public interface IReactivePriceRepository extends ReactiveCrudRepository<PriceEntity, Long> {
+public interface IReactivePriceRepository extends ReactiveCrudRepository<PriceEntity, Long>, IPriceSearchRepository {
+
+    /**
+     * Applicable price lookup. Resolved with an index range scan on
+     * {@code idx_prices_applicable}, which also holds every selected column.
+     */
+    String FIND_APPLICABLE_PRICE_QUERY = """
+            SELECT id, brand_id, start_date, end_date, price_list, product_id, priority, price, curr
+            FROM prices
+            WHERE product_id = :productId
+              AND brand_id = :brandId
+              AND start_date <= :startDate
+              AND end_date >= :endDate
+            ORDER BY priority DESC
+            LIMIT 1
+            """;
+
+    /**
+     * Row count and highest ID of the catalog, the version shared by every
+     * node reading the same database.
+     */
+    String FIND_CATALOG_STATS_QUERY = """
+            SELECT COUNT(*) AS row_count, COALESCE(MAX(id), 0) AS max_id
+            FROM prices
+            """;
 
     /**
      * Finds a price by product ID, brand ID, start date and end date.
@@ -19,13 +48,52 @@ public interface IReactivePriceRepository extends ReactiveCrudRepository<PriceEn
      * @param endDate   the end date
      * @return the price
      */
-
-    // @Query("SELECT * FROM prices WHERE product_id = :productId AND brand_id =
-    // :brandId AND start_date <= :startDate AND end_date >= :startDate ORDER BY
-    // priority DESC LIMIT 1")
+    @Query(FIND_APPLICABLE_PRICE_QUERY)
     Mono<PriceEntity> findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
             Integer productId,
             Integer brandId,
             LocalDateTime startDate,
             LocalDateTime endDate);
+
+    /**
+     * Finds all the prices of a product and brand.
+     *
+     * @param productId the product ID
+     * @param brandId   the brand ID
+     * @return the prices
+     */
+    Flux<PriceEntity> findByProductIdAndBrandId(Integer productId, Integer brandId);
+
+    /**
+     * Finds the prices of any of the given products and brands whose validity
+     * overlaps the given date window.
+     *
+     * @param productIds the product IDs
+     * @param brandIds   the brand IDs
+     * @param to         the end of the window
+     * @param from       the start of the window
+     * @return the prices
+     */
+    Flux<PriceEntity> findByProductIdInAndBrandIdInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+            Collection<Integer> productIds,
+            Collection<Integer> brandIds,
+            LocalDateTime to,
+            LocalDateTime from);
+
+    /**
+     * Finds the prices with an ID greater than the given one, ordered by ID.
+     *
+     * @param id    the ID to start after
+     * @param limit the maximum number of prices
+     * @return the prices
+     */
+    Flux<PriceEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Finds the row count and highest ID of the catalog.
+     *
+     * @return the catalog stats
+     */
+    @Query(FIND_CATALOG_STATS_QUERY)
+    Mono<PriceCatalogStats> findCatalogStats();
 }
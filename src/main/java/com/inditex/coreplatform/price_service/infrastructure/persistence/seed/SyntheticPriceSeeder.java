@@ -0,0 +1,70 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.seed;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds the {@code prices} table with a synthetic catalog for load tests and
+ * benchmarks.
+ *
+ * Enabled with {@code price.seed.rows}. Every product of brand 1, starting at
+ * {@link #FIRST_PRODUCT_ID}, gets four prices in 2020: a base price for the
+ * whole year with priority 0 and three one-month promotions with priority 1
+ * starting in April, July and October. Rows are generated by H2 in a single
+ * statement before the application is ready, so the in-memory engine indexes
+ * them on startup, and before the snapshot exporter runs.
+ */
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "price.seed.rows")
+public class SyntheticPriceSeeder implements ApplicationRunner {
+
+    public static final int FIRST_PRODUCT_ID = 100_000;
+    public static final int PRICES_PER_PRODUCT = 4;
+
+    static final String SEED_SQL = """
+            INSERT INTO prices (brand_id, start_date, end_date, price_list, product_id, priority, price, curr)
+            SELECT 1,
+                   DATEADD(MONTH, 3 * MOD(X - 1, 4), TIMESTAMP '2020-01-01 00:00:00'),
+                   CASE WHEN MOD(X - 1, 4) = 0 THEN TIMESTAMP '2020-12-31 23:59:59'
+                        ELSE DATEADD(SECOND, -1, DATEADD(MONTH, 3 * MOD(X - 1, 4) + 1, TIMESTAMP '2020-01-01 00:00:00'))
+                   END,
+                   MOD(X - 1, 4) + 1,
+                   100000 + (X - 1) / 4,
+                   CASE WHEN MOD(X - 1, 4) = 0 THEN 0 ELSE 1 END,
+                   10 + MOD(X, 9000) / 100.0,
+                   'EUR'
+            FROM SYSTEM_RANGE(1, :rows)
+            """;
+
+    private static final Logger log = LoggerFactory.getLogger(SyntheticPriceSeeder.class);
+
+    private final DatabaseClient databaseClient;
+    private final long rows;
+
+    public SyntheticPriceSeeder(DatabaseClient databaseClient, @Value("${price.seed.rows}") long rows) {
+        this.databaseClient = databaseClient;
+        this.rows = rows;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rows <= 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Long inserted = databaseClient.sql(SEED_SQL)
+                .bind("rows", rows)
+                .fetch()
+                .rowsUpdated()
+                .block();
+        log.info("Seeded {} synthetic prices in {} ms", inserted, System.currentTimeMillis() - start);
+    }
+}
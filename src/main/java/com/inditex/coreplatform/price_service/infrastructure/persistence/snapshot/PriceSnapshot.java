@@ -0,0 +1,278 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.snapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceStore;
+
+/**
+ * Read-only view of the price catalog backed by a memory-mapped snapshot
+ * file.
+ *
+ * The file is a fixed header followed by a currency dictionary and one
+ * section per column, all big-endian:
+ *
+ * <pre>
+ * header         int magic, int version, int keyCount, int rowCount, int currencyCount, int segmentCount
+ * dictionary     currencyCount x 3 ASCII bytes
+ * brand          int[keyCount]
+ * product        int[keyCount]
+ * offset         int[keyCount + 1]        first row of each key, then rowCount
+ * segment        int[keyCount + 1]        first segment of each key, then segmentCount
+ * segment start  long[segmentCount]       epoch seconds, UTC
+ * segment end    long[segmentCount]       epoch seconds, UTC, inclusive
+ * segment row    int[segmentCount]        row of the price that wins the segment
+ * id             long[rowCount]
+ * start          long[rowCount]           epoch seconds, UTC
+ * end            long[rowCount]           epoch seconds, UTC, inclusive
+ * priority       int[rowCount]
+ * rate           int[rowCount]
+ * amount         long[rowCount]           price in hundredths
+ * currency       byte[rowCount]           index into the dictionary
+ * </pre>
+ *
+ * Keys are sorted by brand and product, and the rows of a key by start date.
+ * The segments of a key are its {@link PriceTimeline}, compiled when the
+ * snapshot is written, so a lookup is a binary search on the keys and another
+ * on the segment starts of the key, as in {@link ColumnarPriceStore}, and only
+ * the winning row is read.
+ *
+ * Every section is mapped on its own, so the page cache is the only copy of
+ * the catalog and opening a snapshot costs the same whatever its size. A
+ * section is limited to 2 GB, that is about 268 million rows.
+ */
+public final class PriceSnapshot {
+
+    public static final int MAGIC = 0x50524353;
+    public static final int VERSION = 2;
+    public static final int AMOUNT_SCALE = Money.SCALE;
+    public static final int CURRENCY_LENGTH = 3;
+    public static final int MAX_CURRENCIES = 256;
+
+    static final int HEADER_BYTES = 6 * Integer.BYTES;
+
+    private final int keyCount;
+    private final int rowCount;
+    private final int segmentCount;
+    private final String[] currencies;
+    private final IntBuffer brandIds;
+    private final IntBuffer productIds;
+    private final IntBuffer offsets;
+    private final IntBuffer segmentOffsets;
+    private final LongBuffer segmentStarts;
+    private final LongBuffer segmentEnds;
+    private final IntBuffer segmentRows;
+    private final LongBuffer ids;
+    private final LongBuffer starts;
+    private final LongBuffer ends;
+    private final IntBuffer priorities;
+    private final IntBuffer rateIds;
+    private final LongBuffer amounts;
+    private final ByteBuffer currencyCodes;
+
+    private PriceSnapshot(FileChannel channel) throws IOException {
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Not a price snapshot");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported price snapshot version " + version);
+        }
+        keyCount = header.getInt();
+        rowCount = header.getInt();
+        int currencyCount = header.getInt();
+        segmentCount = header.getInt();
+
+        Sections sections = new Sections(channel, HEADER_BYTES);
+        ByteBuffer dictionary = sections.next((long) currencyCount * CURRENCY_LENGTH);
+        currencies = new String[currencyCount];
+        byte[] code = new byte[CURRENCY_LENGTH];
+        for (int i = 0; i < currencyCount; i++) {
+            dictionary.get(code);
+            currencies[i] = new String(code, StandardCharsets.US_ASCII);
+        }
+
+        brandIds = sections.next((long) keyCount * Integer.BYTES).asIntBuffer();
+        productIds = sections.next((long) keyCount * Integer.BYTES).asIntBuffer();
+        offsets = sections.next((long) (keyCount + 1) * Integer.BYTES).asIntBuffer();
+        segmentOffsets = sections.next((long) (keyCount + 1) * Integer.BYTES).asIntBuffer();
+        segmentStarts = sections.next((long) segmentCount * Long.BYTES).asLongBuffer();
+        segmentEnds = sections.next((long) segmentCount * Long.BYTES).asLongBuffer();
+        segmentRows = sections.next((long) segmentCount * Integer.BYTES).asIntBuffer();
+        ids = sections.next((long) rowCount * Long.BYTES).asLongBuffer();
+        starts = sections.next((long) rowCount * Long.BYTES).asLongBuffer();
+        ends = sections.next((long) rowCount * Long.BYTES).asLongBuffer();
+        priorities = sections.next((long) rowCount * Integer.BYTES).asIntBuffer();
+        rateIds = sections.next((long) rowCount * Integer.BYTES).asIntBuffer();
+        amounts = sections.next((long) rowCount * Long.BYTES).asLongBuffer();
+        currencyCodes = sections.next(rowCount);
+        if (sections.position != channel.size()) {
+            throw new IOException("Price snapshot size does not match its header");
+        }
+    }
+
+    /**
+     * Maps a snapshot file. The mapping stays valid after this method returns
+     * and is released when the snapshot is garbage collected.
+     *
+     * @param path the snapshot file
+     * @return the snapshot
+     * @throws IOException if the file cannot be read or is not a valid
+     *                     snapshot
+     */
+    public static PriceSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new PriceSnapshot(channel);
+        }
+    }
+
+    /**
+     * Finds the price that applies to a product and brand at the given
+     * instant, the winner of the segment that contains it. Only the winning
+     * row is materialized.
+     *
+     * @param brandId     the brand ID
+     * @param productId   the product ID
+     * @param epochSecond the instant, in epoch seconds
+     * @return the price, or {@code null} if no price applies
+     */
+    public Price find(int brandId, int productId, long epochSecond) {
+        int segment = applicableSegment(brandId, productId, epochSecond);
+        return segment < 0 ? null : price(brandId, productId, segmentRows.get(segment));
+    }
+
+    /**
+     * Finds the segment of a product and brand that contains the given
+     * instant. Only the segment and its winning row are materialized.
+     *
+     * @param brandId     the brand ID
+     * @param productId   the product ID
+     * @param epochSecond the instant, in epoch seconds
+     * @return the segment, or {@code null} if no price applies
+     */
+    public PriceSegment findSegment(int brandId, int productId, long epochSecond) {
+        int segment = applicableSegment(brandId, productId, epochSecond);
+        if (segment < 0) {
+            return null;
+        }
+        return new PriceSegment(
+                toDateTime(segmentStarts.get(segment)),
+                toDateTime(segmentEnds.get(segment)),
+                price(brandId, productId, segmentRows.get(segment)));
+    }
+
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    private int keyIndex(int brandId, int productId) {
+        int low = 0;
+        int high = keyCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Integer.compare(brandIds.get(mid), brandId);
+            if (cmp == 0) {
+                cmp = Integer.compare(productIds.get(mid), productId);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private int applicableSegment(int brandId, int productId, long epochSecond) {
+        int key = keyIndex(brandId, productId);
+        if (key < 0) {
+            return -1;
+        }
+
+        int segment = segmentIndex(segmentOffsets.get(key), segmentOffsets.get(key + 1), epochSecond);
+        if (segment < 0 || epochSecond > segmentEnds.get(segment)) {
+            return -1;
+        }
+        return segment;
+    }
+
+    /**
+     * Returns the last segment in {@code [from, to)} that starts at or before
+     * the instant, or {@code -1} if there is none.
+     */
+    private int segmentIndex(int from, int to, long epochSecond) {
+        int low = from;
+        int high = to - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (segmentStarts.get(mid) <= epochSecond) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private Price price(int brandId, int productId, int row) {
+        long id = ids.get(row);
+        return Price.builder()
+                .id(id == 0 ? null : id)
+                .brandId(brandId)
+                .productId(productId)
+                .startDate(toDateTime(starts.get(row)))
+                .endDate(toDateTime(ends.get(row)))
+                .priority(priorities.get(row))
+                .rateId(rateIds.get(row))
+                .value(new Money(amounts.get(row), currencies[Byte.toUnsignedInt(currencyCodes.get(row))]))
+                .build();
+    }
+
+    private static LocalDateTime toDateTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private static final class Sections {
+        private final FileChannel channel;
+        private long position;
+
+        private Sections(FileChannel channel, long position) {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        private ByteBuffer next(long size) throws IOException {
+            if (position + size > channel.size()) {
+                throw new IOException("Price snapshot is truncated");
+            }
+            ByteBuffer section = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+            position += size;
+            return section;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
+
+/**
+ * Exports the {@code prices} table to a {@link PriceSnapshot} file.
+ *
+ * Enabled with {@code price.snapshot.export-path}. Runs after the other
+ * runners, so a synthetic catalog is seeded before it is exported. Rows are
+ * streamed in snapshot order and written one at a time. Combined with
+ * {@code spring.main.web-application-type=none} the application exits once
+ * the snapshot is written.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "price.snapshot.export-path")
+public class PriceSnapshotExporter implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceSnapshotExporter.class);
+
+    private static final Sort SNAPSHOT_ORDER = Sort.by("brandId", "productId", "startDate", "id");
+
+    private final R2dbcEntityTemplate template;
+    private final PriceMapper priceMapper;
+    private final Path path;
+
+    public PriceSnapshotExporter(R2dbcEntityTemplate template, PriceMapper priceMapper,
+            @Value("${price.snapshot.export-path}") Path path) {
+        this.template = template;
+        this.priceMapper = priceMapper;
+        this.path = path;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        long start = System.currentTimeMillis();
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(path)) {
+            for (PriceEntity entity : template.select(PriceEntity.class)
+                    .matching(Query.empty().sort(SNAPSHOT_ORDER))
+                    .all()
+                    .toIterable()) {
+                writer.append(priceMapper.toDomain(entity));
+            }
+            writer.finish();
+            log.info("Exported {} prices to snapshot {} in {} ms", writer.getRowCount(), path,
+                    System.currentTimeMillis() - start);
+        }
+    }
+}
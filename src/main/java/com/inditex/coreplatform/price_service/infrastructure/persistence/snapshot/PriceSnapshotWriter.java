@@ -0,0 +1,258 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+/**
+ * Writes a {@link PriceSnapshot} file from a stream of prices sorted by
+ * brand, product and start date.
+ *
+ * Each column is spooled to its own temporary file as prices are appended,
+ * so the catalog is never held in memory: only the prices of the current
+ * product, whose {@link PriceTimeline} is compiled into the segment columns
+ * when the next product starts. {@link #finish()} concatenates the
+ * header and the columns into a temporary file next to the target and moves
+ * it into place, so readers never see a partially written snapshot.
+ */
+public final class PriceSnapshotWriter implements Closeable {
+
+    private final Path target;
+    private final Path workDir;
+    private final Map<String, Integer> currencies = new LinkedHashMap<>();
+    private final List<Column> keyColumns;
+    private final List<Column> segmentColumns;
+    private final List<Column> rowColumns;
+    private final List<Price> keyPrices = new ArrayList<>();
+
+    private final Column brandIds;
+    private final Column productIds;
+    private final Column offsets;
+    private final Column segmentOffsets;
+    private final Column segmentStarts;
+    private final Column segmentEnds;
+    private final Column segmentRows;
+    private final Column ids;
+    private final Column starts;
+    private final Column ends;
+    private final Column priorities;
+    private final Column rateIds;
+    private final Column amounts;
+    private final Column currencyCodes;
+
+    private int keyCount;
+    private int rowCount;
+    private int segmentCount;
+    private int lastBrandId;
+    private int lastProductId;
+    private long lastStart;
+
+    public PriceSnapshotWriter(Path target) throws IOException {
+        this.target = target.toAbsolutePath();
+        this.workDir = Files.createTempDirectory(this.target.getParent(), this.target.getFileName() + ".");
+        this.brandIds = new Column("brand");
+        this.productIds = new Column("product");
+        this.offsets = new Column("offset");
+        this.segmentOffsets = new Column("segment");
+        this.segmentStarts = new Column("segment-start");
+        this.segmentEnds = new Column("segment-end");
+        this.segmentRows = new Column("segment-row");
+        this.ids = new Column("id");
+        this.starts = new Column("start");
+        this.ends = new Column("end");
+        this.priorities = new Column("priority");
+        this.rateIds = new Column("rate");
+        this.amounts = new Column("amount");
+        this.currencyCodes = new Column("currency");
+        this.keyColumns = List.of(brandIds, productIds, offsets, segmentOffsets);
+        this.segmentColumns = List.of(segmentStarts, segmentEnds, segmentRows);
+        this.rowColumns = List.of(ids, starts, ends, priorities, rateIds, amounts, currencyCodes);
+    }
+
+    /**
+     * Appends a price. Prices must arrive sorted by brand, product and start
+     * date.
+     *
+     * @param price the price
+     * @throws IllegalArgumentException if the price is out of order, or the
+     *                                  snapshot already holds
+     *                                  {@link PriceSnapshot#MAX_CURRENCIES}
+     *                                  currencies
+     */
+    public void append(Price price) throws IOException {
+        long start = PriceIntervalIndex.toEpochSecond(price.getStartDate());
+        boolean newKey = rowCount == 0 || price.getBrandId() != lastBrandId || price.getProductId() != lastProductId;
+        if (newKey) {
+            if (rowCount > 0 && compare(price.getBrandId(), price.getProductId(), lastBrandId, lastProductId) < 0) {
+                throw new IllegalArgumentException("Prices must be sorted by brand and product: " + price);
+            }
+            writeSegments();
+            brandIds.out.writeInt(price.getBrandId());
+            productIds.out.writeInt(price.getProductId());
+            offsets.out.writeInt(rowCount);
+            segmentOffsets.out.writeInt(segmentCount);
+            keyCount++;
+        } else if (start < lastStart) {
+            throw new IllegalArgumentException("Prices of a product must be sorted by start date: " + price);
+        }
+
+        ids.out.writeLong(price.getId() == null ? 0L : price.getId());
+        starts.out.writeLong(start);
+        ends.out.writeLong(PriceIntervalIndex.toEpochSecond(price.getEndDate()));
+        priorities.out.writeInt(price.getPriority());
+        rateIds.out.writeInt(price.getRateId());
+        amounts.out.writeLong(price.getValue().minorUnits());
+        currencyCodes.out.writeByte(currency(price.getValue().currency()));
+        keyPrices.add(price);
+
+        lastBrandId = price.getBrandId();
+        lastProductId = price.getProductId();
+        lastStart = start;
+        rowCount++;
+    }
+
+    /**
+     * Writes the snapshot file and replaces the target with it.
+     *
+     * @return the path of the snapshot
+     */
+    public Path finish() throws IOException {
+        writeSegments();
+        offsets.out.writeInt(rowCount);
+        segmentOffsets.out.writeInt(segmentCount);
+        Path file = workDir.resolve("snapshot");
+        try (DataOutputStream header = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(file, StandardOpenOption.CREATE_NEW)))) {
+            header.writeInt(PriceSnapshot.MAGIC);
+            header.writeInt(PriceSnapshot.VERSION);
+            header.writeInt(keyCount);
+            header.writeInt(rowCount);
+            header.writeInt(currencies.size());
+            header.writeInt(segmentCount);
+            for (String currency : currencies.keySet()) {
+                header.write(currency.getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+
+        try (FileChannel output = FileChannel.open(file, StandardOpenOption.APPEND)) {
+            List<Column> columns = new ArrayList<>(keyColumns);
+            columns.addAll(segmentColumns);
+            columns.addAll(rowColumns);
+            for (Column column : columns) {
+                column.out.close();
+                try (FileChannel input = FileChannel.open(column.path, StandardOpenOption.READ)) {
+                    long position = 0;
+                    long size = input.size();
+                    while (position < size) {
+                        position += input.transferTo(position, size - position, output);
+                    }
+                }
+            }
+            output.force(true);
+        }
+
+        Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return target;
+    }
+
+    /**
+     * Deletes the temporary column files.
+     */
+    @Override
+    public void close() throws IOException {
+        for (Column column : keyColumns) {
+            column.delete();
+        }
+        for (Column column : segmentColumns) {
+            column.delete();
+        }
+        for (Column column : rowColumns) {
+            column.delete();
+        }
+        Files.deleteIfExists(workDir.resolve("snapshot"));
+        Files.deleteIfExists(workDir);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Compiles the timeline of the prices of the current product and writes
+     * its segments, pointing at the rows already written for them.
+     */
+    private void writeSegments() throws IOException {
+        if (keyPrices.isEmpty()) {
+            return;
+        }
+        int firstRow = rowCount - keyPrices.size();
+        Map<Price, Integer> rows = new IdentityHashMap<>();
+        for (int i = 0; i < keyPrices.size(); i++) {
+            rows.putIfAbsent(keyPrices.get(i), firstRow + i);
+        }
+        for (PriceSegment segment : PriceTimeline.compile(keyPrices).getSegments()) {
+            segmentStarts.out.writeLong(PriceIntervalIndex.toEpochSecond(segment.startDate()));
+            segmentEnds.out.writeLong(PriceIntervalIndex.toEpochSecond(segment.endDate()));
+            segmentRows.out.writeInt(rows.get(segment.price()));
+            segmentCount++;
+        }
+        keyPrices.clear();
+    }
+
+    private int currency(String code) {
+        if (code.length() != PriceSnapshot.CURRENCY_LENGTH) {
+            throw new IllegalArgumentException("Currency codes must have 3 letters: " + code);
+        }
+        Integer index = currencies.get(code);
+        if (index == null) {
+            if (currencies.size() == PriceSnapshot.MAX_CURRENCIES) {
+                throw new IllegalArgumentException("Too many currencies in snapshot");
+            }
+            index = currencies.size();
+            currencies.put(code, index);
+        }
+        return index;
+    }
+
+    private static int compare(int brandId, int productId, int otherBrandId, int otherProductId) {
+        int byBrand = Integer.compare(brandId, otherBrandId);
+        return byBrand != 0 ? byBrand : Integer.compare(productId, otherProductId);
+    }
+
+    private final class Column {
+        private final Path path;
+        private final DataOutputStream out;
+
+        private Column(String name) throws IOException {
+            this.path = workDir.resolve(name);
+            this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), 1 << 16));
+        }
+
+        private void delete() {
+            try {
+                out.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
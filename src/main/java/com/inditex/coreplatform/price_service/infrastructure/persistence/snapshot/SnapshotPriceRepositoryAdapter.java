@@ -0,0 +1,232 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.snapshot;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceRepositoryAdapter;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceTimelineRefresher;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link IPriceRepository} that answers applicable-price lookups from a
+ * memory-mapped {@link PriceSnapshot}.
+ *
+ * Enabled with {@code price.repository.engine=snapshot}. The snapshot at
+ * {@code price.snapshot.path} is mapped when the adapter is created, and the
+ * application fails to start if it cannot be read. Range queries and
+ * listings are delegated to the R2DBC {@link PriceRepositoryAdapter}.
+ *
+ * The snapshot itself is never modified. The products and brands announced
+ * on the {@link IPriceChangeBus} have their timeline compiled from the R2DBC
+ * repository, and those timelines answer the lookups of their keys instead of
+ * the snapshot until a new snapshot is exported and mapped.
+ *
+ * The snapshot is only mapped at startup, so those timelines are kept for as
+ * long as the application runs. They are bounded by
+ * {@code price.snapshot.max-overrides}: once more keys than that have changed,
+ * the snapshot is considered outdated, the timelines are dropped and every
+ * lookup goes to the R2DBC repository until the application is restarted with
+ * a new snapshot.
+ */
+@Repository
+@Primary
+@ConditionalOnProperty(name = "price.repository.engine", havingValue = "snapshot")
+public class SnapshotPriceRepositoryAdapter implements IPriceRepository {
+
+        private static final Logger log = LoggerFactory.getLogger(SnapshotPriceRepositoryAdapter.class);
+
+        public static final int DEFAULT_MAX_OVERRIDES = 10_000;
+
+        private final PriceRepositoryAdapter fallback;
+        private final PriceSnapshot snapshot;
+        private final ObservationRegistry observationRegistry;
+        private final PriceTimelineRefresher refresher;
+        private final int maxOverrides;
+        private final Map<PriceKey, PriceTimeline> overrides = new ConcurrentHashMap<>();
+        private volatile boolean outdated;
+
+        public SnapshotPriceRepositoryAdapter(PriceRepositoryAdapter fallback, PriceSnapshot snapshot) {
+                this(fallback, snapshot, DEFAULT_MAX_OVERRIDES);
+        }
+
+        public SnapshotPriceRepositoryAdapter(PriceRepositoryAdapter fallback, PriceSnapshot snapshot,
+                        int maxOverrides) {
+                this(fallback, snapshot, ObservationRegistry.NOOP, null, maxOverrides);
+        }
+
+        @Autowired
+        public SnapshotPriceRepositoryAdapter(PriceRepositoryAdapter fallback, ObservationRegistry observationRegistry,
+                        IPriceChangeBus priceChangeBus, @Value("${price.snapshot.path}") Path path,
+                        @Value("${price.snapshot.max-overrides:10000}") int maxOverrides) {
+                this(fallback, open(path), observationRegistry, priceChangeBus, maxOverrides);
+        }
+
+        private SnapshotPriceRepositoryAdapter(PriceRepositoryAdapter fallback, PriceSnapshot snapshot,
+                        ObservationRegistry observationRegistry, IPriceChangeBus priceChangeBus, int maxOverrides) {
+                if (maxOverrides < 0) {
+                        throw new IllegalArgumentException("maxOverrides must not be negative: " + maxOverrides);
+                }
+                this.fallback = fallback;
+                this.snapshot = snapshot;
+                this.observationRegistry = observationRegistry;
+                this.maxOverrides = maxOverrides;
+                this.refresher = priceChangeBus == null ? null : new PriceTimelineRefresher(priceChangeBus, fallback);
+        }
+
+        @EventListener(ApplicationReadyEvent.class)
+        public void onApplicationReady() {
+                if (refresher != null) {
+                        refresher.follow(Mono.empty(), this::refresh);
+                }
+        }
+
+        /**
+         * Answers the lookups of some keys from the given timelines instead of
+         * the snapshot, or, once more than {@code maxOverrides} keys have
+         * changed, every lookup from the R2DBC repository.
+         *
+         * @param timelines the new timelines by key
+         */
+        public void refresh(Map<PriceKey, PriceTimeline> timelines) {
+                if (outdated) {
+                        return;
+                }
+                overrides.putAll(timelines);
+                if (overrides.size() > maxOverrides) {
+                        // Lookups check the flag first, so they never see the snapshot without the timelines
+                        outdated = true;
+                        overrides.clear();
+                        log.warn("More than {} products changed since the price snapshot was exported, "
+                                        + "lookups go to R2DBC until a new snapshot is mapped", maxOverrides);
+                }
+        }
+
+        /**
+         * Whether too many keys have changed since the snapshot was exported
+         * for it to answer lookups.
+         */
+        public boolean isOutdated() {
+                return outdated;
+        }
+
+        @Override
+        public Flux<PriceKey> refreshedKeys() {
+                return refresher == null ? Flux.empty() : refresher.refreshedKeys();
+        }
+
+        @Override
+        public Mono<Price> findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        Integer productId,
+                        Integer brandId,
+                        LocalDateTime startDate,
+                        LocalDateTime endDate) {
+                if (!startDate.equals(endDate) || outdated) {
+                        return fallback
+                                        .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                                                        productId, brandId, startDate, endDate);
+                }
+                return PriceObservations.observe(Mono.fromSupplier(() -> find(brandId, productId, startDate)),
+                                observationRegistry, "snapshot", "applicable", brandId);
+        }
+
+        @Override
+        public Mono<PriceSegment> findApplicableSegment(
+                        Integer productId,
+                        Integer brandId,
+                        LocalDateTime applicationDate) {
+                if (outdated) {
+                        return fallback.findApplicableSegment(productId, brandId, applicationDate);
+                }
+                return PriceObservations.observe(Mono.fromSupplier(() -> findSegment(brandId, productId,
+                                applicationDate)),
+                                observationRegistry, "snapshot", "applicable", brandId);
+        }
+
+        @Override
+        public Flux<PriceLookupResult> findApplicablePrices(List<PriceLookup> lookups) {
+                if (outdated) {
+                        return fallback.findApplicablePrices(lookups);
+                }
+                return PriceObservations.observe(Flux.fromIterable(lookups)
+                                .map(lookup -> new PriceLookupResult(lookup, find(lookup.brandId(), lookup.productId(),
+                                                lookup.applicationDate()))),
+                                observationRegistry, "snapshot", "applicable-batch", null);
+        }
+
+        @Override
+        public Flux<Price> findAll() {
+                return fallback.findAll();
+        }
+
+        @Override
+        public Flux<Price> findAllAfter(Long afterId, Integer limit) {
+                return fallback.findAllAfter(afterId, limit);
+        }
+
+        @Override
+        public Flux<Price> findByFilter(PriceFilter filter, Long afterId, int limit) {
+                return fallback.findByFilter(filter, afterId, limit);
+        }
+
+        private Price find(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+                PriceTimeline timeline = override(brandId, productId);
+                if (timeline == null) {
+                        return snapshot.find(brandId, productId, PriceIntervalIndex.toEpochSecond(applicationDate));
+                }
+                return timeline.segmentAt(applicationDate).map(PriceSegment::price).orElse(null);
+        }
+
+        private PriceSegment findSegment(Integer brandId, Integer productId, LocalDateTime applicationDate) {
+                PriceTimeline timeline = override(brandId, productId);
+                if (timeline == null) {
+                        return snapshot.findSegment(brandId, productId,
+                                        PriceIntervalIndex.toEpochSecond(applicationDate));
+                }
+                return timeline.segmentAt(applicationDate).orElse(null);
+        }
+
+        private PriceTimeline override(Integer brandId, Integer productId) {
+                return overrides.isEmpty() ? null : overrides.get(new PriceKey(brandId, productId));
+        }
+
+        private static PriceSnapshot open(Path path) {
+                long start = System.currentTimeMillis();
+                try {
+                        PriceSnapshot snapshot = PriceSnapshot.open(path);
+                        log.info("Price snapshot {} mapped with {} prices in {} ms", path, snapshot.getRowCount(),
+                                        System.currentTimeMillis() - start);
+                        return snapshot;
+                } catch (IOException e) {
+                        throw new UncheckedIOException("Price snapshot " + path + " could not be opened", e);
+                }
+        }
+}
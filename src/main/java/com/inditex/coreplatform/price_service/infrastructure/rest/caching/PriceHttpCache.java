@@ -0,0 +1,190 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.caching;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.infrastructure.rest.codecs.BinaryPriceFormats;
+
+/**
+ * HTTP validators and freshness of applicable-price responses.
+ *
+ * The entity tag is a strong one: a hash of everything the response body is
+ * made of (brand, product, rate, validity and amount of the winning price),
+ * of the bounds of the effective segment and of the representation, so two
+ * nodes give the same tag to the same bytes. Responses may be cached until
+ * the segment ends, when another price takes over, but for no longer than the
+ * configured maximum age, which bounds how long a catalog change takes to
+ * reach the caches.
+ *
+ * Dates are local date-times, compared with the clock in epoch seconds as if
+ * they were UTC, like the lookup engines do.
+ */
+public class PriceHttpCache {
+
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    public static final String JSON = "json";
+    public static final String CBOR = "cbor";
+    public static final String SMILE = "smile";
+
+    private static final List<MediaType> PRODUCIBLE = List.of(
+            MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, BinaryPriceFormats.APPLICATION_SMILE);
+    private static final List<String> REPRESENTATIONS = List.of(JSON, CBOR, SMILE);
+
+    private final Clock clock;
+    private final long maxAge;
+
+    public PriceHttpCache(Clock clock, Duration maxAge) {
+        if (maxAge.isNegative()) {
+            throw new IllegalArgumentException("'price.http-cache.max-age' must not be negative");
+        }
+        this.clock = clock;
+        this.maxAge = maxAge.toSeconds();
+    }
+
+    /**
+     * Entity tag of the response for a segment.
+     *
+     * @param segment        the effective segment
+     * @param representation {@link #JSON}, {@link #CBOR} or {@link #SMILE}
+     * @return the quoted tag
+     */
+    public String etag(PriceSegment segment, String representation) {
+        Price price = segment.price();
+        return etag(price.getId() == null ? 0 : price.getId(), price.getBrandId(), price.getProductId(),
+                price.getRateId(), toEpochSecond(price.getStartDate()), toEpochSecond(price.getEndDate()),
+                price.getValue().minorUnits(),
+                toEpochSecond(segment.startDate()), toEpochSecond(segment.endDate()), representation);
+    }
+
+    /**
+     * Entity tag of the response for a winning price and its segment, given
+     * as primitives. A price without an ID has ID {@code 0}, as in the
+     * columnar store.
+     *
+     * @return the quoted tag
+     */
+    public String etag(long id, int brandId, int productId, int rateId, long start, long end, long amount,
+            long segmentStart, long segmentEnd, String representation) {
+        long hash = mix(id);
+        hash = mix(hash ^ brandId);
+        hash = mix(hash ^ productId);
+        hash = mix(hash ^ rateId);
+        hash = mix(hash ^ start);
+        hash = mix(hash ^ end);
+        hash = mix(hash ^ amount);
+        hash = mix(hash ^ segmentStart);
+        hash = mix(hash ^ segmentEnd);
+        String hex = Long.toHexString(hash);
+        String suffix = JSON.equals(representation) ? "" : "-" + representation;
+        return "\"" + "0".repeat(16 - hex.length()) + hex + suffix + "\"";
+    }
+
+    /**
+     * {@code Cache-Control} of the response for a segment.
+     */
+    public CacheControl cacheControl(PriceSegment segment) {
+        return cacheControl(toEpochSecond(segment.endDate()));
+    }
+
+    /**
+     * {@code Cache-Control} of the response for a segment that ends at the
+     * given instant, inclusive.
+     *
+     * @param segmentEnd the end of the segment, in epoch seconds
+     */
+    public CacheControl cacheControl(long segmentEnd) {
+        return CacheControl.maxAge(maxAge(segmentEnd), TimeUnit.SECONDS).cachePublic();
+    }
+
+    /**
+     * Seconds until the price of a segment that ends at the given instant may
+     * change: the seconds left in the segment, or the maximum age if the
+     * segment is over, since the response then only changes with the catalog.
+     *
+     * @param segmentEnd the end of the segment, in epoch seconds, inclusive
+     */
+    public long maxAge(long segmentEnd) {
+        long now = LocalDateTime.now(clock).toEpochSecond(ZoneOffset.UTC);
+        return segmentEnd < now ? maxAge : Math.min(maxAge, segmentEnd + 1 - now);
+    }
+
+    /**
+     * Representation that content negotiation picks for an {@code Accept}
+     * header among the ones of {@code GET /api/prices/applicable}: the first
+     * one compatible with the most specific, highest quality, acceptable type.
+     *
+     * @param accept the header, or {@code null}
+     * @return {@link #JSON}, {@link #CBOR} or {@link #SMILE}
+     */
+    public static String representation(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            for (int i = 0; i < PRODUCIBLE.size(); i++) {
+                if (type.isCompatibleWith(PRODUCIBLE.get(i))) {
+                    return REPRESENTATIONS.get(i);
+                }
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * Whether an {@code If-None-Match} header matches an entity tag, with the
+     * weak comparison RFC 9110 prescribes for it.
+     *
+     * @param ifNoneMatch the header, or {@code null}
+     * @param etag        the quoted tag
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Stafford's variant 13 of the MurmurHash3 finalizer.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
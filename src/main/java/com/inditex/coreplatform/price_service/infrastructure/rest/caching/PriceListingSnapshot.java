@@ -0,0 +1,145 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.caching;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+/**
+ * The JSON body of {@code GET /api/prices} at one catalog version, serialized
+ * once and kept in direct memory both as is and gzip-compressed.
+ *
+ * The buffers are read-only and every {@link #body(boolean)} is a duplicate
+ * of one of them, so any number of responses can be written from the same
+ * bytes at the same time without copying them.
+ */
+public final class PriceListingSnapshot {
+
+    private final String etag;
+    private final int rowCount;
+    private final ByteBuffer identity;
+    private final ByteBuffer gzip;
+
+    private PriceListingSnapshot(String etag, int rowCount, ByteBuffer identity, ByteBuffer gzip) {
+        this.etag = etag;
+        this.rowCount = rowCount;
+        this.identity = identity;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Serializes a listing. The JSON is the one the controller writes for the
+     * same prices, and the gzip stream is compressed at the default level:
+     * higher levels take several times longer to build for a few percent
+     * less, and a bulk import may change the version many times.
+     *
+     * @param etag   the entity tag of the catalog version the prices were read at
+     * @param prices the listing
+     * @param writer the writer of the WebFlux JSON codec
+     * @return the snapshot
+     */
+    public static PriceListingSnapshot build(String etag, List<PriceResponse> prices, ObjectWriter writer) {
+        Builder builder = builder(etag, writer);
+        prices.forEach(builder::append);
+        return builder.build();
+    }
+
+    /**
+     * Starts a listing that is serialized as its prices are appended, so they
+     * need not be held until the end, as {@link #build} does.
+     *
+     * @param etag   the entity tag of the catalog version the prices are read at
+     * @param writer the writer of the WebFlux JSON codec
+     * @return the builder
+     */
+    public static Builder builder(String etag, ObjectWriter writer) {
+        return new Builder(etag, writer);
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * The bytes of the body, from position zero to the limit.
+     *
+     * @param gzip whether the gzip-compressed body is wanted
+     * @return a read-only view that the caller may consume
+     */
+    public ByteBuffer body(boolean gzip) {
+        return (gzip ? this.gzip : identity).duplicate();
+    }
+
+    public int getIdentitySize() {
+        return identity.capacity();
+    }
+
+    public int getGzipSize() {
+        return gzip.capacity();
+    }
+
+    /**
+     * A listing being serialized. Not thread-safe: prices are appended one at
+     * a time, in listing order.
+     */
+    public static final class Builder {
+
+        private final String etag;
+        private final ByteArrayOutputStream json = new ByteArrayOutputStream();
+        private final SequenceWriter array;
+        private int rowCount;
+
+        private Builder(String etag, ObjectWriter writer) {
+            this.etag = etag;
+            try {
+                this.array = writer.writeValuesAsArray(json);
+            } catch (IOException e) {
+                throw new IllegalStateException("Price listing could not be serialized", e);
+            }
+        }
+
+        public Builder append(PriceResponse price) {
+            try {
+                array.write(price);
+            } catch (IOException e) {
+                throw new IllegalStateException("Price listing could not be serialized", e);
+            }
+            rowCount++;
+            return this;
+        }
+
+        public PriceListingSnapshot build() {
+            try {
+                array.close();
+            } catch (IOException e) {
+                throw new IllegalStateException("Price listing could not be serialized", e);
+            }
+            byte[] bytes = json.toByteArray();
+            return new PriceListingSnapshot(etag, rowCount, toDirect(bytes), toDirect(gzip(bytes)));
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ByteBuffer toDirect(byte[] bytes) {
+        return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+    }
+}
@@ -0,0 +1,165 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.caching;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceCatalogVersion;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Keeps a {@link PriceListingSnapshot} of the catalog at its current
+ * {@link PriceCatalogVersion}.
+ *
+ * The first snapshot is built once the catalog version is known, and a new one
+ * in the background when the version changes, never two at a time. After a
+ * rebuild the next one waits for the rebuild delay, or for the rebuild cost
+ * factor times the duration of the last rebuild if that is longer, so a bulk
+ * import that changes the version on every batch costs a bounded share of a
+ * core however large the catalog, and the versions seen meanwhile are
+ * coalesced into the latest. The catalog version is read before the catalog,
+ * so a snapshot is never tagged with a version newer than its content. Until
+ * the snapshot of the current version is built, {@link #current()} returns
+ * {@code null} and the listing is served by the controller. A failed rebuild
+ * is logged and retried on the next version.
+ *
+ * A rebuild serializes the prices as they are read instead of collecting
+ * them, so the heap only holds the JSON bytes of the catalog, and then their
+ * gzip copy, until both are moved to direct memory: about 13.5 MB and 0.8 MB
+ * for 100k prices, on top of the previous snapshot while it is served.
+ */
+public class PriceListingSnapshotCache implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceListingSnapshotCache.class);
+
+    public static final Duration DEFAULT_REBUILD_DELAY = Duration.ofSeconds(5);
+    public static final int DEFAULT_REBUILD_COST_FACTOR = 10;
+
+    private final GetPricesUseCase getPricesUseCase;
+    private final PriceMapper priceMapper;
+    private final ObjectWriter writer;
+    private final PriceCatalogVersion priceCatalogVersion;
+    private final Duration rebuildDelay;
+    private final int rebuildCostFactor;
+
+    private final AtomicReference<PriceListingSnapshot> snapshot = new AtomicReference<>();
+    private final LongAdder rebuilds = new LongAdder();
+    private volatile Duration lastRebuild = Duration.ZERO;
+    private Disposable subscription;
+
+    public PriceListingSnapshotCache(GetPricesUseCase getPricesUseCase, PriceMapper priceMapper,
+            ObjectMapper objectMapper, PriceCatalogVersion priceCatalogVersion, Duration rebuildDelay,
+            int rebuildCostFactor) {
+        this.getPricesUseCase = getPricesUseCase;
+        this.priceMapper = priceMapper;
+        this.writer = objectMapper.writer();
+        this.priceCatalogVersion = priceCatalogVersion;
+        this.rebuildDelay = rebuildDelay;
+        this.rebuildCostFactor = rebuildCostFactor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        start();
+    }
+
+    /**
+     * Builds the first snapshot and starts following the catalog versions.
+     * Does nothing if already started.
+     */
+    public synchronized void start() {
+        if (subscription != null) {
+            return;
+        }
+        subscription = priceCatalogVersion.versions()
+                .onBackpressureLatest()
+                .concatMap(ignored -> rebuild().then(Mono.defer(() -> Mono.delay(nextRebuildDelay()))), 1)
+                .subscribe();
+    }
+
+    /**
+     * The snapshot of the current catalog version.
+     *
+     * @return the snapshot, or {@code null} if it is not built yet
+     */
+    public PriceListingSnapshot current() {
+        PriceListingSnapshot latest = snapshot.get();
+        return latest != null && latest.getEtag().equals(priceCatalogVersion.etag()) ? latest : null;
+    }
+
+    /**
+     * The last snapshot built, which may be of an older catalog version.
+     *
+     * @return the snapshot, or {@code null} if none has been built yet
+     */
+    public PriceListingSnapshot latest() {
+        return snapshot.get();
+    }
+
+    public long getRebuildCount() {
+        return rebuilds.sum();
+    }
+
+    /**
+     * Size of the last snapshot, in bytes, or 0 if none has been built yet.
+     *
+     * @param gzip whether the size of the gzip-compressed body is wanted
+     */
+    public long getSize(boolean gzip) {
+        PriceListingSnapshot latest = snapshot.get();
+        if (latest == null) {
+            return 0;
+        }
+        return gzip ? latest.getGzipSize() : latest.getIdentitySize();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    private Duration nextRebuildDelay() {
+        Duration adaptive = lastRebuild.multipliedBy(rebuildCostFactor);
+        return adaptive.compareTo(rebuildDelay) > 0 ? adaptive : rebuildDelay;
+    }
+
+    private Mono<PriceListingSnapshot> rebuild() {
+        return Mono.defer(() -> {
+            String etag = priceCatalogVersion.etag();
+            long start = System.nanoTime();
+            return getPricesUseCase.execute()
+                    .map(priceMapper::toResponse)
+                    .publishOn(Schedulers.boundedElastic())
+                    .reduceWith(() -> PriceListingSnapshot.builder(etag, writer), PriceListingSnapshot.Builder::append)
+                    .map(PriceListingSnapshot.Builder::build)
+                    .doOnNext(built -> {
+                        snapshot.set(built);
+                        rebuilds.increment();
+                        lastRebuild = Duration.ofNanos(System.nanoTime() - start);
+                        log.info("Price listing snapshot {} built in {} ms: {} rows, {} bytes, {} bytes gzip",
+                                etag, lastRebuild.toMillis(), built.getRowCount(), built.getIdentitySize(),
+                                built.getGzipSize());
+                    })
+                    .onErrorResume(e -> {
+                        log.warn("Price listing snapshot {} could not be built, the controller serves the listing",
+                                etag, e);
+                        return Mono.empty();
+                    });
+        });
+    }
+}
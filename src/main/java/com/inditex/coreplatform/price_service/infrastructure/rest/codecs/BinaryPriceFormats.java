@@ -0,0 +1,73 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.codecs;
+
+import java.time.LocalDateTime;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.json.DecimalMoneySerializer;
+import com.inditex.coreplatform.price_service.infrastructure.rest.json.EpochSecondLocalDateTimeDeserializer;
+import com.inditex.coreplatform.price_service.infrastructure.rest.json.EpochSecondLocalDateTimeSerializer;
+
+/**
+ * Compact binary encodings of the price responses, negotiated with the
+ * {@code Accept} and {@code Content-Type} headers: CBOR
+ * ({@code application/cbor}) and Smile ({@code application/x-jackson-smile}).
+ *
+ * Both go through Jackson with the same DTOs and annotations as JSON, except
+ * that dates are written as seconds since the epoch instead of ISO-8601
+ * strings and amounts as decimal fractions ({@link DecimalMoneySerializer}).
+ * The Jackson data formats are runtime dependencies; a format whose factory is
+ * not on the classpath is not offered.
+ */
+public final class BinaryPriceFormats {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    private static final ClassLoader CLASS_LOADER = BinaryPriceFormats.class.getClassLoader();
+
+    public static final boolean CBOR_PRESENT =
+            ClassUtils.isPresent("com.fasterxml.jackson.dataformat.cbor.CBORFactory", CLASS_LOADER);
+    public static final boolean SMILE_PRESENT =
+            ClassUtils.isPresent("com.fasterxml.jackson.dataformat.smile.SmileFactory", CLASS_LOADER);
+
+    private BinaryPriceFormats() {
+    }
+
+    public static ObjectMapper cborObjectMapper() {
+        return configure(Jackson2ObjectMapperBuilder.cbor());
+    }
+
+    public static ObjectMapper smileObjectMapper() {
+        return configure(Jackson2ObjectMapperBuilder.smile());
+    }
+
+    private static ObjectMapper configure(Jackson2ObjectMapperBuilder builder) {
+        // Installed after the JSR-310 module, so these replace its LocalDateTime serializers
+        return builder
+                .modulesToInstall(new SimpleModule("EpochSecondDates")
+                        .addSerializer(LocalDateTime.class, new EpochSecondLocalDateTimeSerializer())
+                        .addDeserializer(LocalDateTime.class, new EpochSecondLocalDateTimeDeserializer()),
+                        new SimpleModule("DecimalMoney")
+                                .addSerializer(Money.class, new DecimalMoneySerializer())
+                                .setMixInAnnotation(PriceResponse.class, DecimalMoneyPriceResponse.class))
+                .build();
+    }
+
+    /**
+     * Clears the JSON serializer annotated on the price of {@link PriceResponse},
+     * which would take precedence over the one registered for {@link Money}.
+     */
+    private abstract static class DecimalMoneyPriceResponse {
+        @JsonSerialize(using = JsonSerializer.None.class)
+        private Money price;
+    }
+}
@@ -1,24 +1,53 @@
 package com.inditex.coreplatform.price_service.infrastructure.rest.controllers;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
 import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePricesUseCase;
 import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.SearchPricesUseCase;
 import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePricesQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetPricesQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.SearchPricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceCatalogVersion;
 import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceHttpCache;
+import com.inditex.coreplatform.price_service.infrastructure.rest.codecs.BinaryPriceFormats;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceRequest;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PricePageResponse;
 import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
 
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -27,41 +56,173 @@ import reactor.core.publisher.Mono;
 @RequestMapping("/api/prices")
 public class PriceController {
 
+    public static final int MAX_BATCH_SIZE = 200;
+    public static final int MAX_SEARCH_PRODUCT_IDS = 1000;
+
     private final GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private final GetApplicablePricesUseCase getApplicablePricesUseCase;
     private final GetPricesUseCase getPricesUseCase;
+    private final SearchPricesUseCase searchPricesUseCase;
     private final PriceMapper priceMapper;
+    private final ObservationRegistry observationRegistry;
+    private final PriceHttpCache priceHttpCache;
+    private final PriceCatalogVersion priceCatalogVersion;
 
     public PriceController(GetApplicablePriceUseCase getApplicablePriceUseCase,
+            GetApplicablePricesUseCase getApplicablePricesUseCase,
             GetPricesUseCase getPricesUseCase,
-            PriceMapper priceMapper) {
+            SearchPricesUseCase searchPricesUseCase,
+            PriceMapper priceMapper,
+            ObservationRegistry observationRegistry,
+            PriceHttpCache priceHttpCache,
+            PriceCatalogVersion priceCatalogVersion) {
         this.getApplicablePriceUseCase = getApplicablePriceUseCase;
+        this.getApplicablePricesUseCase = getApplicablePricesUseCase;
         this.getPricesUseCase = getPricesUseCase;
+        this.searchPricesUseCase = searchPricesUseCase;
         this.priceMapper = priceMapper;
+        this.observationRegistry = observationRegistry;
+        this.priceHttpCache = priceHttpCache;
+        this.priceCatalogVersion = priceCatalogVersion;
     }
 
+    /**
+     * Lists the whole catalog. The entity tag is the catalog version, read
+     * before the catalog, so a matching {@code If-None-Match} is answered with
+     * 304 without reading it. Only the first price is waited for to tell an
+     * empty catalog (404) apart; the body streams the rest as it is read.
+     *
+     * The listing is JSON only: the CBOR encoder cannot write a stream, and the
+     * Smile one would join its elements with JSON array brackets. Binary
+     * callers page through the NDJSON stream or look prices up instead.
+     */
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
-    public Mono<ResponseEntity<Flux<PriceResponse>>> getPrices() {
-        Flux<PriceResponse> pricesResponse = getPricesUseCase.execute()
+    public Mono<ResponseEntity<Flux<PriceResponse>>> getPrices(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        String etag = priceCatalogVersion.etag();
+        if (etag != null && PriceHttpCache.matches(ifNoneMatch, etag)) {
+            return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .build());
+        }
+        // The source must outlive the response Flux: the body subscribes to it afterwards
+        return getPricesUseCase.execute()
+                .map(priceMapper::toResponse)
+                .<ResponseEntity<Flux<PriceResponse>>>switchOnFirst((first, prices) -> {
+                    if (first.isOnError()) {
+                        // A failed read is a 500 from GlobalExceptionHandler, not an empty catalog
+                        return Flux.error(first.getThrowable());
+                    }
+                    return Flux.just(first.hasValue()
+                            ? listingResponse(etag).body(prices)
+                            : ResponseEntity.notFound().build());
+                }, false)
+                .single();
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PriceResponse> streamPrices(
+            @RequestParam(value = "afterId", required = false) @PositiveOrZero Long afterId,
+            @RequestParam(value = "limit", required = false) @Positive(message = "must be a positive integer") Integer limit) {
+
+        return getPricesUseCase.execute(new GetPricesQuery(afterId, limit))
                 .map(priceMapper::toResponse);
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<PriceResponse>> streamPriceEvents(
+            @RequestParam(value = "afterId", required = false) @PositiveOrZero Long afterId,
+            @RequestParam(value = "limit", required = false) @Positive(message = "must be a positive integer") Integer limit,
+            @RequestHeader(value = "Last-Event-ID", required = false) @PositiveOrZero Long lastEventId) {
+
+        Long cursor = afterId != null ? afterId : lastEventId;
+        return getPricesUseCase.execute(new GetPricesQuery(cursor, limit))
+                .map(price -> ServerSentEvent.builder(priceMapper.toResponse(price))
+                        .id(String.valueOf(price.getId()))
+                        .event("price")
+                        .build());
+    }
+
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PricePageResponse> searchPrices(
+            @RequestParam(value = "brandId", required = false) @Positive(message = "must be a positive integer") Integer brandId,
+            @RequestParam(value = "productId", required = false) @Size(max = MAX_SEARCH_PRODUCT_IDS) Set<@Positive(message = "must be a positive integer") Integer> productIds,
+            @RequestParam(value = "validFrom", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime validFrom,
+            @RequestParam(value = "validTo", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime validTo,
+            @RequestParam(value = "afterId", required = false) @PositiveOrZero Long afterId,
+            @RequestParam(value = "limit", required = false) @Positive(message = "must be a positive integer") @Max(SearchPricesUseCase.MAX_PAGE_SIZE) Integer limit) {
+
+        SearchPricesQuery query = new SearchPricesQuery(brandId, productIds, validFrom, validTo, afterId, limit);
 
-        return pricesResponse.hasElements()
-                .flatMap(has -> Mono.just(
-                        Boolean.TRUE.equals(has)
-                                ? ResponseEntity.ok(pricesResponse)
-                                : ResponseEntity.notFound().build()));
+        return PriceObservations.observe(searchPricesUseCase.execute(query)
+                .map(page -> new PricePageResponse(
+                        page.items().stream().map(priceMapper::toResponse).toList(),
+                        page.nextCursor())), observationRegistry, "controller", "search", brandId);
     }
 
-    @GetMapping(value = "/applicable", produces = MediaType.APPLICATION_JSON_VALUE)
+    @GetMapping(value = "/applicable", produces = {
+            MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE,
+            BinaryPriceFormats.APPLICATION_SMILE_VALUE })
     public Mono<ResponseEntity<PriceResponse>> getApplicablePrice(
             @RequestParam("productId") @NotNull @Positive(message = "must be a positive integer") Integer productId,
             @RequestParam("brandId") @NotNull @Positive(message = "must be a positive integer") Integer brandId,
-            @RequestParam("applicationDate") @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate) {
+            @RequestParam("applicationDate") @NotNull @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime applicationDate,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
 
         GetApplicablePriceQuery query = new GetApplicablePriceQuery(productId, brandId, applicationDate);
 
-        return getApplicablePriceUseCase.execute(query)
-                .map(priceMapper::toResponse)
-                .map(ResponseEntity::ok)
+        // A matching If-None-Match turns the response into a 304 in the result handler
+        return PriceObservations.observe(getApplicablePriceUseCase.executeSegment(query)
+                .map(segment -> toApplicableResponse(segment, accept)),
+                observationRegistry, "controller", "applicable", brandId)
                 .switchIfEmpty(Mono.just(ResponseEntity.notFound().build()));
     }
+
+    @PostMapping(value = "/applicable:batch",
+            consumes = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE,
+                    BinaryPriceFormats.APPLICATION_SMILE_VALUE },
+            produces = {
+                    MediaType.APPLICATION_JSON_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE,
+                    BinaryPriceFormats.APPLICATION_SMILE_VALUE })
+    public Flux<ApplicablePriceBatchResponse> getApplicablePrices(
+            @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE) List<@Valid @NotNull ApplicablePriceRequest> lookups) {
+
+        GetApplicablePricesQuery query = new GetApplicablePricesQuery(lookups.stream()
+                .map(lookup -> new GetApplicablePriceQuery(lookup.productId(), lookup.brandId(),
+                        lookup.applicationDate()))
+                .toList());
+
+        return PriceObservations.observe(getApplicablePricesUseCase.execute(query)
+                .map(this::toBatchResponse), observationRegistry, "controller", "applicable-batch", null);
+    }
+
+    private static ResponseEntity.BodyBuilder listingResponse(String etag) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        // No tag until the catalog version has been read
+        return etag != null ? response.eTag(etag) : response;
+    }
+
+    private ResponseEntity<PriceResponse> toApplicableResponse(PriceSegment segment, String accept) {
+        return ResponseEntity.ok()
+                .eTag(priceHttpCache.etag(segment, PriceHttpCache.representation(accept)))
+                .cacheControl(priceHttpCache.cacheControl(segment))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(priceMapper.toResponse(segment.price()));
+    }
+
+    private ApplicablePriceBatchResponse toBatchResponse(PriceLookupResult result) {
+        HttpStatus status = result.isFound() ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        return new ApplicablePriceBatchResponse(
+                result.lookup().productId(),
+                result.lookup().brandId(),
+                result.lookup().applicationDate(),
+                status.value(),
+                priceMapper.toResponse(result.price()));
+    }
 }
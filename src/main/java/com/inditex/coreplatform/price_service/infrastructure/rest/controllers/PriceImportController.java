@@ -0,0 +1,60 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.inditex.coreplatform.price_service.application.usecases.ImportPricesUseCase;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportReport;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceImportResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.parsers.PriceImportLineParser;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bulk price ingestion. The body is decoded line by line as it arrives, so
+ * the file is never held in memory.
+ */
+@RestController
+public class PriceImportController {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final ImportPricesUseCase importPricesUseCase;
+    private final PriceImportLineParser parser;
+
+    public PriceImportController(ImportPricesUseCase importPricesUseCase, PriceImportLineParser parser) {
+        this.importPricesUseCase = importPricesUseCase;
+        this.parser = parser;
+    }
+
+    @PostMapping(value = "/api/prices:import",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PriceImportResponse> importNdjson(@RequestBody Flux<String> lines) {
+        return importPricesUseCase.execute(parser.parseNdjson(lines))
+                .map(PriceImportController::toResponse);
+    }
+
+    @PostMapping(value = "/api/prices:import",
+            consumes = TEXT_CSV_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<PriceImportResponse> importCsv(@RequestBody Flux<String> lines) {
+        return importPricesUseCase.execute(parser.parseCsv(lines))
+                .map(PriceImportController::toResponse);
+    }
+
+    private static PriceImportResponse toResponse(PriceImportReport report) {
+        return new PriceImportResponse(
+                report.accepted(),
+                report.rejected(),
+                report.elapsedMillis(),
+                report.rowsPerSecond(),
+                report.rejects().stream()
+                        .map(reject -> new PriceImportResponse.Reject(reject.lineNumber(), reject.reason()))
+                        .toList(),
+                report.isRejectsTruncated());
+    }
+}
@@ -0,0 +1,18 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Result of one item of a batch lookup. {@code status} is 200 when a price
+ * applies and 404 otherwise, in which case {@code price} is omitted.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApplicablePriceBatchResponse(
+    Integer productId,
+    Integer brandId,
+    LocalDateTime applicationDate,
+    int status,
+    PriceResponse price
+) {}
@@ -0,0 +1,12 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+public record ApplicablePriceRequest(
+    @NotNull @Positive(message = "must be a positive integer") Integer productId,
+    @NotNull @Positive(message = "must be a positive integer") Integer brandId,
+    @NotNull LocalDateTime applicationDate
+) {}
@@ -0,0 +1,23 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.infrastructure.rest.json.MoneyJsonDeserializer;
+
+/**
+ * One NDJSON line of a bulk price import. {@code price} is read without a
+ * currency; the line's {@code currency} is attached when it is mapped to the
+ * domain.
+ */
+public record PriceImportRequest(
+    Integer brandId,
+    Integer productId,
+    Integer rateId,
+    Integer priority,
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    @JsonDeserialize(using = MoneyJsonDeserializer.class) Money price,
+    String currency
+) {}
@@ -0,0 +1,21 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos;
+
+import java.util.List;
+
+/**
+ * Report of a bulk price import. {@code rejects} lists the first rejected
+ * lines; {@code rejectsTruncated} is {@code true} when there were more.
+ */
+public record PriceImportResponse(
+    long accepted,
+    long rejected,
+    long elapsedMillis,
+    double rowsPerSecond,
+    List<Reject> rejects,
+    boolean rejectsTruncated
+) {
+    public record Reject(
+        long line,
+        String reason
+    ) {}
+}
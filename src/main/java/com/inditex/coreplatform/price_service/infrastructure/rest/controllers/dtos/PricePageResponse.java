@@ -0,0 +1,12 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos;
+
+import java.util.List;
+
+/**
+ * Page of prices. {@code nextCursor} is the value to send as {@code afterId}
+ * to read the next page, or {@code null} on the last page.
+ */
+public record PricePageResponse(
+    List<PriceResponse> items,
+    Long nextCursor
+) {}
@@ -2,6 +2,13 @@ package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.d
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.infrastructure.rest.json.MoneyJsonDeserializer;
+import com.inditex.coreplatform.price_service.infrastructure.rest.json.MoneyJsonSerializer;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,11 +18,15 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PriceResponse {
+    private Long id;
     private Integer productId;
     private Integer brandId;
     private Integer rateId;
     private LocalDateTime startDate;
     private LocalDateTime endDate;
-    private Double price;
+    @JsonSerialize(using = MoneyJsonSerializer.class)
+    @JsonDeserialize(using = MoneyJsonDeserializer.class)
+    private Money price;
 }
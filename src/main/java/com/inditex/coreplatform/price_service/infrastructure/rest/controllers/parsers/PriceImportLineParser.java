@@ -0,0 +1,124 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.parsers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.function.BiFunction;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportLine;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceImportRequest;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Turns the lines of an NDJSON or CSV import body into
+ * {@link PriceImportLine}s, one line at a time. Lines that cannot be parsed
+ * are emitted with the reason instead of failing the import, and blank lines
+ * are skipped.
+ *
+ * CSV lines follow the column order of {@link #CSV_HEADER}; a first line
+ * starting with a letter is taken as the header and skipped. Dates may use
+ * either a {@code T} or a space between date and time.
+ */
+@Component
+public class PriceImportLineParser {
+
+    public static final String CSV_HEADER = "brandId,startDate,endDate,rateId,productId,priority,price,currency";
+
+    private static final String[] CSV_COLUMNS = CSV_HEADER.split(",");
+
+    private final ObjectReader reader;
+
+    public PriceImportLineParser(ObjectMapper objectMapper) {
+        this.reader = objectMapper.readerFor(PriceImportRequest.class);
+    }
+
+    public Flux<PriceImportLine> parseNdjson(Flux<String> lines) {
+        return parse(lines, this::parseJson, false);
+    }
+
+    public Flux<PriceImportLine> parseCsv(Flux<String> lines) {
+        return parse(lines, PriceImportLineParser::parseCsv, true);
+    }
+
+    private static Flux<PriceImportLine> parse(Flux<String> lines, BiFunction<Long, String, PriceImportLine> parser,
+            boolean skipHeader) {
+        return lines
+                .index()
+                .filter(line -> !line.getT2().isBlank())
+                .filter(line -> !(skipHeader && line.getT1() == 0 && isHeader(line.getT2())))
+                .map(line -> parser.apply(line.getT1() + 1, line.getT2()));
+    }
+
+    private static boolean isHeader(String line) {
+        return Character.isLetter(line.strip().charAt(0));
+    }
+
+    private PriceImportLine parseJson(long lineNumber, String line) {
+        try {
+            PriceImportRequest request = reader.readValue(line);
+            return PriceImportLine.parsed(lineNumber, Price.builder()
+                    .brandId(request.brandId())
+                    .productId(request.productId())
+                    .rateId(request.rateId())
+                    .priority(request.priority())
+                    .startDate(request.startDate())
+                    .endDate(request.endDate())
+                    .value(request.price() == null ? null : request.price().withCurrency(request.currency()))
+                    .build());
+        } catch (JsonProcessingException e) {
+            return PriceImportLine.malformed(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private static PriceImportLine parseCsv(long lineNumber, String line) {
+        String[] columns = line.split(",", -1);
+        if (columns.length != CSV_COLUMNS.length) {
+            return PriceImportLine.malformed(lineNumber,
+                    String.format("Expected %d columns but found %d.", CSV_COLUMNS.length, columns.length));
+        }
+        int column = 0;
+        try {
+            Price.PriceBuilder price = Price.builder();
+            price.brandId(integer(columns[column]));
+            price.startDate(dateTime(columns[++column]));
+            price.endDate(dateTime(columns[++column]));
+            price.rateId(integer(columns[++column]));
+            price.productId(integer(columns[++column]));
+            price.priority(integer(columns[++column]));
+            Money amount = money(columns[++column]);
+            String currency = text(columns[++column]);
+            price.value(amount == null ? null : amount.withCurrency(currency));
+            return PriceImportLine.parsed(lineNumber, price.build());
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return PriceImportLine.malformed(lineNumber,
+                    String.format("Invalid value '%s' for '%s'.", columns[column].strip(), CSV_COLUMNS[column]));
+        }
+    }
+
+    private static String text(String value) {
+        String stripped = value.strip();
+        return stripped.isEmpty() ? null : stripped;
+    }
+
+    private static Integer integer(String value) {
+        String text = text(value);
+        return text == null ? null : Integer.valueOf(text);
+    }
+
+    private static Money money(String value) {
+        String text = text(value);
+        return text == null ? null : Money.parse(text, null);
+    }
+
+    private static LocalDateTime dateTime(String value) {
+        String text = text(value);
+        return text == null ? null : LocalDateTime.parse(text.replace(' ', 'T'));
+    }
+}
@@ -0,0 +1,206 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.handlers;
+
+import java.util.List;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceRepositoryAdapter;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceStore;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceHttpCache;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.PriceController;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers {@code GET /api/prices/applicable} straight from the
+ * {@link ColumnarPriceStore}, without the use case, the price service or
+ * Jackson.
+ *
+ * The query parameters are parsed to primitives, the winning row is looked up
+ * in place and its JSON is written by {@link ApplicablePriceJsonWriter} into
+ * a buffer from the server's pooled allocator. Only requests the fast path
+ * can answer exactly like {@link PriceController} are
+ * {@linkplain #accepts(ServerRequest) accepted}; anything else, including
+ * every request that ends in a validation error, is left to the controller.
+ *
+ * The response carries the same {@code ETag} and {@code Cache-Control} as the
+ * controller's JSON one, and a matching {@code If-None-Match} is answered with
+ * 304 before any buffer is allocated.
+ */
+public class ApplicablePriceFastPathHandler implements HandlerFunction<ServerResponse> {
+
+    public static final String PATH = "/api/prices/applicable";
+
+    /**
+     * Returned by the parse methods for a value the fast path does not accept.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final String PRODUCT_ID = "productId";
+    private static final String BRAND_ID = "brandId";
+    private static final String APPLICATION_DATE = "applicationDate";
+
+    private static final int DATE_TIME_LENGTH = "yyyy-MM-ddTHH:mm:ss".length();
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_ERA = 146_097;
+
+    private final ColumnarPriceRepositoryAdapter repository;
+    private final PriceHttpCache priceHttpCache;
+
+    public ApplicablePriceFastPathHandler(ColumnarPriceRepositoryAdapter repository, PriceHttpCache priceHttpCache) {
+        this.repository = repository;
+        this.priceHttpCache = priceHttpCache;
+    }
+
+    /**
+     * Whether the fast path answers a request: the columnar store is loaded,
+     * and {@code productId}, {@code brandId} and {@code applicationDate} are
+     * each given once, the IDs as positive integers and the date as
+     * {@code yyyy-MM-ddTHH:mm:ss}.
+     *
+     * @param request the request
+     * @return {@code true} if the request is answered by {@link #handle}
+     */
+    public boolean accepts(ServerRequest request) {
+        if (repository.getStore() == null) {
+            return false;
+        }
+        MultiValueMap<String, String> params = request.queryParams();
+        return parseId(single(params, PRODUCT_ID)) != INVALID
+                && parseId(single(params, BRAND_ID)) != INVALID
+                && parseDateTime(single(params, APPLICATION_DATE)) != INVALID;
+    }
+
+    @Override
+    public Mono<ServerResponse> handle(ServerRequest request) {
+        MultiValueMap<String, String> params = request.queryParams();
+        int productId = (int) parseId(params.getFirst(PRODUCT_ID));
+        int brandId = (int) parseId(params.getFirst(BRAND_ID));
+        long epochSecond = parseDateTime(params.getFirst(APPLICATION_DATE));
+
+        ColumnarPriceStore store = repository.getStore();
+        int segment = store.findSegment(brandId, productId, epochSecond);
+        if (segment < 0) {
+            return ServerResponse.notFound().build();
+        }
+        int row = store.segmentRow(segment);
+
+        String etag = priceHttpCache.etag(store.rowId(row), brandId, productId, store.rowRateId(row),
+                store.rowStart(row), store.rowEnd(row), store.rowAmount(row), store.segmentStart(segment),
+                store.segmentEnd(segment), PriceHttpCache.JSON);
+        if (PriceHttpCache.matches(request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(priceHttpCache.cacheControl(store.segmentEnd(segment)))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
+
+        DataBuffer buffer = request.exchange().getResponse().bufferFactory()
+                .allocateBuffer(ApplicablePriceJsonWriter.MAX_LENGTH);
+        ApplicablePriceJsonWriter.write(buffer, store, row, brandId, productId);
+        return ServerResponse.ok()
+                .eTag(etag)
+                .cacheControl(priceHttpCache.cacheControl(store.segmentEnd(segment)))
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(buffer.readableByteCount())
+                .body(BodyInserters.fromDataBuffers(Mono.just(buffer)));
+    }
+
+    /**
+     * Parses a positive {@code int} written in decimal digits only.
+     *
+     * @param value the value
+     * @return the number, or {@link #INVALID}
+     */
+    public static long parseId(String value) {
+        if (value == null || value.isEmpty()) {
+            return INVALID;
+        }
+        long result = 0;
+        for (int i = 0; i < value.length(); i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return INVALID;
+            }
+            result = result * 10 + digit;
+            if (result > Integer.MAX_VALUE) {
+                return INVALID;
+            }
+        }
+        return result > 0 ? result : INVALID;
+    }
+
+    /**
+     * Parses a local date-time written as {@code yyyy-MM-ddTHH:mm:ss} into
+     * epoch seconds, UTC, the day number being computed as in
+     * {@link java.time.LocalDate#toEpochDay()}.
+     *
+     * @param value the value
+     * @return the instant, or {@link #INVALID}
+     */
+    public static long parseDateTime(String value) {
+        if (value == null || value.length() != DATE_TIME_LENGTH
+                || value.charAt(4) != '-' || value.charAt(7) != '-' || value.charAt(10) != 'T'
+                || value.charAt(13) != ':' || value.charAt(16) != ':') {
+            return INVALID;
+        }
+        int year = digits(value, 0, 4);
+        int month = digits(value, 5, 2);
+        int day = digits(value, 8, 2);
+        int hour = digits(value, 11, 2);
+        int minute = digits(value, 14, 2);
+        int second = digits(value, 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return INVALID;
+        }
+
+        long marchYear = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(marchYear, 400);
+        long yearOfEra = marchYear - era * 400;
+        long dayOfYear = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long epochDay = era * DAYS_PER_ERA + dayOfEra - DAYS_0000_TO_1970;
+        return epochDay * SECONDS_PER_DAY + hour * 3600L + minute * 60L + second;
+    }
+
+    private static String single(MultiValueMap<String, String> params, String name) {
+        List<String> values = params.get(name);
+        return values != null && values.size() == 1 ? values.get(0) : null;
+    }
+
+    /**
+     * Parses {@code length} decimal digits, or returns {@code -1} if any
+     * character is not a digit.
+     */
+    private static int digits(String value, int from, int length) {
+        int result = 0;
+        for (int i = from; i < from + length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+}
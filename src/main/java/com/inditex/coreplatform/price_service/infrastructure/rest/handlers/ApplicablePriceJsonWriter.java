@@ -0,0 +1,181 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.handlers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import org.springframework.core.io.buffer.DataBuffer;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceStore;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+/**
+ * Writes the JSON of a {@link PriceResponse} straight from a row of a
+ * {@link ColumnarPriceStore}, byte for byte as Jackson writes it for the
+ * controller: fields in declaration order, no {@code id} when the price has
+ * none, dates as ISO-8601 local date-times and the price as
+ * {@link Money#toChars(char[], int)} writes it.
+ *
+ * The constant parts of the document are encoded once, and numbers and dates
+ * are written digit by digit, so nothing is allocated but the buffer.
+ */
+public final class ApplicablePriceJsonWriter {
+
+    /**
+     * Upper bound of the length of a document, in bytes.
+     */
+    public static final int MAX_LENGTH = 256;
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] PRODUCT_ID_AFTER_ID = ascii(",\"productId\":");
+    private static final byte[] PRODUCT_ID_FIRST = ascii("{\"productId\":");
+    private static final byte[] BRAND_ID = ascii(",\"brandId\":");
+    private static final byte[] RATE_ID = ascii(",\"rateId\":");
+    private static final byte[] START_DATE = ascii(",\"startDate\":\"");
+    private static final byte[] END_DATE = ascii("\",\"endDate\":\"");
+    private static final byte[] PRICE = ascii("\",\"price\":");
+    private static final byte[] END = ascii("}");
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_ERA = 146_097;
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private ApplicablePriceJsonWriter() {
+    }
+
+    /**
+     * Writes the price of a row.
+     *
+     * @param buffer    the buffer to write to
+     * @param store     the store
+     * @param row       the row, as returned by
+     *                  {@link ColumnarPriceStore#findRow(int, int, long)}
+     * @param brandId   the brand ID of the lookup
+     * @param productId the product ID of the lookup
+     * @return the buffer
+     */
+    public static DataBuffer write(DataBuffer buffer, ColumnarPriceStore store, int row, int brandId,
+            int productId) {
+        long id = store.rowId(row);
+        if (id != 0) {
+            buffer.write(ID);
+            writeLong(buffer, id);
+            buffer.write(PRODUCT_ID_AFTER_ID);
+        } else {
+            buffer.write(PRODUCT_ID_FIRST);
+        }
+        writeLong(buffer, productId);
+        buffer.write(BRAND_ID);
+        writeLong(buffer, brandId);
+        buffer.write(RATE_ID);
+        writeLong(buffer, store.rowRateId(row));
+        buffer.write(START_DATE);
+        writeDateTime(buffer, store.rowStart(row));
+        buffer.write(END_DATE);
+        writeDateTime(buffer, store.rowEnd(row));
+        buffer.write(PRICE);
+        writeAmount(buffer, store.rowAmount(row));
+        buffer.write(END);
+        return buffer;
+    }
+
+    private static void writeLong(DataBuffer buffer, long value) {
+        if (value < 0) {
+            if (value == Long.MIN_VALUE) {
+                buffer.write(ascii(Long.toString(value)));
+                return;
+            }
+            buffer.write((byte) '-');
+            value = -value;
+        }
+        writeDigits(buffer, value, 1);
+    }
+
+    /**
+     * Writes a non-negative number, left-padded with zeros to {@code width}
+     * digits.
+     */
+    private static void writeDigits(DataBuffer buffer, long value, int width) {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        for (int i = digits; i < width; i++) {
+            buffer.write((byte) '0');
+        }
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer.write((byte) ('0' + value / POWERS_OF_TEN[i]));
+            value %= POWERS_OF_TEN[i];
+        }
+    }
+
+    /**
+     * Writes an instant in epoch seconds as {@code yyyy-MM-ddTHH:mm:ss}, the
+     * civil date being computed from the day number as in
+     * {@link java.time.LocalDate#ofEpochDay(long)}.
+     */
+    private static void writeDateTime(DataBuffer buffer, long epochSecond) {
+        long days = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        long secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        long dayOfCycle = days + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(dayOfCycle, DAYS_PER_ERA);
+        long dayOfEra = dayOfCycle - era * DAYS_PER_ERA;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153;
+        long day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        long month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 0 || year > 9999) {
+            buffer.write(ascii(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC)
+                    .format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
+            return;
+        }
+        writeDigits(buffer, year, 4);
+        buffer.write((byte) '-');
+        writeDigits(buffer, month, 2);
+        buffer.write((byte) '-');
+        writeDigits(buffer, day, 2);
+        buffer.write((byte) 'T');
+        writeDigits(buffer, secondOfDay / 3600, 2);
+        buffer.write((byte) ':');
+        writeDigits(buffer, secondOfDay / 60 % 60, 2);
+        buffer.write((byte) ':');
+        writeDigits(buffer, secondOfDay % 60, 2);
+    }
+
+    /**
+     * Writes a price in hundredths as {@link Money#toChars(char[], int)}
+     * does: {@code 35.5}, {@code 25.45}, {@code 10.0}.
+     */
+    private static void writeAmount(DataBuffer buffer, long amount) {
+        if (amount < 0) {
+            buffer.write((byte) '-');
+        }
+        writeDigits(buffer, Math.abs(amount / 100), 1);
+        buffer.write((byte) '.');
+        long cents = Math.abs(amount % 100);
+        if (cents % 10 == 0) {
+            writeDigits(buffer, cents / 10, 1);
+        } else {
+            writeDigits(buffer, cents, 2);
+        }
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
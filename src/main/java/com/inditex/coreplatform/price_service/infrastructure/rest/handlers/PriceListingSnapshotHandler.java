@@ -0,0 +1,126 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.handlers;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.HandlerFunction;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceHttpCache;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceListingSnapshot;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceListingSnapshotCache;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.PriceController;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers the JSON {@code GET /api/prices} with the bytes of the
+ * {@link PriceListingSnapshot} of the current catalog version, gzip-compressed
+ * when the request accepts it.
+ *
+ * The body is the snapshot buffer itself, wrapped by the server's buffer
+ * factory without copying it. The headers are the ones of
+ * {@link PriceController}, plus {@code Content-Encoding} and
+ * {@code Vary: Accept-Encoding}. Requests are only
+ * {@linkplain #accepts(ServerRequest) accepted} while the snapshot of the
+ * current version is built and not empty; the rest, including the 404 of an
+ * empty catalog, are left to the controller.
+ */
+public class PriceListingSnapshotHandler implements HandlerFunction<ServerResponse> {
+
+    public static final String PATH = "/api/prices";
+
+    private static final String GZIP = "gzip";
+
+    private final PriceListingSnapshotCache cache;
+
+    public PriceListingSnapshotHandler(PriceListingSnapshotCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Whether the snapshot answers a request: the snapshot of the current
+     * catalog version is built and has at least one price.
+     *
+     * @param request the request
+     * @return {@code true} if the request is answered by {@link #handle}
+     */
+    public boolean accepts(ServerRequest request) {
+        PriceListingSnapshot current = cache.current();
+        return current != null && current.getRowCount() > 0;
+    }
+
+    @Override
+    public Mono<ServerResponse> handle(ServerRequest request) {
+        // The version may have moved on since accepts: like the controller, serve what was
+        // read with the tag it was read at
+        PriceListingSnapshot snapshot = cache.latest();
+        if (snapshot.getRowCount() == 0) {
+            // Not necessarily the snapshot accepts checked: an empty catalog is a 404, as in the controller
+            return ServerResponse.notFound().build();
+        }
+        String etag = snapshot.getEtag();
+        if (PriceHttpCache.matches(request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        boolean gzip = acceptsGzip(request.headers().firstHeader(HttpHeaders.ACCEPT_ENCODING));
+        DataBuffer body = request.exchange().getResponse().bufferFactory().wrap(snapshot.body(gzip));
+        ServerResponse.BodyBuilder response = ServerResponse.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.readableByteCount());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(BodyInserters.fromDataBuffers(Mono.just(body)));
+    }
+
+    /**
+     * Whether an {@code Accept-Encoding} header accepts gzip with a quality
+     * other than zero, named or, if it is not named, through {@code *}.
+     *
+     * @param acceptEncoding the header, or {@code null}
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                return !refused(parts);
+            }
+            if (name.equals("*")) {
+                wildcard = !refused(parts);
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean refused(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+
+/**
+ * Writes the amount of a {@link Money} as a {@code BigDecimal} of scale
+ * {@link Money#SCALE}, for binary formats such as CBOR and Smile, which have
+ * no textual numbers and encode decimals from their unscaled value. The
+ * currency is not written.
+ */
+public class DecimalMoneySerializer extends StdSerializer<Money> {
+
+    public DecimalMoneySerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeNumber(value.toBigDecimal());
+    }
+}
@@ -0,0 +1,45 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+/**
+ * Reads an integer number of seconds since the epoch as a UTC
+ * {@link LocalDateTime}. An ISO-8601 string, as sent in JSON, is also
+ * accepted.
+ */
+public class EpochSecondLocalDateTimeDeserializer extends StdDeserializer<LocalDateTime> {
+
+    public EpochSecondLocalDateTimeDeserializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            long epochSecond = parser.getLongValue();
+            try {
+                return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+            } catch (DateTimeException e) {
+                throw context.weirdNumberException(epochSecond, LocalDateTime.class, "out of the date range");
+            }
+        }
+        if (token == JsonToken.VALUE_STRING) {
+            String text = parser.getText().strip();
+            try {
+                return LocalDateTime.parse(text);
+            } catch (DateTimeException e) {
+                throw context.weirdStringException(text, LocalDateTime.class, "not an ISO-8601 date-time");
+            }
+        }
+        return (LocalDateTime) context.handleUnexpectedToken(LocalDateTime.class, parser);
+    }
+}
@@ -0,0 +1,26 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Writes a {@link LocalDateTime} as an integer number of seconds since the
+ * epoch, reading the date as UTC like the lookup engines do.
+ */
+public class EpochSecondLocalDateTimeSerializer extends StdSerializer<LocalDateTime> {
+
+    public EpochSecondLocalDateTimeSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeNumber(value.toEpochSecond(ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,38 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+
+/**
+ * Reads a JSON number, or a string holding one, as a {@link Money} without a
+ * currency, parsing the text of the token with
+ * {@link Money#parse(CharSequence, String)}. Amounts with more than
+ * {@link Money#SCALE} decimals or in exponent notation are rejected.
+ */
+public class MoneyJsonDeserializer extends StdDeserializer<Money> {
+
+    public MoneyJsonDeserializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT
+                && token != JsonToken.VALUE_STRING) {
+            return (Money) context.handleUnexpectedToken(Money.class, parser);
+        }
+        String text = parser.getText().strip();
+        try {
+            return Money.parse(text, null);
+        } catch (NumberFormatException e) {
+            throw context.weirdStringException(text, Money.class,
+                    "not a decimal amount with at most " + Money.SCALE + " decimals");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+
+/**
+ * Writes the amount of a {@link Money} as a JSON number, straight from its
+ * minor units with {@link Money#toChars(char[], int)}, without
+ * {@code BigDecimal} or {@code double}. The currency is not written.
+ *
+ * Only for textual formats: the binary ones write the amount with
+ * {@link DecimalMoneySerializer}.
+ */
+public class MoneyJsonSerializer extends StdSerializer<Money> {
+
+    public MoneyJsonSerializer() {
+        super(Money.class);
+    }
+
+    @Override
+    public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        char[] buffer = new char[Money.MAX_DECIMAL_LENGTH];
+        generator.writeNumber(buffer, 0, value.toChars(buffer, 0));
+    }
+}
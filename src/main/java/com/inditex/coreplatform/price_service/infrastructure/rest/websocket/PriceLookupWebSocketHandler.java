@@ -0,0 +1,136 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.websocket;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.socket.WebSocketHandler;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+import org.springframework.web.reactive.socket.WebSocketSession;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceRequest;
+
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applicable-price lookups over one long-lived WebSocket connection.
+ *
+ * The client sends each lookup as a text message holding an
+ * {@link ApplicablePriceRequest} in JSON, and receives one
+ * {@link ApplicablePriceBatchResponse} per lookup, in the order the lookups
+ * were sent, with {@code status} 200, 404, 400 for a message that is not a
+ * lookup or breaks the constraints of {@link ApplicablePriceRequest}, or 500.
+ * A failed lookup does not close the connection.
+ *
+ * At most {@code maxInFlight} lookups of a connection run at a time. Messages
+ * are only read from the connection as results are written to it, so a client
+ * that does not read its results stops being read from.
+ */
+public class PriceLookupWebSocketHandler implements WebSocketHandler {
+
+    public static final String PATH = "/api/prices/applicable:stream";
+
+    private static final Logger log = LoggerFactory.getLogger(PriceLookupWebSocketHandler.class);
+
+    private final GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private final PriceMapper priceMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int maxInFlight;
+
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final LongAdder lookups = new LongAdder();
+
+    public PriceLookupWebSocketHandler(GetApplicablePriceUseCase getApplicablePriceUseCase, PriceMapper priceMapper,
+            ObjectMapper objectMapper, Validator validator, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.getApplicablePriceUseCase = getApplicablePriceUseCase;
+        this.priceMapper = priceMapper;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public Mono<Void> handle(WebSocketSession session) {
+        Flux<String> requests = session.receive()
+                .filter(message -> message.getType() == WebSocketMessage.Type.TEXT)
+                .map(WebSocketMessage::getPayloadAsText);
+        return session.send(lookUp(requests).map(response -> session.textMessage(write(response))))
+                .doFirst(sessions::incrementAndGet)
+                .doFinally(signal -> sessions.decrementAndGet());
+    }
+
+    /**
+     * Looks up the applicable price of each request, with at most
+     * {@code maxInFlight} lookups running at a time.
+     *
+     * @param requests the lookups, as JSON
+     * @return one result per request, in the order of the requests
+     */
+    public Flux<ApplicablePriceBatchResponse> lookUp(Flux<String> requests) {
+        return requests.flatMapSequential(this::lookUp, maxInFlight, 1);
+    }
+
+    private Mono<ApplicablePriceBatchResponse> lookUp(String message) {
+        ApplicablePriceRequest request;
+        try {
+            request = objectMapper.readValue(message, ApplicablePriceRequest.class);
+        } catch (JsonProcessingException e) {
+            return Mono.just(response(null, HttpStatus.BAD_REQUEST));
+        }
+        if (request == null || !validator.validate(request).isEmpty()) {
+            return Mono.just(response(request, HttpStatus.BAD_REQUEST));
+        }
+
+        GetApplicablePriceQuery query = new GetApplicablePriceQuery(request.productId(), request.brandId(),
+                request.applicationDate());
+        return getApplicablePriceUseCase.execute(query)
+                .map(price -> new ApplicablePriceBatchResponse(request.productId(), request.brandId(),
+                        request.applicationDate(), HttpStatus.OK.value(), priceMapper.toResponse(price)))
+                .defaultIfEmpty(response(request, HttpStatus.NOT_FOUND))
+                .onErrorResume(e -> {
+                    log.error("Applicable price lookup over WebSocket failed for {}", request, e);
+                    return Mono.just(response(request, HttpStatus.INTERNAL_SERVER_ERROR));
+                })
+                .doOnSuccess(response -> lookups.increment());
+    }
+
+    private static ApplicablePriceBatchResponse response(ApplicablePriceRequest request, HttpStatus status) {
+        return request == null
+                ? new ApplicablePriceBatchResponse(null, null, null, status.value(), null)
+                : new ApplicablePriceBatchResponse(request.productId(), request.brandId(), request.applicationDate(),
+                        status.value(), null);
+    }
+
+    private String write(ApplicablePriceBatchResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not write " + response, e);
+        }
+    }
+
+    public int getOpenSessions() {
+        return sessions.get();
+    }
+
+    /**
+     * Lookups answered with a 200, 404 or 500 result since startup.
+     */
+    public long getLookupCount() {
+        return lookups.sum();
+    }
+}
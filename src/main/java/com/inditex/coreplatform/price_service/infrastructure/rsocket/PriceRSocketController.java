@@ -0,0 +1,148 @@
+package com.inditex.coreplatform.price_service.infrastructure.rsocket;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Controller;
+
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePricesQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetPricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.PriceController;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceRequest;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * RSocket adapter of the price use cases, served on
+ * {@code spring.rsocket.server.port}. Payloads are the DTOs of the HTTP API.
+ *
+ * <ul>
+ * <li>{@code prices.applicable}, request-response: the applicable price of
+ * one lookup, or an empty response if no price applies.</li>
+ * <li>{@code prices.stream}, request-stream: the price listing, ordered by
+ * ID, from the optional cursor of a {@link PriceStreamRequest}.</li>
+ * <li>{@code prices.applicable.channel}, request-channel: one result per
+ * lookup, in order. Lookups are grouped into batches of up to
+ * {@link PriceController#MAX_BATCH_SIZE}, or of those received within
+ * {@link #BATCH_WINDOW}, and looked up one batch at a time. An invalid lookup
+ * gets a 400 result without ending the channel.</li>
+ * </ul>
+ *
+ * RSocket carries the demand of the requester to the use cases: the listing
+ * is read from the database as the requester asks for prices, and the
+ * channel only asks the requester for more lookups as it sends results.
+ */
+@Controller
+public class PriceRSocketController {
+
+    public static final Duration BATCH_WINDOW = Duration.ofMillis(5);
+
+    private final GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private final GetApplicablePricesUseCase getApplicablePricesUseCase;
+    private final GetPricesUseCase getPricesUseCase;
+    private final PriceMapper priceMapper;
+    private final Validator validator;
+
+    public PriceRSocketController(GetApplicablePriceUseCase getApplicablePriceUseCase,
+            GetApplicablePricesUseCase getApplicablePricesUseCase,
+            GetPricesUseCase getPricesUseCase,
+            PriceMapper priceMapper,
+            Validator validator) {
+        this.getApplicablePriceUseCase = getApplicablePriceUseCase;
+        this.getApplicablePricesUseCase = getApplicablePricesUseCase;
+        this.getPricesUseCase = getPricesUseCase;
+        this.priceMapper = priceMapper;
+        this.validator = validator;
+    }
+
+    @MessageMapping("prices.applicable")
+    public Mono<PriceResponse> getApplicablePrice(ApplicablePriceRequest request) {
+        return validated(request)
+                .flatMap(lookup -> getApplicablePriceUseCase.execute(toQuery(lookup)))
+                .map(priceMapper::toResponse);
+    }
+
+    @MessageMapping("prices.stream")
+    public Flux<PriceResponse> streamPrices(@Payload(required = false) PriceStreamRequest request) {
+        PriceStreamRequest page = request != null ? request : new PriceStreamRequest(null, null);
+        return validated(page)
+                .flatMapMany(valid -> getPricesUseCase.execute(new GetPricesQuery(valid.afterId(), valid.limit())))
+                .map(priceMapper::toResponse);
+    }
+
+    @MessageMapping("prices.applicable.channel")
+    public Flux<ApplicablePriceBatchResponse> getApplicablePrices(Flux<ApplicablePriceRequest> requests) {
+        return requests
+                .bufferTimeout(PriceController.MAX_BATCH_SIZE, BATCH_WINDOW, true)
+                .concatMap(this::lookUp);
+    }
+
+    private Flux<ApplicablePriceBatchResponse> lookUp(List<ApplicablePriceRequest> batch) {
+        boolean[] valid = new boolean[batch.size()];
+        for (int i = 0; i < valid.length; i++) {
+            valid[i] = validator.validate(batch.get(i)).isEmpty();
+        }
+        List<GetApplicablePriceQuery> queries = new ArrayList<>(batch.size());
+        for (int i = 0; i < valid.length; i++) {
+            if (valid[i]) {
+                queries.add(toQuery(batch.get(i)));
+            }
+        }
+
+        Mono<List<PriceLookupResult>> results = queries.isEmpty()
+                ? Mono.just(List.of())
+                : getApplicablePricesUseCase.execute(new GetApplicablePricesQuery(queries)).collectList();
+        return results.flatMapIterable(found -> {
+            Iterator<PriceLookupResult> next = found.iterator();
+            List<ApplicablePriceBatchResponse> responses = new ArrayList<>(batch.size());
+            for (int i = 0; i < valid.length; i++) {
+                ApplicablePriceRequest request = batch.get(i);
+                responses.add(valid[i] ? toResponse(next.next()) : new ApplicablePriceBatchResponse(
+                        request.productId(), request.brandId(), request.applicationDate(),
+                        HttpStatus.BAD_REQUEST.value(), null));
+            }
+            return responses;
+        });
+    }
+
+    private <T> Mono<T> validated(T payload) {
+        Set<ConstraintViolation<T>> violations = validator.validate(payload);
+        if (violations.isEmpty()) {
+            return Mono.just(payload);
+        }
+        ConstraintViolation<T> violation = violations.iterator().next();
+        return Mono.error(new IllegalArgumentException(
+                String.format("'%s' %s", violation.getPropertyPath(), violation.getMessage())));
+    }
+
+    private static GetApplicablePriceQuery toQuery(ApplicablePriceRequest request) {
+        return new GetApplicablePriceQuery(request.productId(), request.brandId(), request.applicationDate());
+    }
+
+    private ApplicablePriceBatchResponse toResponse(PriceLookupResult result) {
+        HttpStatus status = result.isFound() ? HttpStatus.OK : HttpStatus.NOT_FOUND;
+        return new ApplicablePriceBatchResponse(
+                result.lookup().productId(),
+                result.lookup().brandId(),
+                result.lookup().applicationDate(),
+                status.value(),
+                priceMapper.toResponse(result.price()));
+    }
+}
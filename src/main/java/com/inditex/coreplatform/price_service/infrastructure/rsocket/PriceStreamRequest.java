@@ -0,0 +1,13 @@
+package com.inditex.coreplatform.price_service.infrastructure.rsocket;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Payload of the {@code prices.stream} route: the prices with an ID greater
+ * than {@code afterId}, up to {@code limit}. Both are optional.
+ */
+public record PriceStreamRequest(
+    @PositiveOrZero Long afterId,
+    @Positive(message = "must be a positive integer") Integer limit
+) {}
@@ -0,0 +1,251 @@
+package com.inditex.coreplatform.price_service.infrastructure.warmup;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.inditex.coreplatform.price_service.application.observability.PriceObservations;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.PriceController;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Replays representative applicable-price lookups against the running server
+ * before it is reported ready.
+ *
+ * Waits for the lookup engine to load its catalog, then sends every lookup
+ * through HTTP, the controller, the near-cache and the engine, both as
+ * {@code GET /api/prices/applicable} and as one
+ * {@code POST /api/prices/applicable:batch} of up to
+ * {@link PriceController#MAX_BATCH_SIZE} of them. The first and last passes are
+ * sent one request at a time and timed, and the passes in between run
+ * concurrently to get the JIT to compile the hot paths.
+ *
+ * Runs on {@link ApplicationReadyEvent}, after the other listeners, and
+ * blocks it: Spring Boot only reports the readiness state as
+ * {@code ACCEPTING_TRAFFIC} once every listener has returned, so the
+ * readiness probe stays down until the warm-up is over. Responses are not
+ * checked: a lookup without a price warms up the same code as one with a
+ * price.
+ *
+ * Once it is over, the {@code http.server.requests} and
+ * {@value PriceObservations#NAME} meters are removed, so neither their
+ * counts nor their latency histograms and SLO buckets include the warm-up
+ * traffic. They are registered again by the first request served. The only
+ * other requests they lose are the health probes sent during the warm-up.
+ */
+public class PriceWarmUp {
+
+    private static final Logger log = LoggerFactory.getLogger(PriceWarmUp.class);
+
+    private static final String APPLICABLE_PATH = "/api/prices/applicable";
+    private static final String BATCH_PATH = "/api/prices/applicable:batch";
+    private static final List<String> WARMED_UP_METERS = List.of("http.server.requests", PriceObservations.NAME);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final IPriceRepository priceRepository;
+    private final WebClient.Builder webClientBuilder;
+    private final MeterRegistry meterRegistry;
+    private final List<PriceLookup> lookups;
+    private final int iterations;
+    private final int concurrency;
+    private final Duration timeout;
+
+    private final AtomicLong duration = new AtomicLong(-1);
+    private final AtomicLong firstPassLatency = new AtomicLong(-1);
+    private final AtomicLong lastPassLatency = new AtomicLong(-1);
+    private final LongAdder requests = new LongAdder();
+
+    public PriceWarmUp(IPriceRepository priceRepository, WebClient.Builder webClientBuilder,
+            MeterRegistry meterRegistry, List<PriceLookup> lookups, int iterations, int concurrency,
+            Duration timeout) {
+        this.priceRepository = priceRepository;
+        this.webClientBuilder = webClientBuilder;
+        this.meterRegistry = meterRegistry;
+        this.lookups = List.copyOf(lookups);
+        this.iterations = iterations;
+        this.concurrency = concurrency;
+        this.timeout = timeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!(event.getApplicationContext() instanceof WebServerApplicationContext context)) {
+            log.info("Price warm-up skipped, no web server");
+            return;
+        }
+        run(webClientBuilder.clone()
+                .baseUrl("http://localhost:" + context.getWebServer().getPort())
+                .build());
+    }
+
+    /**
+     * Runs the warm-up and waits for it, for at most the configured timeout.
+     * A failed or timed out warm-up is logged and does not fail the startup.
+     * Either way the meters of the requests it sent are removed.
+     *
+     * @param webClient the client of the server to warm up
+     */
+    public void run(WebClient webClient) {
+        if (lookups.isEmpty()) {
+            log.info("Price warm-up skipped, no lookups configured");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            priceRepository.whenLoaded()
+                    .then(pass(webClient))
+                    .doOnNext(firstPassLatency::set)
+                    .thenMany(Flux.range(0, Math.max(iterations - 2, 0))
+                            .concatMap(iteration -> concurrentPass(webClient)))
+                    .then(pass(webClient))
+                    .doOnNext(lastPassLatency::set)
+                    .timeout(timeout)
+                    .block();
+            duration.set(System.nanoTime() - start);
+            log.info("Price warm-up finished in {} ms after {} requests; mean lookup latency {} ms "
+                    + "in the first pass and {} ms in the last one",
+                    Duration.ofNanos(duration.get()).toMillis(), requests.sum(),
+                    toMillis(firstPassLatency.get()), toMillis(lastPassLatency.get()));
+        } catch (RuntimeException e) {
+            duration.set(System.nanoTime() - start);
+            log.warn("Price warm-up did not finish after {} ms and {} requests, serving traffic anyway",
+                    Duration.ofNanos(duration.get()).toMillis(), requests.sum(), e);
+        } finally {
+            discardMetrics();
+        }
+    }
+
+    private void discardMetrics() {
+        // The server may still record the last responses after the client has read them: a few at most
+        WARMED_UP_METERS.forEach(name -> meterRegistry.find(name).meters().forEach(meterRegistry::remove));
+    }
+
+    /**
+     * Sends every lookup once, one at a time.
+     *
+     * @return the mean latency of the requests, in nanoseconds
+     */
+    private Mono<Long> pass(WebClient webClient) {
+        return Flux.fromIterable(lookups)
+                .concatMap(lookup -> timed(applicable(webClient, lookup)))
+                .concatWith(timed(batch(webClient)))
+                .reduce(0L, Long::sum)
+                .map(total -> total / (lookups.size() + 1));
+    }
+
+    private Mono<Void> concurrentPass(WebClient webClient) {
+        return Flux.fromIterable(lookups)
+                .flatMap(lookup -> applicable(webClient, lookup), concurrency)
+                .then(batch(webClient));
+    }
+
+    private Mono<Long> timed(Mono<Void> request) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return request.then(Mono.fromSupplier(() -> System.nanoTime() - start));
+        });
+    }
+
+    private Mono<Void> applicable(WebClient webClient, PriceLookup lookup) {
+        return exchange(webClient.get()
+                .uri(uri -> uri.path(APPLICABLE_PATH)
+                        .queryParam("productId", lookup.productId())
+                        .queryParam("brandId", lookup.brandId())
+                        .queryParam("applicationDate", DATE_TIME.format(lookup.applicationDate()))
+                        .build())
+                .accept(MediaType.APPLICATION_JSON));
+    }
+
+    private Mono<Void> batch(WebClient webClient) {
+        return exchange(webClient.post()
+                .uri(BATCH_PATH)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .bodyValue(lookups.stream()
+                        .limit(PriceController.MAX_BATCH_SIZE)
+                        .map(lookup -> new ApplicablePriceRequest(lookup.productId(), lookup.brandId(),
+                                lookup.applicationDate()))
+                        .toList()));
+    }
+
+    private Mono<Void> exchange(WebClient.RequestHeadersSpec<?> request) {
+        return request.exchangeToMono(response -> response.releaseBody())
+                .doOnSuccess(ignored -> requests.increment());
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Duration of the warm-up, in nanoseconds, or -1 if it has not run.
+     */
+    public long getDuration() {
+        return duration.get();
+    }
+
+    /**
+     * Mean latency of the first, cold, pass, in nanoseconds, or -1 if it has
+     * not run.
+     */
+    public long getFirstPassLatency() {
+        return firstPassLatency.get();
+    }
+
+    /**
+     * Mean latency of the last, warm, pass, in nanoseconds, or -1 if it has
+     * not run.
+     */
+    public long getLastPassLatency() {
+        return lastPassLatency.get();
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    /**
+     * Parses a lookup written as {@code productId/brandId/applicationDate},
+     * such as {@code 35455/1/2020-06-14T10:00:00}.
+     *
+     * @param value the lookup
+     * @return the lookup
+     * @throws IllegalArgumentException if the value is not a lookup
+     */
+    public static PriceLookup parseLookup(String value) {
+        String[] parts = value.trim().split("/");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException(
+                    "Warm-up lookup '" + value + "' is not productId/brandId/applicationDate");
+        }
+        try {
+            return new PriceLookup(Integer.valueOf(parts[0]), Integer.valueOf(parts[1]),
+                    LocalDateTime.parse(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException(
+                    "Warm-up lookup '" + value + "' is not productId/brandId/applicationDate", e);
+        }
+    }
+}
@@ -9,3 +9,9 @@ CREATE TABLE IF NOT EXISTS prices (
   price DECIMAL(10,2) NOT NULL,
   curr VARCHAR(3) NOT NULL
 );
+
+-- Índice compuesto para la búsqueda del precio aplicable. Las columnas
+-- price, curr y price_list se añaden al final para que el índice cubra la
+-- consulta (H2 no soporta INCLUDE).
+CREATE INDEX IF NOT EXISTS idx_prices_applicable
+  ON prices (product_id, brand_id, start_date, end_date, priority DESC, price, curr, price_list);
@@ -1,17 +1,29 @@
 package com.inditex.coreplatform.price_service;
 
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceRequest;
 import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ErrorPriceResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PricePageResponse;
 import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
 
+import reactor.test.StepVerifier;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+import java.time.LocalDateTime;
+import java.util.List;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///price_service_application_test;DB_CLOSE_DELAY=-1",
+                "spring.rsocket.server.port=0" })
 @AutoConfigureWebTestClient
 class PriceServiceApplicationTests {
 
@@ -176,6 +188,131 @@ class PriceServiceApplicationTests {
                 .expectHeader().contentTypeCompatibleWith("application/json");
     }
 
+    @Test
+    void testApplicablePricesBatchReturnsResultsInOrder() {
+        webTestClient.post()
+                .uri(BASE_URL + "/applicable:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        new ApplicablePriceRequest(PRODUCT_ID, BRAND_ID, LocalDateTime.parse("2020-06-14T16:00:00")),
+                        new ApplicablePriceRequest(99999, BRAND_ID, LocalDateTime.parse("2020-06-14T16:00:00")),
+                        new ApplicablePriceRequest(PRODUCT_ID, BRAND_ID, LocalDateTime.parse("2020-06-15T10:00:00"))))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ApplicablePriceBatchResponse.class)
+                .value(results -> {
+                    assertThat(results).hasSize(3);
+                    assertThat(results.get(0).status()).isEqualTo(200);
+                    assertThat(results.get(0).price().getRateId()).isEqualTo(2);
+                    assertThat(results.get(1).status()).isEqualTo(404);
+                    assertThat(results.get(1).price()).isNull();
+                    assertThat(results.get(2).price().getRateId()).isEqualTo(3);
+                });
+    }
+
+    @Test
+    void testApplicablePricesBatchRejectsEmptyBatch() {
+        webTestClient.post()
+                .uri(BASE_URL + "/applicable:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody(ErrorPriceResponse.class)
+                .value(body -> assertThat(body.message()).contains("must not be empty"));
+    }
+
+    @Test
+    void testStreamPricesAsNdjsonFromCursor() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(BASE_URL)
+                        .queryParam("afterId", 1)
+                        .queryParam("limit", 2)
+                        .build())
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PriceResponse.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .assertNext(price -> assertThat(price.getId()).isEqualTo(2L))
+                .assertNext(price -> assertThat(price.getId()).isEqualTo(3L))
+                .verifyComplete();
+    }
+
+    @Test
+    void testStreamPricesAsServerSentEvents() {
+        webTestClient.get()
+                .uri(BASE_URL)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .header("Last-Event-ID", "3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM)
+                .returnResult(PriceResponse.class)
+                .getResponseBody()
+                .as(StepVerifier::create)
+                .assertNext(price -> assertThat(price.getId()).isEqualTo(4L))
+                .verifyComplete();
+    }
+
+    @Test
+    void testSearchPricesPaginatesWithKeysetCursor() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(BASE_URL + "/search")
+                        .queryParam("brandId", BRAND_ID)
+                        .queryParam("limit", 3)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PricePageResponse.class)
+                .value(page -> {
+                    assertThat(page.items()).extracting(PriceResponse::getId).containsExactly(1L, 2L, 3L);
+                    assertThat(page.nextCursor()).isEqualTo(3L);
+                });
+
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(BASE_URL + "/search")
+                        .queryParam("brandId", BRAND_ID)
+                        .queryParam("limit", 3)
+                        .queryParam("afterId", 3)
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PricePageResponse.class)
+                .value(page -> {
+                    assertThat(page.items()).extracting(PriceResponse::getId).containsExactly(4L);
+                    assertThat(page.nextCursor()).isNull();
+                });
+    }
+
+    @Test
+    void testSearchPricesFiltersByProductAndValidityWindow() {
+        webTestClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path(BASE_URL + "/search")
+                        .queryParam("productId", PRODUCT_ID)
+                        .queryParam("validFrom", "2020-06-15T12:00:00")
+                        .queryParam("validTo", "2020-06-15T17:00:00")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(PricePageResponse.class)
+                .value(page -> assertThat(page.items()).extracting(PriceResponse::getRateId).containsExactly(1, 4));
+    }
+
+    @Test
+    void testSearchPricesRejectsPageSizeAboveMaximum() {
+        webTestClient.get()
+                .uri(BASE_URL + "/search?limit=5000")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
     private void testApplicablePrice(Integer productId, Integer brandId, String applicationDate, int expectedStatus) {
         webTestClient.get()
                 .uri(uriBuilder -> uriBuilder
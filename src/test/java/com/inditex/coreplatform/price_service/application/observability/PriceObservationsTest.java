@@ -0,0 +1,110 @@
+package com.inditex.coreplatform.price_service.application.observability;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PriceObservationsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ObservationRegistry observationRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+    }
+
+    @Test
+    void observe_shouldRecordFoundOutcome_whenMonoEmits() {
+        StepVerifier.create(PriceObservations.observe(Mono.just("price"), observationRegistry, "service",
+                "applicable", 1))
+                .expectNext("price")
+                .verifyComplete();
+
+        assertEquals(1, timer("service", "applicable", PriceObservations.ALL_BRANDS, "found").count());
+    }
+
+    @Test
+    void observe_shouldTagBrandBucketOnControllerLayerOnly() {
+        StepVerifier.create(PriceObservations.observe(Mono.just("price"), observationRegistry, "controller",
+                "applicable", 1))
+                .expectNext("price")
+                .verifyComplete();
+        StepVerifier.create(PriceObservations.observe(Mono.just("price"), observationRegistry, "usecase",
+                "applicable", 1))
+                .expectNext("price")
+                .verifyComplete();
+
+        assertEquals(1, timer("controller", "applicable", "1", "found").count());
+        assertEquals(1, timer("usecase", "applicable", PriceObservations.ALL_BRANDS, "found").count());
+        assertNull(meterRegistry.find(PriceObservations.NAME).tags("layer", "usecase", "brand", "1").timer());
+    }
+
+    @Test
+    void observe_shouldRecordNotFoundOutcome_whenMonoIsEmpty() {
+        StepVerifier.create(PriceObservations.observe(Mono.empty(), observationRegistry, "repository",
+                "applicable", 1))
+                .verifyComplete();
+
+        assertEquals(1, timer("repository", "applicable", PriceObservations.ALL_BRANDS, "not-found").count());
+    }
+
+    @Test
+    void observe_shouldRecordErrorOutcome_whenMonoFails() {
+        StepVerifier.create(PriceObservations.observe(Mono.error(new IllegalStateException()), observationRegistry,
+                "r2dbc", "applicable", 1))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        Timer timer = meterRegistry.find(PriceObservations.NAME)
+                .tags("layer", "r2dbc", "outcome", "error", "error", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void observe_shouldRecordOneTimingPerFluxSubscription() {
+        StepVerifier.create(PriceObservations.observe(Flux.just(1, 2, 3), observationRegistry, "controller",
+                "applicable-batch", null))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, timer("controller", "applicable-batch", "none", "found").count());
+    }
+
+    @Test
+    void observe_shouldReturnPublisherAsIs_whenRegistryIsNoop() {
+        Mono<String> mono = Mono.just("price");
+
+        assertSame(mono, PriceObservations.observe(mono, ObservationRegistry.NOOP, "service", "applicable", 1));
+        assertNull(meterRegistry.find(PriceObservations.NAME).timer());
+    }
+
+    @Test
+    void brandBucket_shouldBoundTagValues() {
+        assertEquals("1", PriceObservations.brandBucket(1));
+        assertEquals("16", PriceObservations.brandBucket(PriceObservations.MAX_TAGGED_BRAND_ID));
+        assertEquals("other", PriceObservations.brandBucket(PriceObservations.MAX_TAGGED_BRAND_ID + 1));
+        assertEquals("other", PriceObservations.brandBucket(-1));
+        assertEquals("none", PriceObservations.brandBucket(null));
+    }
+
+    private Timer timer(String layer, String endpoint, String brand, String outcome) {
+        return meterRegistry.find(PriceObservations.NAME)
+                .tags("layer", layer, "endpoint", endpoint, "brand", brand, "outcome", outcome)
+                .timer();
+    }
+}
@@ -0,0 +1,199 @@
+package com.inditex.coreplatform.price_service.application.service;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+class CachingPriceServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 6, 14, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2030, 6, 14, 23, 59, 59);
+
+    private IPriceService delegate;
+    private CachingPriceService cachingPriceService;
+    private PriceSegment segment;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(IPriceService.class);
+        cachingPriceService = new CachingPriceService(delegate, 2);
+        segment = segment(35455, START, END);
+    }
+
+    @Test
+    void getPrice_shouldAnswerFromCache_whenDateInsideCachedSegment() {
+        LocalDateTime first = START.plusHours(10);
+        LocalDateTime second = START.plusHours(16);
+        when(delegate.getApplicablePriceSegment(35455, 1, first)).thenReturn(Mono.just(segment));
+
+        StepVerifier.create(cachingPriceService.getPriceByProductAndBrandIdAndApplicationDate(35455, 1, first))
+                .expectNext(segment.price())
+                .verifyComplete();
+        StepVerifier.create(cachingPriceService.getPriceByProductAndBrandIdAndApplicationDate(35455, 1, second))
+                .expectNext(segment.price())
+                .verifyComplete();
+
+        verify(delegate, times(1)).getApplicablePriceSegment(35455, 1, first);
+        assertEquals(1, cachingPriceService.getHitCount());
+        assertEquals(1, cachingPriceService.getMissCount());
+    }
+
+    @Test
+    void getPrice_shouldMiss_whenDateOutsideCachedSegment() {
+        LocalDateTime inside = START.plusHours(10);
+        LocalDateTime outside = END.plusSeconds(1);
+        when(delegate.getApplicablePriceSegment(35455, 1, inside)).thenReturn(Mono.just(segment));
+        when(delegate.getApplicablePriceSegment(35455, 1, outside)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, inside))
+                .expectNext(segment)
+                .verifyComplete();
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, outside))
+                .verifyComplete();
+
+        verify(delegate).getApplicablePriceSegment(35455, 1, outside);
+        assertEquals(2, cachingPriceService.getMissCount());
+    }
+
+    @Test
+    void getPrice_shouldExpireEntry_whenLookupPassesSegmentEnd() {
+        LocalDateTime inside = START.plusHours(10);
+        LocalDateTime after = END.plusSeconds(1);
+        PriceSegment next = segment(35455, after, END.plusDays(1));
+        when(delegate.getApplicablePriceSegment(35455, 1, inside)).thenReturn(Mono.just(segment));
+        when(delegate.getApplicablePriceSegment(35455, 1, after)).thenReturn(Mono.just(next));
+
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, inside))
+                .expectNext(segment)
+                .verifyComplete();
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, after))
+                .expectNext(next)
+                .verifyComplete();
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, after.plusHours(1)))
+                .expectNext(next)
+                .verifyComplete();
+
+        assertEquals(1, cachingPriceService.getEvictionCount());
+        assertEquals(1, cachingPriceService.getHitCount());
+        assertEquals(1, cachingPriceService.size());
+    }
+
+    @Test
+    void getPrice_shouldEvictLeastRecentlyUsedEntry_whenFull() {
+        LocalDateTime date = START.plusHours(10);
+        for (int productId = 1; productId <= 3; productId++) {
+            when(delegate.getApplicablePriceSegment(productId, 1, date))
+                    .thenReturn(Mono.just(segment(productId, START, END)));
+            StepVerifier.create(cachingPriceService.getApplicablePriceSegment(productId, 1, date))
+                    .expectNextCount(1)
+                    .verifyComplete();
+        }
+
+        assertEquals(2, cachingPriceService.size());
+        assertEquals(1, cachingPriceService.getEvictionCount());
+
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(1, 1, date))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(delegate, times(2)).getApplicablePriceSegment(1, 1, date);
+    }
+
+    @Test
+    void getPrice_shouldAnswerFromCache_whenSegmentAlreadyEnded() {
+        LocalDateTime start = LocalDateTime.of(2020, 6, 14, 0, 0);
+        PriceSegment past = segment(35455, start, start.plusHours(15).minusSeconds(1));
+        LocalDateTime first = start.plusHours(10);
+        when(delegate.getApplicablePriceSegment(35455, 1, first)).thenReturn(Mono.just(past));
+
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, first))
+                .expectNext(past)
+                .verifyComplete();
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, start.plusHours(12)))
+                .expectNext(past)
+                .verifyComplete();
+
+        verify(delegate, times(1)).getApplicablePriceSegment(35455, 1, first);
+        assertEquals(1, cachingPriceService.getHitCount());
+        assertEquals(1, cachingPriceService.size());
+    }
+
+    @Test
+    void invalidate_shouldDropEntryOfChangedKey() {
+        LocalDateTime date = START.plusHours(10);
+        PriceSegment changed = segment(35455, START, END.plusDays(1));
+        when(delegate.getApplicablePriceSegment(35455, 1, date))
+                .thenReturn(Mono.just(segment))
+                .thenReturn(Mono.just(changed));
+
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, date))
+                .expectNext(segment)
+                .verifyComplete();
+
+        cachingPriceService.invalidate(new PriceKey(1, 35455));
+        assertEquals(0, cachingPriceService.size());
+
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, date))
+                .expectNext(changed)
+                .verifyComplete();
+        assertEquals(1, cachingPriceService.size());
+        verify(delegate, times(2)).getApplicablePriceSegment(35455, 1, date);
+    }
+
+    @Test
+    void invalidate_shouldNotCacheLookupsStartedBeforeIt() {
+        LocalDateTime date = START.plusHours(10);
+        Sinks.One<PriceSegment> pending = Sinks.one();
+        when(delegate.getApplicablePriceSegment(35455, 1, date)).thenReturn(pending.asMono());
+
+        StepVerifier.create(cachingPriceService.getApplicablePriceSegment(35455, 1, date))
+                .then(() -> {
+                    cachingPriceService.invalidate(new PriceKey(1, 35455));
+                    pending.tryEmitValue(segment);
+                })
+                .expectNext(segment)
+                .verifyComplete();
+
+        assertEquals(0, cachingPriceService.size());
+    }
+
+    @Test
+    void getPrice_shouldDelegateValidation_whenParamsMissing() {
+        when(delegate.getApplicablePriceSegment(null, 1, null)).thenReturn(Mono.error(new IllegalStateException()));
+
+        StepVerifier.create(cachingPriceService.getPriceByProductAndBrandIdAndApplicationDate(null, 1, null))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        assertEquals(0, cachingPriceService.getMissCount());
+    }
+
+    private static PriceSegment segment(int productId, LocalDateTime start, LocalDateTime end) {
+        Price price = Price.builder()
+                .id((long) productId)
+                .brandId(1)
+                .productId(productId)
+                .rateId(1)
+                .priority(0)
+                .startDate(start)
+                .endDate(end)
+                .value(Money.parse("35.50", "EUR"))
+                .build();
+        return new PriceSegment(start, end, price);
+    }
+}
@@ -1,16 +1,27 @@
 package com.inditex.coreplatform.price_service.application.service;
 
 import com.inditex.coreplatform.price_service.application.exceptions.MissingPriceApplicationRequestParamException;
+import com.inditex.coreplatform.price_service.domain.models.Money;
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PricePage;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 class ReactivePriceServiceTest {
 
@@ -36,8 +47,7 @@ class ReactivePriceServiceTest {
                 price.setEndDate(applicationDate.plusDays(1)); // o una fecha posterior
                 price.setRateId(1);
                 price.setPriority(1);
-                price.setValue(35.5);
-                price.setCurrency("EUR");
+                price.setValue(Money.parse("35.5", "EUR"));
 
                 Mockito.when(priceRepository
                                 .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
@@ -50,7 +60,7 @@ class ReactivePriceServiceTest {
                 StepVerifier.create(result)
                                 .expectNextMatches(p -> p.getProductId().equals(productId) &&
                                                 p.getBrandId().equals(brandId) &&
-                                                p.getValue().equals(35.5))
+                                                p.getValue().minorUnits() == 3550)
                                 .verifyComplete();
         }
 
@@ -188,4 +198,162 @@ class ReactivePriceServiceTest {
                 StepVerifier.create(result)
                         .verifyComplete();
         }
-}
\ No newline at end of file
+
+        @Test
+        void testGetApplicablePriceSegment_ReturnsSegment() {
+                Integer productId = 35455;
+                Integer brandId = 1;
+                LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+                Price price = new Price();
+                PriceSegment segment = new PriceSegment(applicationDate.minusHours(1), applicationDate.plusHours(1),
+                                price);
+
+                Mockito.when(priceRepository.findApplicableSegment(productId, brandId, applicationDate))
+                                .thenReturn(Mono.just(segment));
+
+                StepVerifier.create(reactivePriceService
+                                .getApplicablePriceSegment(productId, brandId, applicationDate))
+                                .expectNext(segment)
+                                .verifyComplete();
+        }
+
+        @Test
+        void testGetApplicablePriceSegment_MissingParams() {
+                Mono<PriceSegment> result = reactivePriceService.getApplicablePriceSegment(null, 1, null);
+
+                StepVerifier.create(result)
+                        .expectErrorSatisfies(throwable -> {
+                                assert throwable instanceof MissingPriceApplicationRequestParamException;
+                                assert throwable.getMessage().contains("productId");
+                                assert throwable.getMessage().contains("applicationDate");
+                        })
+                        .verify();
+
+                Mockito.verifyNoInteractions(priceRepository);
+        }
+
+        @Test
+        void testGetApplicablePrices_ReturnsResultsAndDropsNonApplicablePrices() {
+                LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+                PriceLookup first = new PriceLookup(35455, 1, applicationDate);
+                PriceLookup second = new PriceLookup(35456, 1, applicationDate);
+
+                Price applicable = new Price();
+                applicable.setStartDate(applicationDate.minusDays(1));
+                applicable.setEndDate(applicationDate.plusDays(1));
+                Price expired = new Price();
+                expired.setStartDate(applicationDate.minusDays(2));
+                expired.setEndDate(applicationDate.minusDays(1));
+
+                Mockito.when(priceRepository.findApplicablePrices(List.of(first, second)))
+                                .thenReturn(Flux.just(new PriceLookupResult(first, applicable),
+                                                new PriceLookupResult(second, expired)));
+
+                StepVerifier.create(reactivePriceService.getApplicablePrices(List.of(first, second)))
+                                .expectNext(new PriceLookupResult(first, applicable))
+                                .expectNext(new PriceLookupResult(second, null))
+                                .verifyComplete();
+        }
+
+        @Test
+        void testGetApplicablePrices_MissingParams() {
+                PriceLookup invalid = new PriceLookup(35455, null, LocalDateTime.now());
+
+                StepVerifier.create(reactivePriceService.getApplicablePrices(List.of(invalid)))
+                        .expectErrorSatisfies(throwable -> {
+                                assert throwable instanceof MissingPriceApplicationRequestParamException;
+                                assert throwable.getMessage().contains("brandId");
+                        })
+                        .verify();
+
+                Mockito.verifyNoInteractions(priceRepository);
+        }
+
+        @Test
+        void testGetAllPricesAfterCursor_ReturnsPage() {
+                Price price = new Price();
+
+                Mockito.when(priceRepository.findAllAfter(5L, 100)).thenReturn(Flux.just(price));
+
+                StepVerifier.create(reactivePriceService.getAllPrices(5L, 100))
+                                .expectNext(price)
+                                .verifyComplete();
+        }
+
+        @Test
+        void testSearchPrices_ReturnsPageWithNextCursor_whenMoreRowsExist() {
+                PriceFilter filter = new PriceFilter(1, null, null, null);
+                Price first = Price.builder().id(1L).build();
+                Price second = Price.builder().id(2L).build();
+                Price third = Price.builder().id(3L).build();
+
+                Mockito.when(priceRepository.findByFilter(filter, null, 3))
+                                .thenReturn(Flux.just(first, second, third));
+
+                StepVerifier.create(reactivePriceService.searchPrices(filter, null, 2))
+                                .expectNext(new PricePage(List.of(first, second), 2L))
+                                .verifyComplete();
+        }
+
+        @Test
+        void testSearchPrices_ReturnsLastPageWithoutCursor() {
+                PriceFilter filter = new PriceFilter(1, null, null, null);
+                Price last = Price.builder().id(3L).build();
+
+                Mockito.when(priceRepository.findByFilter(filter, 2L, 3)).thenReturn(Flux.just(last));
+
+                StepVerifier.create(reactivePriceService.searchPrices(filter, 2L, 2))
+                                .expectNext(new PricePage(List.of(last), null))
+                                .verifyComplete();
+        }
+
+        @Test
+        void testGetPriceByProductAndBrandIdAndApplicationDate_CoalescesConcurrentIdenticalLookups() {
+                LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+                Price price = Price.builder()
+                                .productId(35455)
+                                .brandId(1)
+                                .startDate(applicationDate.minusDays(1))
+                                .endDate(applicationDate.plusDays(1))
+                                .build();
+                Sinks.One<Price> repositoryResult = Sinks.one();
+                List<Price> received = new ArrayList<>();
+
+                Mockito.when(priceRepository
+                                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                                                35455, 1, applicationDate, applicationDate))
+                                .thenReturn(repositoryResult.asMono());
+
+                for (int i = 0; i < 50; i++) {
+                        reactivePriceService.getPriceByProductAndBrandIdAndApplicationDate(35455, 1, applicationDate)
+                                        .subscribe(received::add);
+                }
+                repositoryResult.tryEmitValue(price);
+
+                assertEquals(50, received.size());
+                Mockito.verify(priceRepository, Mockito.times(1))
+                                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                                                35455, 1, applicationDate, applicationDate);
+        }
+
+        @Test
+        void testGetApplicablePriceSegment_CoalescesConcurrentIdenticalLookups() {
+                LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+                PriceSegment segment = new PriceSegment(applicationDate, applicationDate, new Price());
+                Sinks.One<PriceSegment> repositoryResult = Sinks.one();
+                List<PriceSegment> received = new ArrayList<>();
+
+                Mockito.when(priceRepository.findApplicableSegment(35455, 1, applicationDate))
+                                .thenReturn(repositoryResult.asMono());
+
+                for (int i = 0; i < 50; i++) {
+                        reactivePriceService.getApplicablePriceSegment(35455, 1, applicationDate)
+                                        .subscribe(received::add);
+                }
+                repositoryResult.tryEmitValue(segment);
+
+                assertEquals(50, received.size());
+                Mockito.verify(priceRepository, Mockito.times(1)).findApplicableSegment(35455, 1, applicationDate);
+        }
+}
@@ -0,0 +1,81 @@
+package com.inditex.coreplatform.price_service.application.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SingleFlightTest {
+
+    private SingleFlight<String, Integer> singleFlight;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void execute_shouldShareInFlightCallBetweenConcurrentSubscribers() {
+        Sinks.One<Integer> result = Sinks.one();
+        List<Integer> received = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            singleFlight.execute("key", () -> call(result.asMono())).subscribe(received::add);
+        }
+        result.tryEmitValue(42);
+
+        assertEquals(1, calls.get());
+        assertEquals(100, received.size());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void execute_shouldStartNewCall_afterPreviousOneCompleted() {
+        StepVerifier.create(singleFlight.execute("key", () -> call(Mono.just(1))))
+                .expectNext(1)
+                .verifyComplete();
+        StepVerifier.create(singleFlight.execute("key", () -> call(Mono.just(2))))
+                .expectNext(2)
+                .verifyComplete();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void execute_shouldNotShareCallsOfDifferentKeys() {
+        Sinks.One<Integer> first = Sinks.one();
+        Sinks.One<Integer> second = Sinks.one();
+
+        singleFlight.execute("first", () -> call(first.asMono())).subscribe();
+        singleFlight.execute("second", () -> call(second.asMono())).subscribe();
+
+        assertEquals(2, calls.get());
+        assertEquals(2, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void execute_shouldReleaseKey_whenCallFails() {
+        StepVerifier.create(singleFlight.execute("key", () -> call(Mono.error(new IllegalStateException()))))
+                .expectError(IllegalStateException.class)
+                .verify();
+        StepVerifier.create(singleFlight.execute("key", () -> call(Mono.just(1))))
+                .expectNext(1)
+                .verifyComplete();
+
+        assertEquals(2, calls.get());
+    }
+
+    private Mono<Integer> call(Mono<Integer> result) {
+        calls.incrementAndGet();
+        return result;
+    }
+}
@@ -1,6 +1,7 @@
 package com.inditex.coreplatform.price_service.application.usecases;
 
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
 import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
 
@@ -75,4 +76,23 @@ class GetApplicablePriceUseCaseTest {
         verify(priceService, times(1))
                 .getPriceByProductAndBrandIdAndApplicationDate(productId, brandId, applicationDate);
     }
-}
\ No newline at end of file
+
+    @Test
+    void executeSegment_shouldReturnSegment_whenServiceReturnsSegment() {
+        Integer productId = 1;
+        Integer brandId = 2;
+        LocalDateTime applicationDate = LocalDateTime.now();
+        PriceSegment segment = new PriceSegment(applicationDate.minusHours(1), applicationDate.plusHours(1), new Price());
+
+        when(priceService.getApplicablePriceSegment(productId, brandId, applicationDate))
+                .thenReturn(Mono.just(segment));
+
+        Mono<PriceSegment> result = useCase.executeSegment(new GetApplicablePriceQuery(productId, brandId, applicationDate));
+
+        StepVerifier.create(result)
+                .expectNext(segment)
+                .verifyComplete();
+
+        verify(priceService, times(1)).getApplicablePriceSegment(productId, brandId, applicationDate);
+    }
+}
@@ -0,0 +1,55 @@
+package com.inditex.coreplatform.price_service.application.usecases;
+
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+class GetApplicablePricesUseCaseTest {
+
+    private IPriceService priceService;
+    private GetApplicablePricesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        priceService = Mockito.mock(IPriceService.class);
+        useCase = new GetApplicablePricesUseCase(priceService);
+    }
+
+    @Test
+    void execute_shouldDelegateAllLookupsInSingleCall() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 10, 0);
+        PriceLookup first = new PriceLookup(35455, 1, applicationDate);
+        PriceLookup second = new PriceLookup(35456, 1, applicationDate);
+        Price price = new Price();
+
+        when(priceService.getApplicablePrices(List.of(first, second)))
+                .thenReturn(Flux.just(new PriceLookupResult(first, price), new PriceLookupResult(second, null)));
+
+        GetApplicablePricesQuery query = new GetApplicablePricesQuery(List.of(
+                new GetApplicablePriceQuery(35455, 1, applicationDate),
+                new GetApplicablePriceQuery(35456, 1, applicationDate)));
+
+        StepVerifier.create(useCase.execute(query))
+                .expectNext(new PriceLookupResult(first, price))
+                .expectNext(new PriceLookupResult(second, null))
+                .verifyComplete();
+
+        verify(priceService, times(1)).getApplicablePrices(List.of(first, second));
+    }
+}
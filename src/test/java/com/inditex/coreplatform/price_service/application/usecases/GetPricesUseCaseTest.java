@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetPricesQuery;
 import com.inditex.coreplatform.price_service.domain.models.Price;
 import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
 
@@ -48,4 +49,16 @@ class GetPricesUseCaseTest {
 
         verify(priceService, times(1)).getAllPrices();
     }
-}
\ No newline at end of file
+
+    @Test
+    void execute_shouldReturnPageAfterCursor() {
+        Price price = new Price();
+        when(priceService.getAllPrices(10L, 50)).thenReturn(Flux.just(price));
+
+        StepVerifier.create(getPricesUseCase.execute(new GetPricesQuery(10L, 50)))
+                .expectNext(price)
+                .verifyComplete();
+
+        verify(priceService, times(1)).getAllPrices(10L, 50);
+    }
+}
@@ -0,0 +1,181 @@
+package com.inditex.coreplatform.price_service.application.usecases;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportLine;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportReject;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceChangeBus;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceWriteRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+class ImportPricesUseCaseTest {
+
+    private IPriceWriteRepository priceWriteRepository;
+    private IPriceChangeBus priceChangeBus;
+    private ImportPricesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        priceWriteRepository = mock(IPriceWriteRepository.class);
+        when(priceWriteRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> Mono.just((long) invocation.<List<Price>>getArgument(0).size()));
+        priceChangeBus = mock(IPriceChangeBus.class);
+        useCase = new ImportPricesUseCase(priceWriteRepository, priceChangeBus, 2, 2, 2);
+    }
+
+    @Test
+    void execute_shouldWriteValidLinesInBatches() {
+        Flux<PriceImportLine> lines = Flux.fromStream(LongStream.rangeClosed(1, 5)
+                .mapToObj(line -> PriceImportLine.parsed(line, price().build())));
+
+        StepVerifier.create(useCase.execute(lines))
+                .assertNext(report -> {
+                    assertEquals(5, report.accepted());
+                    assertEquals(0, report.rejected());
+                    assertTrue(report.rejects().isEmpty());
+                })
+                .verifyComplete();
+
+        verify(priceWriteRepository, times(3)).insertAll(anyList());
+    }
+
+    @Test
+    void execute_shouldPublishTheKeysOfEachWrittenBatch() {
+        Flux<PriceImportLine> lines = Flux.just(
+                PriceImportLine.parsed(1, price().build()),
+                PriceImportLine.parsed(2, price().rateId(2).build()),
+                PriceImportLine.parsed(3, price().productId(35456).build()));
+
+        StepVerifier.create(useCase.execute(lines))
+                .assertNext(report -> assertEquals(3, report.accepted()))
+                .verifyComplete();
+
+        verify(priceChangeBus).publish(Set.of(PriceKey.of(price().build())));
+        verify(priceChangeBus).publish(Set.of(PriceKey.of(price().productId(35456).build())));
+    }
+
+    @Test
+    void execute_shouldReportMalformedAndInvalidLines() {
+        Flux<PriceImportLine> lines = Flux.just(
+                PriceImportLine.parsed(1, price().build()),
+                PriceImportLine.malformed(2, "Malformed JSON"),
+                PriceImportLine.parsed(3, price().value(Money.parse("35.50", "euro")).build()));
+
+        StepVerifier.create(useCase.execute(lines))
+                .assertNext(report -> {
+                    assertEquals(1, report.accepted());
+                    assertEquals(2, report.rejected());
+                    assertEquals(List.of(
+                            new PriceImportReject(2, "Malformed JSON"),
+                            new PriceImportReject(3, "'currency' must be an ISO 4217 code")), report.rejects());
+                    assertFalse(report.isRejectsTruncated());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldKeepOnlyFirstRejects() {
+        Flux<PriceImportLine> lines = Flux.fromStream(LongStream.rangeClosed(1, 5)
+                .mapToObj(line -> PriceImportLine.malformed(line, "Malformed JSON")));
+
+        StepVerifier.create(useCase.execute(lines))
+                .assertNext(report -> {
+                    assertEquals(0, report.accepted());
+                    assertEquals(5, report.rejected());
+                    assertEquals(2, report.rejects().size());
+                    assertTrue(report.isRejectsTruncated());
+                })
+                .verifyComplete();
+
+        verify(priceWriteRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void execute_shouldRejectLinesOfFailedBatchAndKeepGoing() {
+        when(priceWriteRepository.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Price> batch = invocation.getArgument(0);
+            return batch.stream().anyMatch(price -> price.getRateId() == 3)
+                    ? Mono.error(new IllegalStateException("boom"))
+                    : Mono.just((long) batch.size());
+        });
+        Flux<PriceImportLine> lines = Flux.fromStream(LongStream.rangeClosed(1, 5)
+                .mapToObj(line -> PriceImportLine.parsed(line, price().rateId((int) line).build())));
+
+        StepVerifier.create(useCase.execute(lines))
+                .assertNext(report -> {
+                    assertEquals(3, report.accepted());
+                    assertEquals(2, report.rejected());
+                    assertEquals(List.of(
+                            new PriceImportReject(3, "Batch of lines 3 to 4 could not be written: boom"),
+                            new PriceImportReject(4, "Batch of lines 3 to 4 could not be written: boom")),
+                            report.rejects());
+                })
+                .verifyComplete();
+
+        verify(priceWriteRepository, times(3)).insertAll(anyList());
+        verify(priceChangeBus, times(2)).publish(any());
+    }
+
+    @Test
+    void execute_shouldNotPublishChanges_whenNoBatchIsWritten() {
+        when(priceWriteRepository.insertAll(anyList())).thenReturn(Mono.error(new IllegalStateException("boom")));
+
+        StepVerifier.create(useCase.execute(Flux.just(PriceImportLine.parsed(1, price().build()))))
+                .assertNext(report -> {
+                    assertEquals(0, report.accepted());
+                    assertEquals(1, report.rejected());
+                })
+                .verifyComplete();
+
+        verify(priceChangeBus, never()).publish(any());
+    }
+
+    @Test
+    void validate_shouldCheckCatalogConstraints() {
+        assertNull(ImportPricesUseCase.validate(price().build()));
+        assertEquals("'brandId' must be a positive integer",
+                ImportPricesUseCase.validate(price().brandId(0).build()));
+        assertEquals("'productId' must be a positive integer",
+                ImportPricesUseCase.validate(price().productId(null).build()));
+        assertEquals("'priority' must be zero or a positive integer",
+                ImportPricesUseCase.validate(price().priority(-1).build()));
+        assertEquals("'endDate' must not be before 'startDate'",
+                ImportPricesUseCase.validate(price().endDate(LocalDateTime.of(2019, 1, 1, 0, 0)).build()));
+        assertEquals("'price' must be between 0 and 99999999.99",
+                ImportPricesUseCase.validate(price().value(Money.parse("1000000000", "EUR")).build()));
+    }
+
+    private static Price.PriceBuilder price() {
+        return Price.builder()
+                .brandId(1)
+                .productId(35455)
+                .rateId(1)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .value(Money.parse("35.50", "EUR"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.inditex.coreplatform.price_service.application.usecases;
+
+import com.inditex.coreplatform.price_service.application.usecases.queries.SearchPricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PricePage;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+class SearchPricesUseCaseTest {
+
+    private IPriceService priceService;
+    private SearchPricesUseCase useCase;
+
+    @BeforeEach
+    void setUp() {
+        priceService = mock(IPriceService.class);
+        useCase = new SearchPricesUseCase(priceService);
+    }
+
+    @Test
+    void execute_shouldBuildFilterAndUseRequestedLimit() {
+        LocalDateTime validFrom = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime validTo = LocalDateTime.of(2020, 6, 15, 0, 0);
+        PriceFilter filter = new PriceFilter(1, Set.of(35455), validFrom, validTo);
+        PricePage page = new PricePage(List.of(), null);
+        when(priceService.searchPrices(filter, 10L, 50)).thenReturn(Mono.just(page));
+
+        StepVerifier.create(useCase.execute(new SearchPricesQuery(1, Set.of(35455), validFrom, validTo, 10L, 50)))
+                .expectNext(page)
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_shouldApplyDefaultPageSize_whenLimitMissing() {
+        PriceFilter filter = new PriceFilter(null, null, null, null);
+        when(priceService.searchPrices(filter, null, SearchPricesUseCase.DEFAULT_PAGE_SIZE))
+                .thenReturn(Mono.just(new PricePage(List.of(), null)));
+
+        StepVerifier.create(useCase.execute(new SearchPricesQuery(null, null, null, null, null, null)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(priceService).searchPrices(filter, null, SearchPricesUseCase.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void execute_shouldCapPageSize() {
+        PriceFilter filter = new PriceFilter(1, null, null, null);
+        when(priceService.searchPrices(filter, null, SearchPricesUseCase.MAX_PAGE_SIZE))
+                .thenReturn(Mono.just(new PricePage(List.of(), null)));
+
+        StepVerifier.create(useCase.execute(new SearchPricesQuery(1, null, null, null, null, 50_000)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(priceService).searchPrices(filter, null, SearchPricesUseCase.MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,73 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+
+class MoneyTest {
+
+    @Test
+    void of_shouldConvertDecimalToMinorUnits() {
+        assertEquals(new Money(3550, "EUR"), Money.of(new BigDecimal("35.50"), "EUR"));
+        assertEquals(new Money(-5, "EUR"), Money.of(new BigDecimal("-0.05"), "EUR"));
+        assertEquals(new Money(1000, null), Money.of(BigDecimal.TEN, null));
+    }
+
+    @Test
+    void of_shouldRejectMoreThanTwoDecimals() {
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("35.555"), "EUR"));
+    }
+
+    @Test
+    void parse_shouldAcceptPlainDecimals() {
+        assertEquals(3550, Money.parse("35.5", null).minorUnits());
+        assertEquals(3550, Money.parse("35.50", null).minorUnits());
+        assertEquals(3500, Money.parse("35", null).minorUnits());
+        assertEquals(3500, Money.parse("+35", null).minorUnits());
+        assertEquals(-5, Money.parse("-0.05", null).minorUnits());
+        assertEquals(Long.MAX_VALUE, Money.parse("92233720368547758.07", null).minorUnits());
+    }
+
+    @Test
+    void parse_shouldRejectAnythingElse() {
+        for (String amount : new String[] { "", "-", ".5", "35.", "35.555", "3.5e1", "1,5", " 35", "35 ", "0x10",
+                "92233720368547758.08" }) {
+            assertThrows(NumberFormatException.class, () -> Money.parse(amount, null), amount);
+        }
+    }
+
+    @Test
+    void toDecimalString_shouldWriteOneOrTwoDecimalsLikeDouble() {
+        for (String amount : new String[] { "0", "0.05", "0.5", "10", "25.45", "30.10", "99999.99", "9999999.99" }) {
+            assertEquals(Double.toString(Double.parseDouble(amount)), Money.parse(amount, null).toDecimalString());
+        }
+    }
+
+    @Test
+    void toDecimalString_shouldWritePlainDecimals_whereDoubleUsesExponents() {
+        assertEquals("10000000.0", Money.parse("10000000", null).toDecimalString());
+        assertEquals("-12.3", Money.parse("-12.30", null).toDecimalString());
+        assertEquals("-92233720368547758.08", new Money(Long.MIN_VALUE, null).toDecimalString());
+    }
+
+    @Test
+    void plus_shouldAddAmountsOfTheSameCurrency() {
+        assertEquals(new Money(6095, "EUR"), Money.parse("35.50", "EUR").plus(Money.parse("25.45", "EUR")));
+        assertThrows(IllegalArgumentException.class,
+                () -> Money.parse("35.50", "EUR").plus(Money.parse("25.45", "USD")));
+    }
+
+    @Test
+    void toBigDecimal_shouldKeepTheScale() {
+        assertEquals(new BigDecimal("35.50"), Money.parse("35.5", "EUR").toBigDecimal());
+    }
+
+    @Test
+    void toString_shouldIncludeCurrency() {
+        assertEquals("35.5 EUR", Money.parse("35.50", "EUR").toString());
+        assertEquals("35.5", Money.parse("35.50", null).toString());
+    }
+}
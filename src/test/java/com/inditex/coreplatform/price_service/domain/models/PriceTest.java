@@ -23,8 +23,7 @@ class PriceTest {
                 .rateId(1)
                 .productId(100)
                 .priority(0)
-                .value(99.99)
-                .currency("EUR")
+                .value(Money.parse("99.99", "EUR"))
                 .build();
 
         assertTrue(price.isApplicableAt(applicationDate));
@@ -85,7 +84,8 @@ class PriceTest {
 
     @Test
     void testLombokGeneratedMethods() {
-        Price price1 = new Price(1, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 2, 3, 1, 10.0, "USD");
+        Price price1 = new Price(null, 1, LocalDateTime.now(), LocalDateTime.now().plusDays(1), 2, 3, 1,
+                Money.parse("10.0", "USD"));
         Price price2 = new Price();
         price2.setBrandId(1);
         price2.setStartDate(price1.getStartDate());
@@ -93,8 +93,7 @@ class PriceTest {
         price2.setRateId(2);
         price2.setProductId(3);
         price2.setPriority(1);
-        price2.setValue(10.0);
-        price2.setCurrency("USD");
+        price2.setValue(Money.parse("10.0", "USD"));
 
         assertEquals(price1, price2);
         assertEquals(price1.hashCode(), price2.hashCode());
@@ -0,0 +1,95 @@
+package com.inditex.coreplatform.price_service.domain.models;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class PriceTimelineTest {
+
+    private static final List<Price> PRICES = List.of(
+            price(35455, 1, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59"),
+            price(35455, 2, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00"),
+            price(35455, 3, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00"),
+            price(35455, 4, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59"));
+
+    @Test
+    void compile_shouldFlattenOverlappingPricesIntoDisjointSegments() {
+        List<PriceSegment> segments = PriceTimeline.compile(PRICES).getSegments();
+
+        assertEquals(6, segments.size());
+        assertSegment(segments.get(0), "2020-06-14T00:00:00", "2020-06-14T14:59:59", 1);
+        assertSegment(segments.get(1), "2020-06-14T15:00:00", "2020-06-14T18:30:00", 2);
+        assertSegment(segments.get(2), "2020-06-14T18:30:01", "2020-06-14T23:59:59", 1);
+        assertSegment(segments.get(3), "2020-06-15T00:00:00", "2020-06-15T11:00:00", 3);
+        assertSegment(segments.get(4), "2020-06-15T11:00:01", "2020-06-15T15:59:59", 1);
+        assertSegment(segments.get(5), "2020-06-15T16:00:00", "2020-12-31T23:59:59", 4);
+    }
+
+    @Test
+    void segmentAt_shouldReturnWinningPrice() {
+        PriceTimeline timeline = PriceTimeline.compile(PRICES);
+
+        assertEquals(1, rateAt(timeline, "2020-06-14T10:00:00"));
+        assertEquals(2, rateAt(timeline, "2020-06-14T16:00:00"));
+        assertEquals(1, rateAt(timeline, "2020-06-14T21:00:00"));
+        assertEquals(3, rateAt(timeline, "2020-06-15T10:00:00"));
+        assertEquals(4, rateAt(timeline, "2020-06-16T21:00:00"));
+    }
+
+    @Test
+    void segmentAt_shouldReturnEmpty_outsideAnyPrice() {
+        PriceTimeline timeline = PriceTimeline.compile(PRICES);
+
+        assertTrue(timeline.segmentAt(LocalDateTime.parse("2020-06-13T23:59:59")).isEmpty());
+        assertTrue(timeline.segmentAt(LocalDateTime.parse("2021-01-01T00:00:00")).isEmpty());
+        assertTrue(PriceTimeline.compile(List.of()).segmentAt(LocalDateTime.parse("2020-06-14T10:00:00")).isEmpty());
+    }
+
+    @Test
+    void compile_shouldBreakPriorityTiesByMostRecentStart() {
+        PriceTimeline timeline = PriceTimeline.compile(List.of(
+                price(35455, 1, 1, "2020-01-01T00:00:00", "2020-12-31T23:59:59"),
+                price(35455, 2, 1, "2020-06-01T00:00:00", "2020-06-30T23:59:59")));
+
+        assertEquals(2, rateAt(timeline, "2020-06-15T00:00:00"));
+        assertEquals(1, rateAt(timeline, "2020-07-01T00:00:00"));
+    }
+
+    @Test
+    void compileAll_shouldGroupByBrandAndProduct() {
+        Map<PriceKey, PriceTimeline> timelines = PriceTimeline.compileAll(List.of(
+                price(35455, 1, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59"),
+                price(35456, 2, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59")));
+
+        assertEquals(2, timelines.size());
+        assertEquals(1, rateAt(timelines.get(new PriceKey(1, 35455)), "2020-06-14T10:00:00"));
+        assertEquals(2, rateAt(timelines.get(new PriceKey(1, 35456)), "2020-06-14T10:00:00"));
+    }
+
+    private static Integer rateAt(PriceTimeline timeline, String date) {
+        return timeline.segmentAt(LocalDateTime.parse(date)).orElseThrow().price().getRateId();
+    }
+
+    private static void assertSegment(PriceSegment segment, String start, String end, int rateId) {
+        assertEquals(LocalDateTime.parse(start), segment.startDate());
+        assertEquals(LocalDateTime.parse(end), segment.endDate());
+        assertEquals(rateId, segment.price().getRateId());
+    }
+
+    private static Price price(int productId, int rateId, int priority, String start, String end) {
+        return Price.builder()
+                .brandId(1)
+                .productId(productId)
+                .rateId(rateId)
+                .priority(priority)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .value(Money.parse("10.0", "EUR"))
+                .build();
+    }
+}
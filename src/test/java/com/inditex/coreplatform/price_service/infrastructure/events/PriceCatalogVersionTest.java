@@ -0,0 +1,152 @@
+package com.inditex.coreplatform.price_service.infrastructure.events;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceCatalogStats;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.repositories.IReactivePriceRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+class PriceCatalogVersionTest {
+
+    private static final Duration NO_POLLING = Duration.ofHours(1);
+    private static final PriceKey KEY = new PriceKey(1, 35455);
+
+    private final AtomicReference<PriceCatalogStats> stats = new AtomicReference<>(new PriceCatalogStats(4, 4));
+    private IReactivePriceRepository priceRepository;
+    private PriceChangeBus priceChangeBus;
+
+    @BeforeEach
+    void setUp() {
+        priceRepository = mock(IReactivePriceRepository.class);
+        when(priceRepository.findCatalogStats()).thenReturn(Mono.fromSupplier(stats::get));
+        priceChangeBus = new PriceChangeBus("node-a", PriceChangeTransport.NONE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        priceChangeBus.close();
+    }
+
+    @Test
+    void etag_shouldBeDerivedFromRowCountAndMaxId() {
+        try (PriceCatalogVersion version = new PriceCatalogVersion(priceRepository, priceChangeBus, NO_POLLING)) {
+            assertNull(version.etag());
+
+            version.start();
+            await(() -> version.etag() != null);
+
+            assertEquals("\"4-4\"", version.etag());
+            assertEquals(4, version.getRowCount());
+        }
+    }
+
+    @Test
+    void etag_shouldBeTheSameOnEveryNodeReadingTheSameCatalog() {
+        try (PriceChangeBus otherBus = new PriceChangeBus("node-b", PriceChangeTransport.NONE);
+                PriceCatalogVersion version = new PriceCatalogVersion(priceRepository, priceChangeBus, NO_POLLING);
+                PriceCatalogVersion other = new PriceCatalogVersion(priceRepository, otherBus, NO_POLLING)) {
+            priceChangeBus.publish(List.of(KEY, KEY));
+            version.start();
+            other.start();
+            await(() -> version.etag() != null && other.etag() != null);
+
+            assertEquals(version.etag(), other.etag());
+        }
+    }
+
+    @Test
+    void changes_shouldReadVersionAgain() {
+        try (PriceCatalogVersion version = new PriceCatalogVersion(priceRepository, priceChangeBus, NO_POLLING)) {
+            version.start();
+            await(() -> version.etag() != null);
+
+            stats.set(new PriceCatalogStats(6, 6));
+            priceChangeBus.publish(List.of(KEY));
+
+            await(() -> "\"6-6\"".equals(version.etag()));
+        }
+    }
+
+    @Test
+    void poll_shouldSeeChangesMadeByOtherNodes() {
+        try (PriceCatalogVersion version = new PriceCatalogVersion(priceRepository, priceChangeBus,
+                Duration.ofMillis(20))) {
+            version.start();
+            await(() -> version.etag() != null);
+
+            stats.set(new PriceCatalogStats(5, 5));
+
+            await(() -> "\"5-5\"".equals(version.etag()));
+        }
+    }
+
+    @Test
+    void versions_shouldEmitOnlyWhenVersionChanges() {
+        List<String> versions = new CopyOnWriteArrayList<>();
+        try (PriceCatalogVersion version = new PriceCatalogVersion(priceRepository, priceChangeBus, NO_POLLING)) {
+            version.versions().subscribe(versions::add);
+            version.start();
+            await(() -> versions.size() == 1);
+
+            priceChangeBus.publish(List.of(KEY));
+            stats.set(new PriceCatalogStats(5, 7));
+            priceChangeBus.publish(List.of(KEY));
+
+            await(() -> versions.size() == 2);
+            assertEquals(List.of("\"4-4\"", "\"5-7\""), versions);
+        }
+    }
+
+    @Test
+    void readError_shouldKeepThePreviousVersion() {
+        try (PriceCatalogVersion version = new PriceCatalogVersion(priceRepository, priceChangeBus, NO_POLLING)) {
+            version.start();
+            await(() -> version.etag() != null);
+
+            when(priceRepository.findCatalogStats()).thenReturn(Mono.error(new IllegalStateException("database down")));
+            priceChangeBus.publish(List.of(KEY));
+            when(priceRepository.findCatalogStats()).thenReturn(Mono.fromSupplier(stats::get));
+            stats.set(new PriceCatalogStats(5, 5));
+            priceChangeBus.publish(List.of(KEY));
+
+            await(() -> "\"5-5\"".equals(version.etag()));
+        }
+    }
+
+    @Test
+    void close_shouldStopReadingVersion() {
+        PriceCatalogVersion version = new PriceCatalogVersion(priceRepository, priceChangeBus, NO_POLLING);
+        version.start();
+        await(() -> version.etag() != null);
+        version.close();
+
+        stats.set(new PriceCatalogStats(5, 5));
+        priceChangeBus.publish(List.of(KEY));
+
+        assertEquals("\"4-4\"", version.etag());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.inditex.coreplatform.price_service.infrastructure.events;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+class PriceChangeBusTest {
+
+    private static final PriceKey FIRST = new PriceKey(1, 35455);
+    private static final PriceKey SECOND = new PriceKey(1, 35456);
+
+    @Test
+    void publish_shouldEmitKeysToLocalSubscribers() throws Exception {
+        try (PriceChangeBus bus = new PriceChangeBus("node-a", PriceChangeTransport.NONE)) {
+            CompletableFuture<List<PriceKey>> changes = bus.changes().take(2).collectList().toFuture();
+
+            bus.publish(List.of(FIRST, SECOND));
+
+            assertEquals(List.of(FIRST, SECOND), changes.get(5, TimeUnit.SECONDS));
+            assertEquals(2, bus.getPublishedCount());
+            assertEquals(0, bus.getReceivedCount());
+        }
+    }
+
+    @Test
+    void publish_shouldReachOtherNodesOnTheSameChannel() throws Exception {
+        LocalPriceChangeBroker broker = new LocalPriceChangeBroker();
+        try (PriceChangeBus nodeA = new PriceChangeBus("node-a", broker.transport("prices"));
+                PriceChangeBus nodeB = new PriceChangeBus("node-b", broker.transport("prices"));
+                PriceChangeBus other = new PriceChangeBus("node-c", broker.transport("other"))) {
+            CompletableFuture<List<PriceKey>> local = nodeA.changes().take(1).collectList().toFuture();
+            CompletableFuture<List<PriceKey>> remote = nodeB.changes().take(1).collectList().toFuture();
+
+            nodeA.publish(List.of(FIRST));
+
+            assertEquals(List.of(FIRST), local.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(FIRST), remote.get(5, TimeUnit.SECONDS));
+            assertEquals(1, nodeA.getPublishedCount());
+            assertEquals(0, nodeA.getReceivedCount());
+            assertEquals(1, nodeB.getReceivedCount());
+            assertEquals(0, other.getReceivedCount());
+        }
+    }
+
+    @Test
+    void publish_shouldIgnoreEmptyChanges() {
+        try (PriceChangeBus bus = new PriceChangeBus("node-a", PriceChangeTransport.NONE)) {
+            bus.publish(List.of());
+
+            assertEquals(0, bus.getPublishedCount());
+        }
+    }
+
+    @Test
+    void close_shouldCompleteSubscribers() throws Exception {
+        PriceChangeBus bus = new PriceChangeBus("node-a", PriceChangeTransport.NONE);
+        CompletableFuture<List<PriceKey>> changes = bus.changes().collectList().toFuture();
+
+        bus.publish(List.of(FIRST));
+        bus.close();
+
+        assertEquals(List.of(FIRST), changes.get(5, TimeUnit.SECONDS));
+        assertTrue(changes.isDone());
+    }
+}
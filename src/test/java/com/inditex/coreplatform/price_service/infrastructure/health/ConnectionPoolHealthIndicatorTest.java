@@ -0,0 +1,62 @@
+package com.inditex.coreplatform.price_service.infrastructure.health;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.ConnectionFactory;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+class ConnectionPoolHealthIndicatorTest {
+
+    private ConnectionPool connectionPool;
+    private PoolMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        connectionPool = mock(ConnectionPool.class);
+        metrics = mock(PoolMetrics.class);
+        when(connectionPool.getMetrics()).thenReturn(Optional.of(metrics));
+        when(metrics.acquiredSize()).thenReturn(20);
+        when(metrics.idleSize()).thenReturn(0);
+        when(metrics.allocatedSize()).thenReturn(20);
+        when(metrics.getMaxAllocatedSize()).thenReturn(20);
+    }
+
+    @Test
+    void health_shouldBeUp_whenPendingAcquisitionsWithinThreshold() {
+        when(metrics.pendingAcquireSize()).thenReturn(10);
+
+        StepVerifier.create(new ConnectionPoolHealthIndicator(connectionPool, 10).health())
+                .assertNext(health -> {
+                    assertEquals(Status.UP, health.getStatus());
+                    assertEquals(10, health.getDetails().get("pending"));
+                    assertEquals(20, health.getDetails().get("acquired"));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void health_shouldBeDegraded_whenPendingAcquisitionsPileUp() {
+        when(metrics.pendingAcquireSize()).thenReturn(11);
+
+        StepVerifier.create(new ConnectionPoolHealthIndicator(connectionPool, 10).health())
+                .assertNext(health -> assertEquals(ConnectionPoolHealthIndicator.DEGRADED, health.getStatus()))
+                .verifyComplete();
+    }
+
+    @Test
+    void health_shouldBeUnknown_whenConnectionFactoryIsNotPooled() {
+        StepVerifier.create(new ConnectionPoolHealthIndicator(mock(ConnectionFactory.class), 10).health())
+                .assertNext(health -> assertEquals(Status.UNKNOWN, health.getStatus()))
+                .verifyComplete();
+    }
+}
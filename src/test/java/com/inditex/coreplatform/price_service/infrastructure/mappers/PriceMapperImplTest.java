@@ -1,5 +1,6 @@
 package com.inditex.coreplatform.price_service.infrastructure.mappers;
 
+import com.inditex.coreplatform.price_service.domain.models.Money;
 import com.inditex.coreplatform.price_service.domain.models.Price;
 import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
 import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
@@ -11,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 class PriceMapperImplTest {
@@ -30,26 +32,27 @@ class PriceMapperImplTest {
     @Test
     void testToDomain_ValidEntity() {
         PriceEntity entity = new PriceEntity();
+        entity.setId(7L);
         entity.setBrandId(1);
         entity.setStartDate(LocalDateTime.of(2023, 1, 1, 0, 0));
         entity.setEndDate(LocalDateTime.of(2023, 12, 31, 23, 59));
         entity.setPriceList(2);
         entity.setProductId(3);
         entity.setPriority(4);
-        entity.setPrice(99.99);
+        entity.setPrice(new BigDecimal("99.99"));
         entity.setCurr("EUR");
 
         Price price = priceMapper.toDomain(entity);
 
         assertNotNull(price);
+        assertEquals(entity.getId(), price.getId());
         assertEquals(entity.getBrandId(), price.getBrandId());
         assertEquals(entity.getStartDate(), price.getStartDate());
         assertEquals(entity.getEndDate(), price.getEndDate());
         assertEquals(entity.getPriceList(), price.getRateId());
         assertEquals(entity.getProductId(), price.getProductId());
         assertEquals(entity.getPriority(), price.getPriority());
-        assertEquals(entity.getPrice(), price.getValue());
-        assertEquals(entity.getCurr(), price.getCurrency());
+        assertEquals(new Money(9999, "EUR"), price.getValue());
     }
 
     @Test
@@ -66,8 +69,7 @@ class PriceMapperImplTest {
                 .rateId(2)
                 .productId(3)
                 .priority(4)
-                .value(99.99)
-                .currency("EUR")
+                .value(Money.parse("99.99", "EUR"))
                 .build();
 
         PriceEntity entity = priceMapper.toEntity(price);
@@ -79,8 +81,8 @@ class PriceMapperImplTest {
         assertEquals(price.getRateId(), entity.getPriceList());
         assertEquals(price.getProductId(), entity.getProductId());
         assertEquals(price.getPriority(), entity.getPriority());
-        assertEquals(price.getValue(), entity.getPrice());
-        assertEquals(price.getCurrency(), entity.getCurr());
+        assertEquals(new BigDecimal("99.99"), entity.getPrice());
+        assertEquals("EUR", entity.getCurr());
     }
 
     @Test
@@ -96,12 +98,13 @@ class PriceMapperImplTest {
                 .endDate(LocalDateTime.of(2023, 12, 31, 23, 59))
                 .rateId(2)
                 .productId(3)
-                .value(99.99)
+                .value(Money.parse("99.99", "EUR"))
                 .build();
 
         PriceResponse response = priceMapper.toResponse(price);
 
         assertNotNull(response);
+        assertEquals(price.getId(), response.getId());
         assertEquals(price.getBrandId(), response.getBrandId());
         assertEquals(price.getStartDate(), response.getStartDate());
         assertEquals(price.getEndDate(), response.getEndDate());
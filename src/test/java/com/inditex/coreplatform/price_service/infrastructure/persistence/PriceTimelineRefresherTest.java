@@ -0,0 +1,79 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeBus;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeTransport;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+class PriceTimelineRefresherTest {
+
+    private static final PriceKey KEY = new PriceKey(1, 35455);
+
+    private PriceChangeBus priceChangeBus;
+    private PriceRepositoryAdapter repository;
+    private PriceTimelineRefresher refresher;
+    private Map<PriceKey, PriceTimeline> timelines;
+
+    @BeforeEach
+    void setUp() {
+        priceChangeBus = new PriceChangeBus("node-a", PriceChangeTransport.NONE);
+        repository = mock(PriceRepositoryAdapter.class);
+        refresher = new PriceTimelineRefresher(priceChangeBus, repository);
+        timelines = Map.of(KEY, PriceTimeline.compile(List.of()));
+        when(repository.findTimelines(any())).thenReturn(Mono.just(timelines));
+    }
+
+    @Test
+    void follow_shouldApplyTimelinesOfChangedKeysAndEmitThem() throws Exception {
+        List<Map<PriceKey, PriceTimeline>> applied = new CopyOnWriteArrayList<>();
+        CompletableFuture<PriceKey> refreshed = refresher.refreshedKeys().next().toFuture();
+        refresher.follow(Mono.empty(), applied::add);
+
+        priceChangeBus.publish(List.of(KEY, KEY));
+
+        assertEquals(KEY, refreshed.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(timelines), applied);
+        verify(repository).findTimelines(Set.of(KEY));
+        priceChangeBus.close();
+    }
+
+    @Test
+    void follow_shouldWaitForTheEngineToLoad() throws Exception {
+        Sinks.Empty<Void> loaded = Sinks.empty();
+        List<Map<PriceKey, PriceTimeline>> applied = new CopyOnWriteArrayList<>();
+        CompletableFuture<PriceKey> refreshed = refresher.refreshedKeys().next().toFuture();
+        refresher.follow(loaded.asMono(), applied::add);
+
+        priceChangeBus.publish(List.of(KEY));
+        Thread.sleep(PriceTimelineRefresher.BATCH_WINDOW.multipliedBy(4).toMillis());
+
+        assertTrue(applied.isEmpty());
+        verify(repository, never()).findTimelines(any());
+
+        loaded.tryEmitEmpty();
+
+        assertEquals(KEY, refreshed.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(timelines), applied);
+        priceChangeBus.close();
+    }
+}
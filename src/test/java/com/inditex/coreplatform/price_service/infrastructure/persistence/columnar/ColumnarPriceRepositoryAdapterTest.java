@@ -0,0 +1,187 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.columnar;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceRepositoryAdapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class ColumnarPriceRepositoryAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    private PriceRepositoryAdapter fallback;
+    private ColumnarPriceRepositoryAdapter adapter;
+    private Price price;
+
+    @BeforeEach
+    void setUp() {
+        fallback = mock(PriceRepositoryAdapter.class);
+        adapter = new ColumnarPriceRepositoryAdapter(fallback);
+        price = Price.builder()
+                .brandId(1)
+                .productId(35455)
+                .rateId(1)
+                .priority(0)
+                .startDate(START)
+                .endDate(END)
+                .value(Money.parse("35.50", "EUR"))
+                .build();
+        when(fallback.findAll()).thenReturn(Flux.just(price));
+    }
+
+    @Test
+    void findTop_shouldDelegateToFallback_whenStoreNotLoaded() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        when(fallback.findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                35455, 1, date, date)).thenReturn(Mono.just(price));
+
+        StepVerifier.create(adapter
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, date, date))
+                .expectNext(price)
+                .verifyComplete();
+    }
+
+    @Test
+    void findTop_shouldUseStore_whenLoaded() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        StepVerifier.create(adapter.reload()).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(adapter
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, date, date))
+                .expectNext(price)
+                .verifyComplete();
+
+        StepVerifier.create(adapter
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, END.plusSeconds(1), END.plusSeconds(1)))
+                .verifyComplete();
+
+        verify(fallback, never())
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        any(), any(), any(), any());
+    }
+
+    @Test
+    void findTop_shouldDelegateToFallback_whenQueryIsARange() {
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 10, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(fallback.findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                35455, 1, from, to)).thenReturn(Mono.empty());
+
+        StepVerifier.create(adapter.reload()).expectNextCount(1).verifyComplete();
+        StepVerifier.create(adapter
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, from, to))
+                .verifyComplete();
+
+        verify(fallback)
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, from, to);
+    }
+
+    @Test
+    void findAll_shouldDelegateToFallback() {
+        StepVerifier.create(adapter.findAll())
+                .expectNext(price)
+                .verifyComplete();
+
+        verify(fallback).findAll();
+    }
+
+    @Test
+    void findApplicableSegment_shouldUseStore_whenLoaded() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        StepVerifier.create(adapter.reload()).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, date))
+                .expectNextMatches(segment -> segment.price().equals(price)
+                        && segment.startDate().equals(START)
+                        && segment.endDate().equals(END))
+                .verifyComplete();
+
+        verify(fallback, never()).findApplicableSegment(any(), any(), any());
+    }
+
+    @Test
+    void findApplicableSegment_shouldDelegateToFallback_whenStoreNotLoaded() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        PriceSegment segment = new PriceSegment(START, END, price);
+        when(fallback.findApplicableSegment(35455, 1, date)).thenReturn(Mono.just(segment));
+
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, date))
+                .expectNext(segment)
+                .verifyComplete();
+    }
+
+    @Test
+    void findApplicablePrices_shouldResolveEachLookupFromStore() {
+        PriceLookup found = new PriceLookup(35455, 1, LocalDateTime.of(2020, 6, 14, 10, 0));
+        PriceLookup missing = new PriceLookup(35455, 2, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        StepVerifier.create(adapter.reload()).expectNextCount(1).verifyComplete();
+
+        StepVerifier.create(adapter.findApplicablePrices(List.of(found, missing)))
+                .expectNext(new PriceLookupResult(found, price))
+                .expectNext(new PriceLookupResult(missing, null))
+                .verifyComplete();
+
+        verify(fallback, never()).findApplicablePrices(any());
+    }
+
+    @Test
+    void refresh_shouldReplaceTimelineOfChangedKey() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        Price changed = Price.builder()
+                .brandId(1)
+                .productId(35455)
+                .rateId(2)
+                .priority(1)
+                .startDate(START)
+                .endDate(END)
+                .value(Money.parse("30.00", "EUR"))
+                .build();
+
+        StepVerifier.create(adapter.reload()).expectNextCount(1).verifyComplete();
+        adapter.refresh(Map.of(new PriceKey(1, 35455), PriceTimeline.compile(List.of(price, changed))));
+
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, date))
+                .expectNextMatches(segment -> segment.price().equals(changed))
+                .verifyComplete();
+
+        adapter.refresh(Map.of(new PriceKey(1, 35455), PriceTimeline.compile(List.of())));
+
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, date))
+                .verifyComplete();
+    }
+
+    @Test
+    void refresh_shouldBeIgnored_whenNotLoaded() {
+        assertNull(adapter.refresh(Map.of(new PriceKey(1, 35455), PriceTimeline.compile(List.of(price)))));
+    }
+}
@@ -0,0 +1,159 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.memory;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class PriceIntervalIndexTest {
+
+    private static final int BRAND_ID = 1;
+    private static final int PRODUCT_ID = 35455;
+
+    private PriceIntervalIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = PriceIntervalIndex.build(List.of(
+                price(1, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"),
+                price(2, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45"),
+                price(3, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50"),
+                price(4, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95")));
+    }
+
+    @Test
+    void find_shouldResolvePriorityForEachRequiredCase() {
+        assertEquals(1, rateAt("2020-06-14T10:00:00"));
+        assertEquals(2, rateAt("2020-06-14T16:00:00"));
+        assertEquals(1, rateAt("2020-06-14T21:00:00"));
+        assertEquals(3, rateAt("2020-06-15T10:00:00"));
+        assertEquals(4, rateAt("2020-06-16T21:00:00"));
+    }
+
+    @Test
+    void find_shouldTreatEndDateAsInclusive() {
+        assertEquals(2, rateAt("2020-06-14T18:30:00"));
+        assertEquals(1, rateAt("2020-06-14T18:30:01"));
+        assertEquals(4, rateAt("2020-12-31T23:59:59"));
+    }
+
+    @Test
+    void find_shouldReturnNull_whenNoPriceApplies() {
+        assertNull(find(BRAND_ID, PRODUCT_ID, "2020-06-13T23:59:59"));
+        assertNull(find(BRAND_ID, PRODUCT_ID, "2021-01-01T00:00:00"));
+        assertNull(find(BRAND_ID, 99999, "2020-06-14T10:00:00"));
+        assertNull(find(2, PRODUCT_ID, "2020-06-14T10:00:00"));
+    }
+
+    @Test
+    void find_shouldMergeContiguousSegmentsWithSameWinner() {
+        // rate 1 | rate 2 | rate 1 | rate 3 | rate 1 | rate 4
+        assertEquals(6, index.size());
+    }
+
+    @Test
+    void find_shouldReturnSegmentBounds() {
+        PriceSegment segment = find(BRAND_ID, PRODUCT_ID, "2020-06-14T21:00:00");
+
+        assertEquals(LocalDateTime.parse("2020-06-14T18:30:01"), segment.startDate());
+        assertEquals(LocalDateTime.parse("2020-06-14T23:59:59"), segment.endDate());
+    }
+
+    @Test
+    void build_shouldHandleEmptyCatalog() {
+        PriceIntervalIndex empty = PriceIntervalIndex.build(List.of());
+
+        assertEquals(0, empty.size());
+        assertNull(empty.find(BRAND_ID, PRODUCT_ID, 0L));
+    }
+
+    @Test
+    void build_shouldLeaveGapsBetweenNonOverlappingPrices() {
+        PriceIntervalIndex gapped = PriceIntervalIndex.build(List.of(
+                price(1, 0, "2020-01-01T00:00:00", "2020-01-31T23:59:59", "10.0"),
+                price(2, 0, "2020-03-01T00:00:00", "2020-03-31T23:59:59", "20.0")));
+
+        assertEquals(1, gapped.find(BRAND_ID, PRODUCT_ID, epoch("2020-01-15T00:00:00")).price().getRateId());
+        assertNull(gapped.find(BRAND_ID, PRODUCT_ID, epoch("2020-02-15T00:00:00")));
+        assertEquals(2, gapped.find(BRAND_ID, PRODUCT_ID, epoch("2020-03-15T00:00:00")).price().getRateId());
+    }
+
+    @Test
+    void withTimelines_shouldReplaceAddAndRemoveOnlyChangedKeys() {
+        PriceIntervalIndex catalog = PriceIntervalIndex.build(List.of(
+                catalogPrice(10, 1, "10.00", "EUR"),
+                catalogPrice(20, 2, "20.00", "EUR"),
+                catalogPrice(30, 3, "30.00", "EUR")));
+
+        PriceIntervalIndex updated = catalog.withTimelines(Map.of(
+                new PriceKey(BRAND_ID, 10), PriceTimeline.compile(List.of()),
+                new PriceKey(BRAND_ID, 20), PriceTimeline.compile(List.of(catalogPrice(20, 5, "21.00", "EUR"))),
+                new PriceKey(BRAND_ID, 25), PriceTimeline.compile(List.of(catalogPrice(25, 6, "25.00", "USD"))),
+                new PriceKey(BRAND_ID, 40), PriceTimeline.compile(List.of(catalogPrice(40, 7, "40.00", "EUR")))));
+
+        long date = epoch("2020-06-14T10:00:00");
+        assertNull(updated.find(BRAND_ID, 10, date));
+        assertEquals(catalogPrice(20, 5, "21.00", "EUR"), updated.find(BRAND_ID, 20, date).price());
+        assertEquals(catalogPrice(25, 6, "25.00", "USD"), updated.find(BRAND_ID, 25, date).price());
+        assertEquals(catalogPrice(30, 3, "30.00", "EUR"), updated.find(BRAND_ID, 30, date).price());
+        assertEquals(catalogPrice(40, 7, "40.00", "EUR"), updated.find(BRAND_ID, 40, date).price());
+        assertEquals(4, updated.size());
+        assertEquals(2, catalog.find(BRAND_ID, 20, date).price().getRateId());
+    }
+
+    @Test
+    void withTimelines_shouldHandleEmptyCatalog() {
+        PriceIntervalIndex updated = PriceIntervalIndex.build(List.of()).withTimelines(Map.of(
+                new PriceKey(BRAND_ID, PRODUCT_ID), PriceTimeline.compile(List.of(
+                        price(1, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50")))));
+
+        assertEquals(1, updated.find(BRAND_ID, PRODUCT_ID, epoch("2020-06-14T10:00:00")).price().getRateId());
+    }
+
+    private Integer rateAt(String date) {
+        return find(BRAND_ID, PRODUCT_ID, date).price().getRateId();
+    }
+
+    private PriceSegment find(int brandId, int productId, String date) {
+        return index.find(brandId, productId, epoch(date));
+    }
+
+    private static long epoch(String date) {
+        return PriceIntervalIndex.toEpochSecond(LocalDateTime.parse(date));
+    }
+
+    private static Price price(int rateId, int priority, String start, String end, String value) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .productId(PRODUCT_ID)
+                .rateId(rateId)
+                .priority(priority)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .value(Money.parse(value, "EUR"))
+                .build();
+    }
+
+    private static Price catalogPrice(int productId, int rateId, String value, String currency) {
+        return Price.builder()
+                .brandId(BRAND_ID)
+                .productId(productId)
+                .rateId(rateId)
+                .priority(0)
+                .startDate(LocalDateTime.parse("2020-01-01T00:00:00"))
+                .endDate(LocalDateTime.parse("2020-12-31T23:59:59"))
+                .value(Money.parse(value, currency))
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+@SpringBootTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///reactive_price_repository_test;DB_CLOSE_DELAY=-1")
+class IReactivePriceRepositoryTest {
+
+    private static final LocalDateTime APPLICATION_DATE = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+    @Autowired
+    private IReactivePriceRepository repository;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Test
+    void applicablePriceQuery_shouldUseCompositeIndex() {
+        StepVerifier.create(databaseClient.sql("EXPLAIN " + IReactivePriceRepository.FIND_APPLICABLE_PRICE_QUERY)
+                .bind("productId", 35455)
+                .bind("brandId", 1)
+                .bind("startDate", APPLICATION_DATE)
+                .bind("endDate", APPLICATION_DATE)
+                .map(row -> row.get(0, String.class))
+                .one())
+                .assertNext(plan -> assertThat(plan)
+                        .contains("IDX_PRICES_APPLICABLE")
+                        .doesNotContain("tableScan"))
+                .verifyComplete();
+    }
+
+    @Test
+    void findTop_shouldReturnHighestPriorityPrice() {
+        StepVerifier.create(repository
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, APPLICATION_DATE, APPLICATION_DATE))
+                .assertNext(price -> {
+                    assertThat(price.getPriceList()).isEqualTo(2);
+                    assertThat(price.getCurr()).isEqualTo("EUR");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void findCatalogStats_shouldReturnRowCountAndMaxId() {
+        StepVerifier.create(repository.findCatalogStats())
+                .assertNext(stats -> {
+                    assertThat(stats.rowCount()).isEqualTo(4);
+                    assertThat(stats.maxId()).isEqualTo(4);
+                })
+                .verifyComplete();
+    }
+}
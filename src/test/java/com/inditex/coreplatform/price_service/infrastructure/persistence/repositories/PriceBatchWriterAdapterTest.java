@@ -0,0 +1,86 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.repositories;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceBatchWriterAdapter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@SpringBootTest(properties = "spring.r2dbc.url=r2dbc:h2:mem:///price_batch_writer_test;DB_CLOSE_DELAY=-1")
+class PriceBatchWriterAdapterTest {
+
+    private static final int PRODUCT_ID = 900_000;
+
+    @Autowired
+    private PriceBatchWriterAdapter adapter;
+
+    @Autowired
+    private IReactivePriceRepository repository;
+
+    @Test
+    void insertAll_shouldInsertEveryPriceOfTheBatch() {
+        List<Price> prices = IntStream.range(0, 3)
+                .mapToObj(i -> Price.builder()
+                        .brandId(1)
+                        .productId(PRODUCT_ID)
+                        .rateId(i + 1)
+                        .priority(i)
+                        .startDate(LocalDateTime.of(2021, 1, 1, 0, 0))
+                        .endDate(LocalDateTime.of(2021, 12, 31, 23, 59, 59))
+                        .value(new Money(1025 + 100 * i, "EUR"))
+                        .build())
+                .toList();
+
+        StepVerifier.create(adapter.insertAll(prices))
+                .expectNext(3L)
+                .verifyComplete();
+
+        StepVerifier.create(repository.findByProductIdAndBrandId(PRODUCT_ID, 1).collectList())
+                .assertNext(entities -> {
+                    assertThat(entities).hasSize(3);
+                    assertThat(entities).allSatisfy(entity -> assertThat(entity.getId()).isNotNull());
+                    assertThat(entities).extracting(entity -> entity.getPrice().toPlainString())
+                            .containsExactlyInAnyOrder("10.25", "11.25", "12.25");
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void insertAll_shouldWriteNothing_whenAnyPriceOfTheBatchFails() {
+        List<Price> prices = IntStream.range(0, 3)
+                .mapToObj(i -> Price.builder()
+                        .brandId(1)
+                        .productId(PRODUCT_ID + 1)
+                        .rateId(i + 1)
+                        .priority(i)
+                        .startDate(LocalDateTime.of(2021, 1, 1, 0, 0))
+                        .endDate(LocalDateTime.of(2021, 12, 31, 23, 59, 59))
+                        .value(new Money(1025, i < 2 ? "EUR" : "EURO"))
+                        .build())
+                .toList();
+
+        StepVerifier.create(adapter.insertAll(prices))
+                .expectError()
+                .verify();
+
+        StepVerifier.create(repository.findByProductIdAndBrandId(PRODUCT_ID + 1, 1))
+                .verifyComplete();
+    }
+
+    @Test
+    void insertAll_shouldSkipEmptyBatches() {
+        StepVerifier.create(adapter.insertAll(List.of()))
+                .expectNext(0L)
+                .verifyComplete();
+    }
+}
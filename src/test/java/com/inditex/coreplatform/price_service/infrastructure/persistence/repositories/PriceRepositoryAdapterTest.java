@@ -1,11 +1,16 @@
 package com.inditex.coreplatform.price_service.infrastructure.persistence.repositories;
 
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceFilter;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
 import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
 import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceRepositoryAdapter;
 import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.springframework.data.domain.Limit;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -14,9 +19,12 @@ import reactor.test.StepVerifier;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 
 class PriceRepositoryAdapterTest {
 
@@ -84,4 +92,154 @@ class PriceRepositoryAdapterTest {
         verify(priceMapper, times(1)).toDomain(entity1);
         verify(priceMapper, times(1)).toDomain(entity2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testFindApplicableSegment() {
+        Integer productId = 35455;
+        Integer brandId = 1;
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+
+        PriceEntity baseEntity = new PriceEntity();
+        PriceEntity promoEntity = new PriceEntity();
+        promoEntity.setPriority(1);
+        Price basePrice = Price.builder()
+                .brandId(brandId).productId(productId).rateId(1).priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .build();
+        Price promoPrice = Price.builder()
+                .brandId(brandId).productId(productId).rateId(2).priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .build();
+
+        when(reactivePriceRepository.findByProductIdAndBrandId(productId, brandId))
+                .thenReturn(Flux.just(baseEntity, promoEntity));
+        when(priceMapper.toDomain(baseEntity)).thenReturn(basePrice);
+        when(priceMapper.toDomain(promoEntity)).thenReturn(promoPrice);
+
+        StepVerifier.create(priceRepositoryApapter.findApplicableSegment(productId, brandId, applicationDate))
+                .expectNextMatches(segment -> segment.price() == promoPrice
+                        && segment.startDate().equals(promoPrice.getStartDate())
+                        && segment.endDate().equals(promoPrice.getEndDate()))
+                .verifyComplete();
+
+        StepVerifier.create(priceRepositoryApapter.findApplicableSegment(productId, brandId,
+                        LocalDateTime.of(2021, 1, 1, 0, 0)))
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindApplicablePrices() {
+        LocalDateTime morning = LocalDateTime.of(2020, 6, 14, 10, 0);
+        LocalDateTime afternoon = LocalDateTime.of(2020, 6, 14, 16, 0);
+        PriceLookup first = new PriceLookup(35455, 1, afternoon);
+        PriceLookup second = new PriceLookup(99999, 1, morning);
+        PriceLookup third = new PriceLookup(35455, 1, morning);
+
+        PriceEntity baseEntity = new PriceEntity();
+        PriceEntity promoEntity = new PriceEntity();
+        promoEntity.setPriority(1);
+        Price basePrice = Price.builder()
+                .brandId(1).productId(35455).rateId(1).priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .build();
+        Price promoPrice = Price.builder()
+                .brandId(1).productId(35455).rateId(2).priority(1)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .build();
+
+        when(reactivePriceRepository.findByProductIdInAndBrandIdInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                Set.of(35455, 99999), Set.of(1), afternoon, morning))
+                .thenReturn(Flux.just(baseEntity, promoEntity));
+        when(priceMapper.toDomain(baseEntity)).thenReturn(basePrice);
+        when(priceMapper.toDomain(promoEntity)).thenReturn(promoPrice);
+
+        StepVerifier.create(priceRepositoryApapter.findApplicablePrices(List.of(first, second, third)))
+                .expectNext(new PriceLookupResult(first, promoPrice))
+                .expectNext(new PriceLookupResult(second, null))
+                .expectNext(new PriceLookupResult(third, basePrice))
+                .verifyComplete();
+
+        verify(reactivePriceRepository, times(1))
+                .findByProductIdInAndBrandIdInAndStartDateLessThanEqualAndEndDateGreaterThanEqual(
+                        Set.of(35455, 99999), Set.of(1), afternoon, morning);
+    }
+
+    @Test
+    void testFindApplicablePrices_EmptyLookups() {
+        StepVerifier.create(priceRepositoryApapter.findApplicablePrices(List.of()))
+                .verifyComplete();
+
+        verifyNoInteractions(reactivePriceRepository);
+    }
+
+    @Test
+    void testFindAllAfter() {
+        PriceEntity entity = new PriceEntity();
+        Price domainPrice = new Price();
+
+        when(reactivePriceRepository.findByIdGreaterThanOrderByIdAsc(10L, Limit.of(2)))
+                .thenReturn(Flux.just(entity));
+        when(priceMapper.toDomain(entity)).thenReturn(domainPrice);
+
+        StepVerifier.create(priceRepositoryApapter.findAllAfter(10L, 2))
+                .expectNext(domainPrice)
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindAllAfter_WithoutCursorOrLimit() {
+        when(reactivePriceRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.unlimited()))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(priceRepositoryApapter.findAllAfter(null, null))
+                .verifyComplete();
+
+        verify(reactivePriceRepository).findByIdGreaterThanOrderByIdAsc(0L, Limit.unlimited());
+    }
+
+    @Test
+    void testFindByFilter() {
+        LocalDateTime validFrom = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime validTo = LocalDateTime.of(2020, 6, 15, 0, 0);
+        PriceFilter filter = new PriceFilter(1, Set.of(35455), validFrom, validTo);
+        PriceEntity entity = new PriceEntity();
+        Price domainPrice = new Price();
+
+        when(reactivePriceRepository.search(1, Set.of(35455), validFrom, validTo, 5L, 10))
+                .thenReturn(Flux.just(entity));
+        when(priceMapper.toDomain(entity)).thenReturn(domainPrice);
+
+        StepVerifier.create(priceRepositoryApapter.findByFilter(filter, 5L, 10))
+                .expectNext(domainPrice)
+                .verifyComplete();
+    }
+
+    @Test
+    void testFindTimelines() {
+        PriceEntity entity = new PriceEntity();
+        Price domainPrice = Price.builder()
+                .brandId(1)
+                .productId(35455)
+                .rateId(1)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .build();
+        PriceKey changed = new PriceKey(1, 35455);
+        PriceKey removed = new PriceKey(1, 35456);
+
+        when(reactivePriceRepository.findByProductIdAndBrandId(35455, 1)).thenReturn(Flux.just(entity));
+        when(reactivePriceRepository.findByProductIdAndBrandId(35456, 1)).thenReturn(Flux.empty());
+        when(priceMapper.toDomain(entity)).thenReturn(domainPrice);
+
+        StepVerifier.create(priceRepositoryApapter.findTimelines(List.of(changed, removed)))
+                .expectNextMatches(timelines -> timelines.size() == 2
+                        && timelines.get(changed).getSegments().get(0).price() == domainPrice
+                        && timelines.get(removed).getSegments().isEmpty())
+                .verifyComplete();
+    }
+}
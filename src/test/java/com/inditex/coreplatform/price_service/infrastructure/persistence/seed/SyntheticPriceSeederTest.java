@@ -0,0 +1,57 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.seed;
+
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceEntity;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.repositories.IReactivePriceRepository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+@SpringBootTest(properties = {
+        "price.seed.rows=8",
+        "spring.r2dbc.url=r2dbc:h2:mem:///synthetic_price_seeder_test;DB_CLOSE_DELAY=-1"
+})
+class SyntheticPriceSeederTest {
+
+    @Autowired
+    private IReactivePriceRepository repository;
+
+    @Test
+    void run_shouldSeedRequestedRowsNextToSampleData() {
+        StepVerifier.create(repository.count())
+                .expectNext(12L)
+                .verifyComplete();
+    }
+
+    @Test
+    void run_shouldSeedBasePriceAndThreePromotionsPerProduct() {
+        StepVerifier.create(repository.findByProductIdAndBrandId(SyntheticPriceSeeder.FIRST_PRODUCT_ID + 1, 1)
+                .collectList())
+                .assertNext(prices -> {
+                    assertThat(prices).extracting(PriceEntity::getPriceList).containsExactlyInAnyOrder(1, 2, 3, 4);
+                    assertThat(prices)
+                            .filteredOn(price -> price.getPriceList() == 1)
+                            .singleElement()
+                            .satisfies(base -> {
+                                assertThat(base.getPriority()).isZero();
+                                assertThat(base.getStartDate()).isEqualTo(LocalDateTime.of(2020, 1, 1, 0, 0));
+                                assertThat(base.getEndDate()).isEqualTo(LocalDateTime.of(2020, 12, 31, 23, 59, 59));
+                            });
+                    assertThat(prices)
+                            .filteredOn(price -> price.getPriceList() == 2)
+                            .singleElement()
+                            .satisfies(promotion -> {
+                                assertThat(promotion.getPriority()).isEqualTo(1);
+                                assertThat(promotion.getStartDate()).isEqualTo(LocalDateTime.of(2020, 4, 1, 0, 0));
+                                assertThat(promotion.getEndDate()).isEqualTo(LocalDateTime.of(2020, 4, 30, 23, 59, 59));
+                            });
+                })
+                .verifyComplete();
+    }
+}
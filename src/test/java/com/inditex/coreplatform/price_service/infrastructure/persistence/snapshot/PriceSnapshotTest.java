@@ -0,0 +1,160 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.snapshot;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+class PriceSnapshotTest {
+
+    private static final int BRAND_ID = 1;
+    private static final int PRODUCT_ID = 35455;
+
+    @TempDir
+    Path directory;
+
+    private PriceSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        snapshot = write(List.of(
+                price(1, PRODUCT_ID, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50", "EUR"),
+                price(2, PRODUCT_ID, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45", "EUR"),
+                price(3, PRODUCT_ID, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50", "EUR"),
+                price(4, PRODUCT_ID, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95", "EUR"),
+                price(5, PRODUCT_ID + 1, 0, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "9.99", "USD")));
+    }
+
+    @Test
+    void find_shouldResolvePriorityForEachRequiredCase() {
+        assertEquals(1, rateAt("2020-06-14T10:00:00"));
+        assertEquals(2, rateAt("2020-06-14T16:00:00"));
+        assertEquals(1, rateAt("2020-06-14T21:00:00"));
+        assertEquals(3, rateAt("2020-06-15T10:00:00"));
+        assertEquals(4, rateAt("2020-06-16T21:00:00"));
+    }
+
+    @Test
+    void find_shouldRestoreEveryColumn() {
+        Price price = snapshot.find(BRAND_ID, PRODUCT_ID + 1, epoch("2020-03-01T00:00:00"));
+
+        assertEquals(price(5, PRODUCT_ID + 1, 0, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "9.99", "USD"),
+                price);
+        assertEquals(2, snapshot.getKeyCount());
+        assertEquals(5, snapshot.getRowCount());
+    }
+
+    @Test
+    void find_shouldReturnNull_whenNoPriceApplies() {
+        assertNull(snapshot.find(BRAND_ID, PRODUCT_ID, epoch("2020-06-13T23:59:59")));
+        assertNull(snapshot.find(BRAND_ID, 99999, epoch("2020-06-14T10:00:00")));
+        assertNull(snapshot.find(2, PRODUCT_ID, epoch("2020-06-14T10:00:00")));
+    }
+
+    @Test
+    void findSegment_shouldReturnSegmentBounds() {
+        PriceSegment segment = snapshot.findSegment(BRAND_ID, PRODUCT_ID, epoch("2020-06-14T21:00:00"));
+
+        assertEquals(LocalDateTime.parse("2020-06-14T18:30:01"), segment.startDate());
+        assertEquals(LocalDateTime.parse("2020-06-14T23:59:59"), segment.endDate());
+        assertEquals(1, segment.price().getRateId());
+    }
+
+    @Test
+    void findSegment_shouldMatchCompiledTimeline() {
+        List<PriceSegment> expected = PriceTimeline.compile(List.of(
+                price(1, PRODUCT_ID, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50", "EUR"),
+                price(2, PRODUCT_ID, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45", "EUR"),
+                price(3, PRODUCT_ID, 1, "2020-06-15T00:00:00", "2020-06-15T11:00:00", "30.50", "EUR"),
+                price(4, PRODUCT_ID, 1, "2020-06-15T16:00:00", "2020-12-31T23:59:59", "38.95", "EUR")))
+                .getSegments();
+
+        for (PriceSegment segment : expected) {
+            assertEquals(segment, snapshot.findSegment(BRAND_ID, PRODUCT_ID, epoch(segment.startDate())));
+            assertEquals(segment, snapshot.findSegment(BRAND_ID, PRODUCT_ID, epoch(segment.endDate())));
+        }
+        assertEquals(expected.size() + 1, snapshot.getSegmentCount());
+        assertNull(snapshot.findSegment(BRAND_ID, PRODUCT_ID, epoch("2021-01-01T00:00:00")));
+    }
+
+    @Test
+    void open_shouldHandleEmptyCatalog() throws IOException {
+        PriceSnapshot empty = write(List.of());
+
+        assertEquals(0, empty.getRowCount());
+        assertNull(empty.find(BRAND_ID, PRODUCT_ID, 0L));
+    }
+
+    @Test
+    void open_shouldRejectTruncatedFiles() throws IOException {
+        Path path = directory.resolve("prices.snapshot");
+        byte[] bytes = Files.readAllBytes(path);
+        Path truncated = Files.write(directory.resolve("truncated.snapshot"),
+                Arrays.copyOf(bytes, bytes.length - 1));
+
+        assertThrows(IOException.class, () -> PriceSnapshot.open(truncated));
+    }
+
+    @Test
+    void append_shouldRejectUnsortedPrices() throws IOException {
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(directory.resolve("unsorted.snapshot"))) {
+            writer.append(price(1, PRODUCT_ID + 1, 0, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "1.0", "EUR"));
+
+            assertThrows(IllegalArgumentException.class, () -> writer.append(
+                    price(2, PRODUCT_ID, 0, "2020-01-01T00:00:00", "2020-12-31T23:59:59", "1.0", "EUR")));
+        }
+    }
+
+    private PriceSnapshot write(List<Price> prices) throws IOException {
+        Path path = directory.resolve("prices.snapshot");
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(path)) {
+            for (Price price : prices) {
+                writer.append(price);
+            }
+            writer.finish();
+        }
+        return PriceSnapshot.open(path);
+    }
+
+    private Integer rateAt(String date) {
+        return snapshot.find(BRAND_ID, PRODUCT_ID, epoch(date)).getRateId();
+    }
+
+    private static long epoch(String date) {
+        return epoch(LocalDateTime.parse(date));
+    }
+
+    private static long epoch(LocalDateTime date) {
+        return PriceIntervalIndex.toEpochSecond(date);
+    }
+
+    private static Price price(long id, int productId, int priority, String start, String end, String value,
+            String currency) {
+        return Price.builder()
+                .id(id)
+                .brandId(BRAND_ID)
+                .productId(productId)
+                .rateId((int) id)
+                .priority(priority)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .value(Money.parse(value, currency))
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.inditex.coreplatform.price_service.infrastructure.persistence.snapshot;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.domain.models.PriceTimeline;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.PriceRepositoryAdapter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class SnapshotPriceRepositoryAdapterTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 6, 14, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2020, 12, 31, 23, 59, 59);
+
+    @TempDir
+    Path directory;
+
+    private PriceRepositoryAdapter fallback;
+    private SnapshotPriceRepositoryAdapter adapter;
+    private Price price;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fallback = mock(PriceRepositoryAdapter.class);
+        price = Price.builder()
+                .id(1L)
+                .brandId(1)
+                .productId(35455)
+                .rateId(1)
+                .priority(0)
+                .startDate(START)
+                .endDate(END)
+                .value(Money.parse("35.50", "EUR"))
+                .build();
+
+        Path path = directory.resolve("prices.snapshot");
+        try (PriceSnapshotWriter writer = new PriceSnapshotWriter(path)) {
+            writer.append(price);
+            writer.finish();
+        }
+        adapter = new SnapshotPriceRepositoryAdapter(fallback, PriceSnapshot.open(path), 1);
+    }
+
+    @Test
+    void findTop_shouldUseSnapshot() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+        StepVerifier.create(adapter
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, date, date))
+                .expectNext(price)
+                .verifyComplete();
+
+        StepVerifier.create(adapter
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, END.plusSeconds(1), END.plusSeconds(1)))
+                .verifyComplete();
+
+        verify(fallback, never())
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        any(), any(), any(), any());
+    }
+
+    @Test
+    void findTop_shouldDelegateToFallback_whenQueryIsARange() {
+        LocalDateTime from = LocalDateTime.of(2020, 6, 14, 10, 0);
+        LocalDateTime to = from.plusDays(1);
+        when(fallback.findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                35455, 1, from, to)).thenReturn(Mono.just(price));
+
+        StepVerifier.create(adapter
+                .findTopByProductIdAndBrandIdAndStartDateLessThanEqualAndEndDateGreaterThanEqualOrderByPriorityDesc(
+                        35455, 1, from, to))
+                .expectNext(price)
+                .verifyComplete();
+    }
+
+    @Test
+    void findApplicableSegment_shouldUseSnapshot() {
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, LocalDateTime.of(2020, 6, 14, 10, 0)))
+                .expectNextMatches(segment -> segment.price().equals(price)
+                        && segment.startDate().equals(START)
+                        && segment.endDate().equals(END))
+                .verifyComplete();
+
+        verify(fallback, never()).findApplicableSegment(any(), any(), any());
+    }
+
+    @Test
+    void findApplicablePrices_shouldResolveEachLookupFromSnapshot() {
+        PriceLookup found = new PriceLookup(35455, 1, LocalDateTime.of(2020, 6, 14, 10, 0));
+        PriceLookup missing = new PriceLookup(35455, 2, LocalDateTime.of(2020, 6, 14, 10, 0));
+
+        StepVerifier.create(adapter.findApplicablePrices(List.of(found, missing)))
+                .expectNext(new PriceLookupResult(found, price))
+                .expectNext(new PriceLookupResult(missing, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void findAll_shouldDelegateToFallback() {
+        when(fallback.findAll()).thenReturn(Flux.just(price));
+
+        StepVerifier.create(adapter.findAll())
+                .expectNext(price)
+                .verifyComplete();
+    }
+
+    @Test
+    void refresh_shouldAnswerChangedKeysFromTheirNewTimeline() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        Price changed = Price.builder()
+                .brandId(1)
+                .productId(35455)
+                .rateId(2)
+                .priority(1)
+                .startDate(START)
+                .endDate(END)
+                .value(Money.parse("30.00", "EUR"))
+                .build();
+
+        adapter.refresh(Map.of(new PriceKey(1, 35455), PriceTimeline.compile(List.of(price, changed))));
+
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, date))
+                .expectNextMatches(segment -> segment.price().equals(changed))
+                .verifyComplete();
+        StepVerifier.create(adapter.findApplicablePrices(List.of(new PriceLookup(35455, 1, date))))
+                .expectNext(new PriceLookupResult(new PriceLookup(35455, 1, date), changed))
+                .verifyComplete();
+
+        adapter.refresh(Map.of(new PriceKey(1, 35455), PriceTimeline.compile(List.of())));
+
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, date))
+                .verifyComplete();
+    }
+
+    @Test
+    void refresh_shouldFallBackToR2dbc_whenMoreKeysChangedThanMaxOverrides() {
+        LocalDateTime date = LocalDateTime.of(2020, 6, 14, 10, 0);
+        PriceSegment fromDatabase = new PriceSegment(START, END, price);
+        when(fallback.findApplicableSegment(35455, 1, date)).thenReturn(Mono.just(fromDatabase));
+        PriceLookup lookup = new PriceLookup(35455, 1, date);
+        when(fallback.findApplicablePrices(List.of(lookup))).thenReturn(Flux.just(new PriceLookupResult(lookup, price)));
+
+        adapter.refresh(Map.of(new PriceKey(1, 35455), PriceTimeline.compile(List.of())));
+        assertFalse(adapter.isOutdated());
+        adapter.refresh(Map.of(new PriceKey(2, 35455), PriceTimeline.compile(List.of())));
+        assertTrue(adapter.isOutdated());
+
+        StepVerifier.create(adapter.findApplicableSegment(35455, 1, date))
+                .expectNext(fromDatabase)
+                .verifyComplete();
+        StepVerifier.create(adapter.findApplicablePrices(List.of(lookup)))
+                .expectNext(new PriceLookupResult(lookup, price))
+                .verifyComplete();
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeMaxOverrides() throws IOException {
+        Path path = directory.resolve("prices.snapshot");
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new SnapshotPriceRepositoryAdapter(fallback, PriceSnapshot.open(path), -1));
+    }
+}
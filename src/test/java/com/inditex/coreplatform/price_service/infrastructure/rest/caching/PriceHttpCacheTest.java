@@ -0,0 +1,116 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.caching;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+class PriceHttpCacheTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2020-06-14T16:00:00Z"), ZoneOffset.UTC);
+
+    private final PriceHttpCache priceHttpCache = new PriceHttpCache(CLOCK, Duration.ofHours(1));
+
+    @Test
+    void etag_shouldMatchPrimitiveFieldsOfTheSegment() {
+        PriceSegment segment = segment("25.45", "2020-06-14T15:00:00", "2020-06-14T18:30:00");
+
+        assertEquals(priceHttpCache.etag(7, 1, 35455, 2, epoch("2020-06-14T15:00:00"), epoch("2020-06-14T18:30:00"),
+                2545, epoch("2020-06-14T15:00:00"), epoch("2020-06-14T18:30:00"), PriceHttpCache.JSON),
+                priceHttpCache.etag(segment, PriceHttpCache.JSON));
+        assertTrue(priceHttpCache.etag(segment, PriceHttpCache.JSON).matches("\"[0-9a-f]{16}\""));
+        assertTrue(priceHttpCache.etag(segment, PriceHttpCache.SMILE).matches("\"[0-9a-f]{16}-smile\""));
+    }
+
+    @Test
+    void etag_shouldChangeWithPriceOrSegment() {
+        String etag = priceHttpCache.etag(segment("25.45", "2020-06-14T15:00:00", "2020-06-14T18:30:00"),
+                PriceHttpCache.JSON);
+
+        assertNotEquals(etag, priceHttpCache.etag(segment("25.46", "2020-06-14T15:00:00", "2020-06-14T18:30:00"),
+                PriceHttpCache.JSON));
+        assertNotEquals(etag, priceHttpCache.etag(segment("25.45", "2020-06-14T15:00:00", "2020-06-14T17:00:00"),
+                PriceHttpCache.JSON));
+    }
+
+    @Test
+    void etag_shouldChangeWithPriceId() {
+        String etag = priceHttpCache.etag(segment(7L, "25.45", "2020-06-14T15:00:00", "2020-06-14T18:30:00"),
+                PriceHttpCache.JSON);
+
+        assertNotEquals(etag, priceHttpCache.etag(segment(8L, "25.45", "2020-06-14T15:00:00", "2020-06-14T18:30:00"),
+                PriceHttpCache.JSON));
+    }
+
+    @Test
+    void maxAge_shouldLastUntilSegmentEndWithinTheLimit() {
+        assertEquals(1800, priceHttpCache.maxAge(epoch("2020-06-14T16:29:59")));
+        assertEquals(1, priceHttpCache.maxAge(epoch("2020-06-14T16:00:00")));
+        assertEquals(3600, priceHttpCache.maxAge(epoch("2020-06-14T23:59:59")));
+        assertEquals(3600, priceHttpCache.maxAge(epoch("2020-06-14T15:59:59")));
+        assertEquals("max-age=1800, public",
+                priceHttpCache.cacheControl(epoch("2020-06-14T16:29:59")).getHeaderValue());
+    }
+
+    @Test
+    void constructor_shouldRejectNegativeMaxAge() {
+        assertThrows(IllegalArgumentException.class, () -> new PriceHttpCache(CLOCK, Duration.ofSeconds(-1)));
+    }
+
+    @Test
+    void representation_shouldFollowContentNegotiation() {
+        assertEquals(PriceHttpCache.JSON, PriceHttpCache.representation(null));
+        assertEquals(PriceHttpCache.JSON, PriceHttpCache.representation("*/*"));
+        assertEquals(PriceHttpCache.JSON, PriceHttpCache.representation("application/json"));
+        assertEquals(PriceHttpCache.CBOR, PriceHttpCache.representation("application/cbor"));
+        assertEquals(PriceHttpCache.SMILE,
+                PriceHttpCache.representation("application/json;q=0.5, application/x-jackson-smile"));
+        assertEquals(PriceHttpCache.JSON, PriceHttpCache.representation("not a media type"));
+    }
+
+    @Test
+    void matches_shouldUseWeakComparison() {
+        String etag = "\"0123456789abcdef\"";
+
+        assertTrue(PriceHttpCache.matches(etag, etag));
+        assertTrue(PriceHttpCache.matches("\"other\", W/" + etag, etag));
+        assertTrue(PriceHttpCache.matches("*", etag));
+        assertFalse(PriceHttpCache.matches(null, etag));
+        assertFalse(PriceHttpCache.matches("\"0123456789abcdef-cbor\"", etag));
+    }
+
+    private static PriceSegment segment(String amount, String start, String end) {
+        return segment(7L, amount, start, end);
+    }
+
+    private static PriceSegment segment(Long id, String amount, String start, String end) {
+        Price price = Price.builder()
+                .id(id)
+                .brandId(1)
+                .productId(35455)
+                .rateId(2)
+                .startDate(LocalDateTime.parse("2020-06-14T15:00:00"))
+                .endDate(LocalDateTime.parse("2020-06-14T18:30:00"))
+                .value(Money.parse(amount, "EUR"))
+                .build();
+        return new PriceSegment(LocalDateTime.parse(start), LocalDateTime.parse(end), price);
+    }
+
+    private static long epoch(String dateTime) {
+        return PriceIntervalIndex.toEpochSecond(LocalDateTime.parse(dateTime));
+    }
+}
@@ -0,0 +1,138 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.caching;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceKey;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceCatalogVersion;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeBus;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeTransport;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceCatalogStats;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.repositories.IReactivePriceRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+class PriceListingSnapshotCacheTest {
+
+    private static final Duration REBUILD_DELAY = Duration.ofMillis(20);
+    private static final PriceKey KEY = new PriceKey(1, 35455);
+
+    private final AtomicReference<PriceCatalogStats> stats = new AtomicReference<>(new PriceCatalogStats(1, 1));
+    private GetPricesUseCase getPricesUseCase;
+    private PriceChangeBus priceChangeBus;
+    private PriceCatalogVersion priceCatalogVersion;
+    private PriceListingSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        getPricesUseCase = mock(GetPricesUseCase.class);
+        priceChangeBus = new PriceChangeBus("node-a", PriceChangeTransport.NONE);
+        IReactivePriceRepository priceRepository = mock(IReactivePriceRepository.class);
+        when(priceRepository.findCatalogStats()).thenReturn(Mono.fromSupplier(stats::get));
+        priceCatalogVersion = new PriceCatalogVersion(priceRepository, priceChangeBus, Duration.ofHours(1));
+        priceCatalogVersion.start();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        cache = new PriceListingSnapshotCache(getPricesUseCase, new PriceMapperImpl(), objectMapper,
+                priceCatalogVersion, REBUILD_DELAY, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+        priceCatalogVersion.close();
+        priceChangeBus.close();
+    }
+
+    @Test
+    void start_shouldBuildSnapshotOfCurrentVersion() {
+        when(getPricesUseCase.execute()).thenReturn(Flux.just(price(1, "35.50")));
+
+        assertNull(cache.current());
+        cache.start();
+        await(() -> cache.current() != null);
+
+        assertEquals(priceCatalogVersion.etag(), cache.current().getEtag());
+        assertEquals(1, cache.current().getRowCount());
+        assertEquals(1, cache.getRebuildCount());
+        assertTrue(cache.getSize(true) > 0);
+    }
+
+    @Test
+    void versionChange_shouldRebuildSnapshotInTheBackground() {
+        when(getPricesUseCase.execute()).thenReturn(Flux.just(price(1, "35.50")));
+        cache.start();
+        await(() -> cache.current() != null);
+        PriceListingSnapshot first = cache.current();
+
+        when(getPricesUseCase.execute()).thenReturn(Flux.just(price(1, "35.50"), price(2, "25.45")));
+        stats.set(new PriceCatalogStats(2, 2));
+        priceChangeBus.publish(List.of(KEY, KEY, KEY));
+
+        await(() -> cache.current() != null && cache.current() != first);
+        assertEquals(2, cache.current().getRowCount());
+        assertEquals(priceCatalogVersion.etag(), cache.current().getEtag());
+        assertEquals(2, cache.getRebuildCount());
+    }
+
+    @Test
+    void versionChange_shouldRetryAfterFailedRebuild() {
+        when(getPricesUseCase.execute()).thenReturn(Flux.error(new IllegalStateException("database down")));
+        cache.start();
+        verify(getPricesUseCase, timeout(5000)).execute();
+        assertNull(cache.latest());
+
+        when(getPricesUseCase.execute()).thenReturn(Flux.just(price(1, "35.50")));
+        stats.set(new PriceCatalogStats(1, 2));
+        priceChangeBus.publish(List.of(KEY));
+
+        await(() -> cache.current() != null);
+        assertEquals(1, cache.getRebuildCount());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static Price price(int rateId, String value) {
+        return Price.builder()
+                .id((long) rateId)
+                .brandId(1)
+                .productId(35455)
+                .rateId(rateId)
+                .priority(rateId)
+                .startDate(LocalDateTime.parse("2020-06-14T00:00:00"))
+                .endDate(LocalDateTime.parse("2020-12-31T23:59:59"))
+                .value(Money.parse(value, "EUR"))
+                .build();
+    }
+}
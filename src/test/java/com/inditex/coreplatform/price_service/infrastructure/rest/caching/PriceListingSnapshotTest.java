@@ -0,0 +1,94 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.caching;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+class PriceListingSnapshotTest {
+
+    private static final ObjectWriter JACKSON = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+    private static final List<PriceResponse> PRICES = List.of(
+            response(1L, 1, "35.50"),
+            response(2L, 2, "25.45"));
+
+    @Test
+    void build_shouldKeepTheJsonOfTheController() throws Exception {
+        PriceListingSnapshot snapshot = PriceListingSnapshot.build("\"a-1\"", PRICES, JACKSON);
+
+        assertArrayEquals(JACKSON.writeValueAsBytes(PRICES), bytes(snapshot.body(false)));
+        assertEquals("\"a-1\"", snapshot.getEtag());
+        assertEquals(2, snapshot.getRowCount());
+    }
+
+    @Test
+    void build_shouldKeepTheSameJsonGzipCompressed() throws Exception {
+        PriceListingSnapshot snapshot = PriceListingSnapshot.build("\"a-1\"", PRICES, JACKSON);
+
+        byte[] gzip = bytes(snapshot.body(true));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertArrayEquals(JACKSON.writeValueAsBytes(PRICES), in.readAllBytes());
+        }
+        assertEquals(gzip.length, snapshot.getGzipSize());
+    }
+
+    @Test
+    void builder_shouldWriteTheSameJsonAsTheListIncludingWhenEmpty() throws Exception {
+        PriceListingSnapshot.Builder builder = PriceListingSnapshot.builder("\"a-1\"", JACKSON);
+        PRICES.forEach(builder::append);
+        PriceListingSnapshot empty = PriceListingSnapshot.builder("\"a-0\"", JACKSON).build();
+
+        assertArrayEquals(JACKSON.writeValueAsBytes(PRICES), bytes(builder.build().body(false)));
+        assertEquals("[]", new String(bytes(empty.body(false))));
+        assertEquals(0, empty.getRowCount());
+    }
+
+    @Test
+    void body_shouldReturnIndependentReadOnlyViews() {
+        PriceListingSnapshot snapshot = PriceListingSnapshot.build("\"a-1\"", PRICES, JACKSON);
+
+        ByteBuffer first = snapshot.body(false);
+        first.get(new byte[10]);
+        ByteBuffer second = snapshot.body(false);
+
+        assertEquals(0, second.position());
+        assertEquals(snapshot.getIdentitySize(), second.remaining());
+        assertTrue(second.isReadOnly());
+        assertTrue(second.isDirect());
+    }
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static PriceResponse response(Long id, int rateId, String price) {
+        return PriceResponse.builder()
+                .id(id)
+                .productId(35455)
+                .brandId(1)
+                .rateId(rateId)
+                .startDate(LocalDateTime.parse("2020-06-14T00:00:00"))
+                .endDate(LocalDateTime.parse("2020-12-31T23:59:59"))
+                .price(Money.parse(price, null))
+                .build();
+    }
+}
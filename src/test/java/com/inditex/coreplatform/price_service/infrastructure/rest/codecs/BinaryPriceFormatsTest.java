@@ -0,0 +1,51 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.codecs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+
+class BinaryPriceFormatsTest {
+
+    private static final PriceResponse RESPONSE = PriceResponse.builder()
+            .id(1L)
+            .productId(35455)
+            .brandId(1)
+            .rateId(1)
+            .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+            .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .price(Money.parse("35.50", null))
+            .build();
+
+    @Test
+    void cborObjectMapper_shouldWriteDatesAsEpochSecondsAndReadThemBack() throws Exception {
+        assertTrue(BinaryPriceFormats.CBOR_PRESENT);
+
+        assertRoundTrip(BinaryPriceFormats.cborObjectMapper());
+    }
+
+    @Test
+    void smileObjectMapper_shouldWriteDatesAsEpochSecondsAndReadThemBack() throws Exception {
+        assertTrue(BinaryPriceFormats.SMILE_PRESENT);
+
+        assertRoundTrip(BinaryPriceFormats.smileObjectMapper());
+    }
+
+    private static void assertRoundTrip(ObjectMapper mapper) throws Exception {
+        byte[] bytes = mapper.writeValueAsBytes(RESPONSE);
+
+        JsonNode tree = mapper.readTree(bytes);
+        assertTrue(tree.get("startDate").isIntegralNumber());
+        assertEquals(1592092800L, tree.get("startDate").longValue());
+        assertEquals(1609459199L, tree.get("endDate").longValue());
+        assertEquals(0, tree.get("price").decimalValue().compareTo(Money.parse("35.50", null).toBigDecimal()));
+        assertEquals(RESPONSE, mapper.readValue(bytes, PriceResponse.class));
+    }
+}
@@ -0,0 +1,61 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.codecs;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+class CollectingCborEncoderTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+    private static final ApplicablePriceBatchResponse FIRST = new ApplicablePriceBatchResponse(35455, 1, DATE, 404, null);
+    private static final ApplicablePriceBatchResponse SECOND = new ApplicablePriceBatchResponse(35456, 1, DATE, 404, null);
+
+    private final ObjectMapper mapper = BinaryPriceFormats.cborObjectMapper();
+    private final CollectingCborEncoder encoder = new CollectingCborEncoder(mapper);
+
+    @Test
+    void encode_shouldWriteFluxAsOneArray() throws Exception {
+        byte[] bytes = encode(Flux.just(FIRST, SECOND));
+
+        assertEquals(List.of(FIRST, SECOND),
+                mapper.readValue(bytes, new TypeReference<List<ApplicablePriceBatchResponse>>() {}));
+    }
+
+    @Test
+    void encode_shouldWriteMonoAsOneValue() throws Exception {
+        byte[] bytes = encode(Mono.just(FIRST));
+
+        assertEquals(FIRST, mapper.readValue(bytes, ApplicablePriceBatchResponse.class));
+    }
+
+    private byte[] encode(Publisher<ApplicablePriceBatchResponse> input) {
+        return DataBufferUtils.join(encoder.encode(input, DefaultDataBufferFactory.sharedInstance,
+                        ResolvableType.forClass(ApplicablePriceBatchResponse.class), MediaType.APPLICATION_CBOR,
+                        Map.of()))
+                .map(CollectingCborEncoderTest::toBytes)
+                .block();
+    }
+
+    private static byte[] toBytes(DataBuffer buffer) {
+        byte[] bytes = new byte[buffer.readableByteCount()];
+        buffer.read(bytes);
+        DataBufferUtils.release(buffer);
+        return bytes;
+    }
+}
@@ -1,11 +1,26 @@
 package com.inditex.coreplatform.price_service.infrastructure.rest.controllers;
 
 import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePricesUseCase;
 import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.SearchPricesUseCase;
 import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePricesQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetPricesQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.SearchPricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.Money;
 import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.domain.models.PricePage;
+import com.inditex.coreplatform.price_service.domain.models.PriceSegment;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceCatalogVersion;
 import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceHttpCache;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceRequest;
 import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.exceptions.GlobalExceptionHandler;
 
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,33 +28,59 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
 
+import io.micrometer.observation.ObservationRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class PriceControllerTest {
 
     private GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private GetApplicablePricesUseCase getApplicablePricesUseCase;
     private GetPricesUseCase getPricesUseCase;
+    private SearchPricesUseCase searchPricesUseCase;
     private PriceMapper priceMapper;
+    private PriceHttpCache priceHttpCache;
+    private PriceCatalogVersion priceCatalogVersion;
     private PriceController priceController;
 
     @BeforeEach
     void setUp() {
         getApplicablePriceUseCase = mock(GetApplicablePriceUseCase.class);
+        getApplicablePricesUseCase = mock(GetApplicablePricesUseCase.class);
         getPricesUseCase = mock(GetPricesUseCase.class);
+        searchPricesUseCase = mock(SearchPricesUseCase.class);
         priceMapper = mock(PriceMapper.class);
-        priceController = new PriceController(getApplicablePriceUseCase, getPricesUseCase, priceMapper);
+        priceHttpCache = new PriceHttpCache(Clock.fixed(Instant.parse("2020-06-14T16:00:00Z"), ZoneOffset.UTC),
+                Duration.ofHours(1));
+        priceCatalogVersion = mock(PriceCatalogVersion.class);
+        when(priceCatalogVersion.etag()).thenReturn("\"4-4\"");
+        priceController = new PriceController(getApplicablePriceUseCase, getApplicablePricesUseCase, getPricesUseCase,
+                searchPricesUseCase, priceMapper, ObservationRegistry.NOOP, priceHttpCache, priceCatalogVersion);
     }
 
     @Test
@@ -54,8 +95,7 @@ class PriceControllerTest {
                 .rateId(1)
                 .productId(100)
                 .priority(1)
-                .value(50.0)
-                .currency("EUR")
+                .value(Money.parse("50.0", "EUR"))
                 .build();
 
         Price price2 = Price.builder()
@@ -65,8 +105,7 @@ class PriceControllerTest {
                 .rateId(2)
                 .productId(200)
                 .priority(2)
-                .value(80.0)
-                .currency("EUR")
+                .value(Money.parse("80.0", "EUR"))
                 .build();
 
         PriceResponse priceResponse1 = PriceResponse.builder()
@@ -75,7 +114,7 @@ class PriceControllerTest {
                 .rateId(1)
                 .startDate(startDate)
                 .endDate(endDate)
-                .price(50.0)
+                .price(Money.parse("50.0", null))
                 .build();
 
         PriceResponse priceResponse2 = PriceResponse.builder()
@@ -84,14 +123,14 @@ class PriceControllerTest {
                 .rateId(2)
                 .startDate(startDate)
                 .endDate(endDate)
-                .price(80.0)
+                .price(Money.parse("80.0", null))
                 .build();
 
         when(getPricesUseCase.execute()).thenReturn(Flux.just(price1, price2));
         when(priceMapper.toResponse(price1)).thenReturn(priceResponse1);
         when(priceMapper.toResponse(price2)).thenReturn(priceResponse2);
 
-        Mono<ResponseEntity<Flux<PriceResponse>>> resultMono = priceController.getPrices();
+        Mono<ResponseEntity<Flux<PriceResponse>>> resultMono = priceController.getPrices(null);
 
         StepVerifier.create(resultMono)
                 .assertNext(response -> {
@@ -113,7 +152,7 @@ class PriceControllerTest {
     void getPrices_shouldReturnNotFound_whenNoPricesExist() {
         when(getPricesUseCase.execute()).thenReturn(Flux.empty());
 
-        Mono<ResponseEntity<Flux<PriceResponse>>> resultMono = priceController.getPrices();
+        Mono<ResponseEntity<Flux<PriceResponse>>> resultMono = priceController.getPrices(null);
 
         StepVerifier.create(resultMono)
                 .assertNext(response -> {
@@ -123,6 +162,59 @@ class PriceControllerTest {
                 .verifyComplete();
     }
 
+    @Test
+    void getPrices_shouldReturnServerError_whenCatalogCannotBeRead() {
+        when(getPricesUseCase.execute()).thenReturn(Flux.error(new IllegalStateException("database down")));
+
+        WebTestClient.bindToController(priceController)
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build()
+                .get()
+                .uri("/api/prices")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().is5xxServerError()
+                .expectHeader().doesNotExist(HttpHeaders.ETAG);
+    }
+
+    @Test
+    void getPrices_shouldNotBeOfferedInBinaryFormats() {
+        WebTestClient.bindToController(priceController)
+                .controllerAdvice(new GlobalExceptionHandler())
+                .build()
+                .get()
+                .uri("/api/prices")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.NOT_ACCEPTABLE);
+    }
+
+    @Test
+    void getPrices_shouldRespondBeforeCatalogIsFullyRead() {
+        Price price1 = Price.builder().id(1L).brandId(1).productId(100).build();
+        Price price2 = Price.builder().id(2L).brandId(1).productId(200).build();
+        PriceResponse response1 = PriceResponse.builder().id(1L).build();
+        PriceResponse response2 = PriceResponse.builder().id(2L).build();
+        Sinks.Many<Price> catalog = Sinks.many().unicast().onBackpressureBuffer();
+        when(getPricesUseCase.execute()).thenReturn(catalog.asFlux());
+        when(priceMapper.toResponse(price1)).thenReturn(response1);
+        when(priceMapper.toResponse(price2)).thenReturn(response2);
+
+        catalog.tryEmitNext(price1);
+        ResponseEntity<Flux<PriceResponse>> response = priceController.getPrices(null).block(Duration.ofSeconds(5));
+
+        assertEquals(200, response.getStatusCode().value());
+        StepVerifier.create(response.getBody())
+                .expectNext(response1)
+                .then(() -> {
+                    catalog.tryEmitNext(price2);
+                    catalog.tryEmitComplete();
+                })
+                .expectNext(response2)
+                .verifyComplete();
+        verify(getPricesUseCase).execute();
+    }
+
     @Test
     void getApplicablePrice_shouldReturnOkWithPrice_whenPriceExists() {
         Integer productId = 1;
@@ -136,8 +228,7 @@ class PriceControllerTest {
                 .rateId(1)
                 .productId(productId)
                 .priority(1)
-                .value(100.0)
-                .currency("EUR")
+                .value(Money.parse("100.0", "EUR"))
                 .build();
 
         PriceResponse priceResponse = PriceResponse.builder()
@@ -146,14 +237,14 @@ class PriceControllerTest {
                 .rateId(1)
                 .startDate(applicationDate.minusDays(1))
                 .endDate(applicationDate.plusDays(1))
-                .price(100.0)
+                .price(Money.parse("100.0", null))
                 .build();
 
-        when(getApplicablePriceUseCase.execute(any(GetApplicablePriceQuery.class)))
-                .thenReturn(Mono.just(price));
+        when(getApplicablePriceUseCase.executeSegment(any(GetApplicablePriceQuery.class)))
+                .thenReturn(Mono.just(new PriceSegment(price.getStartDate(), price.getEndDate(), price)));
         when(priceMapper.toResponse(price)).thenReturn(priceResponse);
 
-        Mono<ResponseEntity<PriceResponse>> resultMono = priceController.getApplicablePrice(productId, brandId, applicationDate);
+        Mono<ResponseEntity<PriceResponse>> resultMono = priceController.getApplicablePrice(productId, brandId, applicationDate, null);
 
         StepVerifier.create(resultMono)
                 .assertNext(response -> {
@@ -163,7 +254,7 @@ class PriceControllerTest {
                 .verifyComplete();
 
         ArgumentCaptor<GetApplicablePriceQuery> captor = ArgumentCaptor.forClass(GetApplicablePriceQuery.class);
-        verify(getApplicablePriceUseCase).execute(captor.capture());
+        verify(getApplicablePriceUseCase).executeSegment(captor.capture());
         GetApplicablePriceQuery query = captor.getValue();
         assertEquals(productId, query.productId());
         assertEquals(brandId, query.brandId());
@@ -176,10 +267,10 @@ class PriceControllerTest {
         Integer brandId = 2;
         LocalDateTime applicationDate = LocalDateTime.now();
 
-        when(getApplicablePriceUseCase.execute(any(GetApplicablePriceQuery.class)))
+        when(getApplicablePriceUseCase.executeSegment(any(GetApplicablePriceQuery.class)))
                 .thenReturn(Mono.empty());
 
-        Mono<ResponseEntity<PriceResponse>> resultMono = priceController.getApplicablePrice(productId, brandId, applicationDate);
+        Mono<ResponseEntity<PriceResponse>> resultMono = priceController.getApplicablePrice(productId, brandId, applicationDate, null);
 
         StepVerifier.create(resultMono)
                 .assertNext(response -> {
@@ -188,4 +279,168 @@ class PriceControllerTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    void getPrices_shouldReturnNotModifiedWithoutReadingCatalog_whenVersionMatches() {
+        Price price = Price.builder().productId(35455).brandId(1).rateId(1).value(Money.parse("35.50", "EUR")).build();
+        when(getPricesUseCase.execute()).thenReturn(Flux.just(price));
+        when(priceMapper.toResponse(price)).thenReturn(PriceResponse.builder().productId(35455).build());
+
+        String etag = priceController.getPrices(null).block().getHeaders().getETag();
+        ResponseEntity<Flux<PriceResponse>> response = priceController.getPrices(etag).block();
+
+        assertEquals(304, response.getStatusCode().value());
+        assertEquals(etag, response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+        assertNull(response.getBody());
+        verify(getPricesUseCase).execute();
+    }
+
+    @Test
+    void getPrices_shouldChangeETag_whenCatalogChanges() {
+        Price price = Price.builder().productId(35455).brandId(1).rateId(1).value(Money.parse("35.50", "EUR")).build();
+        when(getPricesUseCase.execute()).thenReturn(Flux.just(price));
+        when(priceMapper.toResponse(price)).thenReturn(PriceResponse.builder().productId(35455).build());
+
+        String etag = priceController.getPrices(null).block().getHeaders().getETag();
+        when(priceCatalogVersion.etag()).thenReturn("\"5-5\"");
+        ResponseEntity<Flux<PriceResponse>> response = priceController.getPrices(etag).block();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertNotEquals(etag, response.getHeaders().getETag());
+        assertEquals("\"5-5\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    void getPrices_shouldReadCatalogWithoutETag_whenVersionIsNotKnownYet() {
+        Price price = Price.builder().productId(35455).brandId(1).rateId(1).value(Money.parse("35.50", "EUR")).build();
+        when(getPricesUseCase.execute()).thenReturn(Flux.just(price));
+        when(priceMapper.toResponse(price)).thenReturn(PriceResponse.builder().productId(35455).build());
+        when(priceCatalogVersion.etag()).thenReturn(null);
+
+        ResponseEntity<Flux<PriceResponse>> response = priceController.getPrices("*").block();
+
+        assertEquals(200, response.getStatusCode().value());
+        assertNull(response.getHeaders().getETag());
+        assertEquals("no-cache", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    void getApplicablePrice_shouldSendETagAndMaxAgeUntilSegmentEnd() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+        Price price = Price.builder()
+                .productId(35455)
+                .brandId(1)
+                .rateId(2)
+                .startDate(LocalDateTime.of(2020, 6, 14, 15, 0))
+                .endDate(LocalDateTime.of(2020, 6, 14, 18, 30))
+                .value(Money.parse("25.45", "EUR"))
+                .build();
+        PriceSegment segment = new PriceSegment(LocalDateTime.of(2020, 6, 14, 15, 0),
+                LocalDateTime.of(2020, 6, 14, 16, 29, 59), price);
+        when(getApplicablePriceUseCase.executeSegment(any(GetApplicablePriceQuery.class)))
+                .thenReturn(Mono.just(segment));
+        when(priceMapper.toResponse(price)).thenReturn(PriceResponse.builder().productId(35455).build());
+
+        HttpHeaders json = priceController.getApplicablePrice(35455, 1, applicationDate, null).block().getHeaders();
+        HttpHeaders cbor = priceController.getApplicablePrice(35455, 1, applicationDate,
+                MediaType.APPLICATION_CBOR_VALUE).block().getHeaders();
+
+        assertEquals(priceHttpCache.etag(segment, PriceHttpCache.JSON), json.getETag());
+        assertEquals("max-age=1800, public", json.getCacheControl());
+        assertEquals(List.of(HttpHeaders.ACCEPT), json.getVary());
+        assertEquals(priceHttpCache.etag(segment, PriceHttpCache.CBOR), cbor.getETag());
+        assertNotEquals(json.getETag(), cbor.getETag());
+        verify(getApplicablePriceUseCase, never()).execute(any(GetApplicablePriceQuery.class));
+    }
+
+    @Test
+    void getApplicablePrices_shouldReturnResultsInOrderWithInlineNotFound() {
+        LocalDateTime applicationDate = LocalDateTime.of(2020, 6, 14, 16, 0);
+        Price price = Price.builder().productId(35455).brandId(1).rateId(2).value(Money.parse("25.45", "EUR")).build();
+        PriceResponse priceResponse = PriceResponse.builder().productId(35455).brandId(1).rateId(2).price(Money.parse("25.45", null)).build();
+
+        PriceLookup found = new PriceLookup(35455, 1, applicationDate);
+        PriceLookup missing = new PriceLookup(1, 1, applicationDate);
+        when(getApplicablePricesUseCase.execute(any(GetApplicablePricesQuery.class)))
+                .thenReturn(Flux.just(new PriceLookupResult(found, price), new PriceLookupResult(missing, null)));
+        when(priceMapper.toResponse(price)).thenReturn(priceResponse);
+
+        Flux<ApplicablePriceBatchResponse> result = priceController.getApplicablePrices(List.of(
+                new ApplicablePriceRequest(35455, 1, applicationDate),
+                new ApplicablePriceRequest(1, 1, applicationDate)));
+
+        StepVerifier.create(result)
+                .assertNext(response -> {
+                    assertEquals(35455, response.productId());
+                    assertEquals(200, response.status());
+                    assertEquals(priceResponse, response.price());
+                })
+                .assertNext(response -> {
+                    assertEquals(1, response.productId());
+                    assertEquals(404, response.status());
+                    assertNull(response.price());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<GetApplicablePricesQuery> captor = ArgumentCaptor.forClass(GetApplicablePricesQuery.class);
+        verify(getApplicablePricesUseCase).execute(captor.capture());
+        assertEquals(2, captor.getValue().lookups().size());
+        assertEquals(35455, captor.getValue().lookups().get(0).productId());
+        assertEquals(1, captor.getValue().lookups().get(1).productId());
+    }
+
+    @Test
+    void streamPrices_shouldStreamPageFromCursor() {
+        Price price = Price.builder().id(3L).productId(35455).brandId(1).rateId(3).build();
+        PriceResponse priceResponse = PriceResponse.builder().id(3L).productId(35455).brandId(1).rateId(3).build();
+
+        when(getPricesUseCase.execute(any(GetPricesQuery.class))).thenReturn(Flux.just(price));
+        when(priceMapper.toResponse(price)).thenReturn(priceResponse);
+
+        StepVerifier.create(priceController.streamPrices(2L, 10))
+                .expectNext(priceResponse)
+                .verifyComplete();
+
+        verify(getPricesUseCase).execute(new GetPricesQuery(2L, 10));
+    }
+
+    @Test
+    void streamPriceEvents_shouldUseIdAsEventIdAndResumeFromLastEventId() {
+        Price price = Price.builder().id(4L).productId(35455).brandId(1).rateId(4).build();
+        PriceResponse priceResponse = PriceResponse.builder().id(4L).productId(35455).brandId(1).rateId(4).build();
+
+        when(getPricesUseCase.execute(any(GetPricesQuery.class))).thenReturn(Flux.just(price));
+        when(priceMapper.toResponse(price)).thenReturn(priceResponse);
+
+        StepVerifier.create(priceController.streamPriceEvents(null, null, 3L))
+                .assertNext(event -> {
+                    assertEquals("4", event.id());
+                    assertEquals(priceResponse, event.data());
+                })
+                .verifyComplete();
+
+        verify(getPricesUseCase).execute(new GetPricesQuery(3L, null));
+    }
+
+    @Test
+    void searchPrices_shouldReturnPageWithNextCursor() {
+        LocalDateTime validFrom = LocalDateTime.of(2020, 6, 14, 0, 0);
+        LocalDateTime validTo = LocalDateTime.of(2020, 6, 15, 0, 0);
+        Price price = Price.builder().id(2L).productId(35455).brandId(1).build();
+        PriceResponse priceResponse = PriceResponse.builder().id(2L).productId(35455).brandId(1).build();
+
+        when(searchPricesUseCase.execute(any(SearchPricesQuery.class)))
+                .thenReturn(Mono.just(new PricePage(List.of(price), 2L)));
+        when(priceMapper.toResponse(price)).thenReturn(priceResponse);
+
+        StepVerifier.create(priceController.searchPrices(1, Set.of(35455), validFrom, validTo, 1L, 1))
+                .assertNext(page -> {
+                    assertEquals(List.of(priceResponse), page.items());
+                    assertEquals(2L, page.nextCursor());
+                })
+                .verifyComplete();
+
+        verify(searchPricesUseCase).execute(new SearchPricesQuery(1, Set.of(35455), validFrom, validTo, 1L, 1));
+    }
 }
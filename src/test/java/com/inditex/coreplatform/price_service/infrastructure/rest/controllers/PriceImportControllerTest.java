@@ -0,0 +1,72 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inditex.coreplatform.price_service.application.usecases.ImportPricesUseCase;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportLine;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportReject;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportReport;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.PriceImportResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.parsers.PriceImportLineParser;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+class PriceImportControllerTest {
+
+    private ImportPricesUseCase importPricesUseCase;
+    private PriceImportController controller;
+
+    @BeforeEach
+    void setUp() {
+        importPricesUseCase = mock(ImportPricesUseCase.class);
+        controller = new PriceImportController(importPricesUseCase,
+                new PriceImportLineParser(new ObjectMapper().registerModule(new JavaTimeModule())));
+    }
+
+    @Test
+    void importCsv_shouldParseLinesAndMapReport() {
+        PriceImportReport report = new PriceImportReport(1, 3, 20, 50.0,
+                List.of(new PriceImportReject(3, "Expected 8 columns but found 1.")));
+        when(importPricesUseCase.execute(any())).thenReturn(Mono.just(report));
+
+        StepVerifier.create(controller.importCsv(Flux.just(
+                PriceImportLineParser.CSV_HEADER,
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR",
+                "garbage")))
+                .expectNext(new PriceImportResponse(1, 3, 20, 50.0,
+                        List.of(new PriceImportResponse.Reject(3, "Expected 8 columns but found 1.")), true))
+                .verifyComplete();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Flux<PriceImportLine>> lines = ArgumentCaptor.forClass(Flux.class);
+        verify(importPricesUseCase).execute(lines.capture());
+        StepVerifier.create(lines.getValue().map(PriceImportLine::isParsed))
+                .expectNext(true, false)
+                .verifyComplete();
+    }
+
+    @Test
+    void importNdjson_shouldParseLinesAsJson() {
+        when(importPricesUseCase.execute(any()))
+                .thenAnswer(invocation -> invocation.<Flux<PriceImportLine>>getArgument(0)
+                        .count()
+                        .map(count -> new PriceImportReport(0, count, 1, 0, List.of())));
+
+        StepVerifier.create(controller.importNdjson(Flux.just("{", "")))
+                .assertNext(response -> assertEquals(1, response.rejected()))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,81 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.controllers.parsers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceImportLine;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+class PriceImportLineParserTest {
+
+    private static final Price PRICE = Price.builder()
+            .brandId(1)
+            .productId(35455)
+            .rateId(1)
+            .priority(0)
+            .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+            .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+            .value(Money.parse("35.50", "EUR"))
+            .build();
+
+    private PriceImportLineParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new PriceImportLineParser(new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void parseNdjson_shouldMapEachLineToAPrice() {
+        Flux<String> lines = Flux.just(
+                "{\"brandId\":1,\"productId\":35455,\"rateId\":1,\"priority\":0,"
+                        + "\"startDate\":\"2020-06-14T00:00:00\",\"endDate\":\"2020-12-31T23:59:59\","
+                        + "\"price\":35.50,\"currency\":\"EUR\"}",
+                "",
+                "{\"brandId\":");
+
+        StepVerifier.create(parser.parseNdjson(lines))
+                .expectNext(PriceImportLine.parsed(1, PRICE))
+                .assertNext(line -> {
+                    assertEquals(3, line.lineNumber());
+                    assertEquals(false, line.isParsed());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void parseCsv_shouldSkipHeaderAndAcceptBothDateSeparators() {
+        Flux<String> lines = Flux.just(
+                PriceImportLineParser.CSV_HEADER,
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50,EUR",
+                "1, 2020-06-14T00:00:00 ,2020-12-31T23:59:59,1,35455,0,35.50,EUR");
+
+        StepVerifier.create(parser.parseCsv(lines))
+                .expectNext(PriceImportLine.parsed(2, PRICE))
+                .expectNext(PriceImportLine.parsed(3, PRICE))
+                .verifyComplete();
+    }
+
+    @Test
+    void parseCsv_shouldReportMalformedLines() {
+        Flux<String> lines = Flux.just(
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,1,35455,0,35.50",
+                "1,2020-06-14 00:00:00,2020-12-31 23:59:59,one,35455,0,35.50,EUR",
+                "1,2020-06-14,2020-12-31 23:59:59,1,35455,0,35.50,EUR");
+
+        StepVerifier.create(parser.parseCsv(lines))
+                .expectNext(PriceImportLine.malformed(1, "Expected 8 columns but found 7."))
+                .expectNext(PriceImportLine.malformed(2, "Invalid value 'one' for 'rateId'."))
+                .expectNext(PriceImportLine.malformed(3, "Invalid value '2020-06-14' for 'startDate'."))
+                .verifyComplete();
+    }
+}
@@ -0,0 +1,187 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.handlers;
+
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.infrastructure.config.ApplicablePriceFastPathConfig;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceRepositoryAdapter;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceStore;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceHttpCache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+class ApplicablePriceFastPathHandlerTest {
+
+    private static final PriceHttpCache PRICE_HTTP_CACHE = new PriceHttpCache(
+            Clock.fixed(Instant.parse("2020-06-14T16:00:00Z"), ZoneOffset.UTC), Duration.ofDays(1));
+
+    private ColumnarPriceRepositoryAdapter repository;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ColumnarPriceRepositoryAdapter.class);
+        when(repository.getStore()).thenReturn(ColumnarPriceStore.build(List.of(
+                price(1, 0, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"),
+                price(2, 1, "2020-06-14T15:00:00", "2020-06-14T18:30:00", "25.45"))));
+        client = WebTestClient.bindToRouterFunction(
+                new ApplicablePriceFastPathConfig().applicablePriceFastPath(provider(repository), PRICE_HTTP_CACHE))
+                .build();
+    }
+
+    @Test
+    void handle_shouldWriteApplicablePrice() {
+        client.get()
+                .uri("/api/prices/applicable?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody(String.class)
+                .isEqualTo("{\"id\":2,\"productId\":35455,\"brandId\":1,\"rateId\":2,"
+                        + "\"startDate\":\"2020-06-14T15:00:00\",\"endDate\":\"2020-06-14T18:30:00\",\"price\":25.45}");
+    }
+
+    @Test
+    void handle_shouldSendETagAndMaxAgeUntilSegmentEnd() {
+        client.get()
+                .uri("/api/prices/applicable?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, PRICE_HTTP_CACHE.etag(2, 1, 35455, 2,
+                        epoch("2020-06-14T15:00:00"), epoch("2020-06-14T18:30:00"), 2545,
+                        epoch("2020-06-14T15:00:00"), epoch("2020-06-14T18:30:00"), PriceHttpCache.JSON))
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "max-age=9001, public");
+    }
+
+    @Test
+    void handle_shouldReturnNotModified_whenETagMatches() {
+        String etag = client.get()
+                .uri("/api/prices/applicable?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+                .exchange()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        client.get()
+                .uri("/api/prices/applicable?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, etag)
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void handle_shouldReturnNotFoundWithoutBody_whenNoPriceApplies() {
+        client.get()
+                .uri("/api/prices/applicable?productId=35455&brandId=1&applicationDate=2021-01-01T00:00:00")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void accepts_shouldLeaveRequestsToController_whenStoreNotLoaded() {
+        when(repository.getStore()).thenReturn(null);
+
+        // No route matches, so the request would reach the annotated controller
+        client.get()
+                .uri("/api/prices/applicable?productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void accepts_shouldLeaveInvalidOrUnusualRequestsToController() {
+        for (String query : new String[] {
+                "productId=35455&brandId=1",
+                "productId=0&brandId=1&applicationDate=2020-06-14T16:00:00",
+                "productId=35455&brandId=abc&applicationDate=2020-06-14T16:00:00",
+                "productId=35455&productId=1&brandId=1&applicationDate=2020-06-14T16:00:00",
+                "productId=35455&brandId=1&applicationDate=2020-06-14T16:00",
+                "productId=35455&brandId=1&applicationDate=2020-06-14T16:00:00.500" }) {
+            client.get()
+                    .uri("/api/prices/applicable?" + query)
+                    .exchange()
+                    .expectStatus().isNotFound()
+                    .expectBody().isEmpty();
+        }
+    }
+
+    @Test
+    void applicablePriceFastPath_shouldFail_whenColumnarEngineDisabled() {
+        ApplicablePriceFastPathConfig config = new ApplicablePriceFastPathConfig();
+
+        assertThrows(IllegalStateException.class, () -> config.applicablePriceFastPath(provider(null), PRICE_HTTP_CACHE));
+    }
+
+    @Test
+    void parseId_shouldAcceptOnlyPositiveDecimalInts() {
+        assertEquals(1L, ApplicablePriceFastPathHandler.parseId("1"));
+        assertEquals(7L, ApplicablePriceFastPathHandler.parseId("0007"));
+        assertEquals(Integer.MAX_VALUE, ApplicablePriceFastPathHandler.parseId("2147483647"));
+        for (String value : new String[] { null, "", "0", "-1", "+1", "2147483648", "1a", " 1" }) {
+            assertEquals(ApplicablePriceFastPathHandler.INVALID, ApplicablePriceFastPathHandler.parseId(value));
+        }
+    }
+
+    @Test
+    void parseDateTime_shouldMatchLocalDateTime() {
+        for (String value : new String[] { "2020-06-14T16:00:00", "1970-01-01T00:00:00", "1969-12-31T23:59:59",
+                "2020-02-29T10:00:00", "2000-03-01T00:00:00", "0000-01-01T00:00:00", "9999-12-31T23:59:59" }) {
+            assertEquals(PriceIntervalIndex.toEpochSecond(LocalDateTime.parse(value)),
+                    ApplicablePriceFastPathHandler.parseDateTime(value));
+        }
+    }
+
+    @Test
+    void parseDateTime_shouldRejectOtherFormatsAndInvalidDates() {
+        for (String value : new String[] { null, "2020-06-14", "2020-06-14T16:00", "2020-06-14 16:00:00",
+                "2020-06-14T16:00:00Z", "2019-02-29T10:00:00", "2020-04-31T10:00:00", "2020-13-01T10:00:00",
+                "2020-06-14T24:00:00", "2020-06-14T16:60:00", "+020-06-14T16:00:00" }) {
+            assertEquals(ApplicablePriceFastPathHandler.INVALID, ApplicablePriceFastPathHandler.parseDateTime(value));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<ColumnarPriceRepositoryAdapter> provider(ColumnarPriceRepositoryAdapter repository) {
+        ObjectProvider<ColumnarPriceRepositoryAdapter> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(repository);
+        return provider;
+    }
+
+    private static long epoch(String dateTime) {
+        return PriceIntervalIndex.toEpochSecond(LocalDateTime.parse(dateTime));
+    }
+
+    private static Price price(int rateId, int priority, String start, String end, String value) {
+        return Price.builder()
+                .id((long) rateId)
+                .brandId(1)
+                .productId(35455)
+                .rateId(rateId)
+                .priority(priority)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .value(Money.parse(value, "EUR"))
+                .build();
+    }
+}
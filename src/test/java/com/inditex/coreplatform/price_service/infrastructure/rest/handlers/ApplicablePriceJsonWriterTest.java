@@ -0,0 +1,81 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.handlers;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.columnar.ColumnarPriceStore;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.memory.PriceIntervalIndex;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+class ApplicablePriceJsonWriterTest {
+
+    private static final ObjectWriter JACKSON = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build()
+            .writer();
+
+    private final PriceMapper priceMapper = new PriceMapperImpl();
+
+    @Test
+    void write_shouldMatchJackson() throws Exception {
+        assertMatchesJackson(price(1L, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"));
+    }
+
+    @Test
+    void write_shouldOmitIdLikeJackson_whenPriceHasNone() throws Exception {
+        assertMatchesJackson(price(null, "2020-06-14T00:00:00", "2020-12-31T23:59:59", "35.50"));
+    }
+
+    @Test
+    void write_shouldFormatPricesLikeMoneySerializer() throws Exception {
+        for (String value : new String[] { "0", "0.05", "0.5", "10", "25.45", "30.10", "99999.99", "9999999.99",
+                "10000000", "99999999.99", "-0.05", "-12.3" }) {
+            assertMatchesJackson(price(7L, "2020-06-14T00:00:00", "2020-12-31T23:59:59", value));
+        }
+    }
+
+    @Test
+    void write_shouldFormatDatesLikeJackson() throws Exception {
+        assertMatchesJackson(price(7L, "1970-01-01T00:00:00", "2020-02-29T09:05:03", "1.0"));
+        assertMatchesJackson(price(7L, "0001-01-01T00:00:00", "9999-12-31T23:59:59", "1.0"));
+        assertMatchesJackson(price(7L, "1969-12-31T23:59:59", "2000-03-01T00:00:00", "1.0"));
+    }
+
+    private void assertMatchesJackson(Price price) throws Exception {
+        ColumnarPriceStore store = ColumnarPriceStore.build(List.of(price));
+        int row = store.findRow(price.getBrandId(), price.getProductId(),
+                PriceIntervalIndex.toEpochSecond(price.getStartDate()));
+        DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.allocateBuffer(ApplicablePriceJsonWriter.MAX_LENGTH);
+
+        ApplicablePriceJsonWriter.write(buffer, store, row, price.getBrandId(), price.getProductId());
+
+        assertEquals(JACKSON.writeValueAsString(priceMapper.toResponse(price)),
+                buffer.toString(StandardCharsets.UTF_8));
+    }
+
+    private static Price price(Long id, String start, String end, String value) {
+        return Price.builder()
+                .id(id)
+                .brandId(1)
+                .productId(35455)
+                .rateId(4)
+                .priority(0)
+                .startDate(LocalDateTime.parse(start))
+                .endDate(LocalDateTime.parse(end))
+                .value(Money.parse(value, "EUR"))
+                .build();
+    }
+}
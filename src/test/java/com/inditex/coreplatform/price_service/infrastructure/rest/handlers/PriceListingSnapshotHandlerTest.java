@@ -0,0 +1,199 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.handlers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.infrastructure.config.PriceListingSnapshotConfig;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceCatalogVersion;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeBus;
+import com.inditex.coreplatform.price_service.infrastructure.events.PriceChangeTransport;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.entities.PriceCatalogStats;
+import com.inditex.coreplatform.price_service.infrastructure.persistence.repositories.IReactivePriceRepository;
+import com.inditex.coreplatform.price_service.infrastructure.rest.caching.PriceListingSnapshotCache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.reactive.function.server.MockServerRequest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+class PriceListingSnapshotHandlerTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final PriceMapper priceMapper = new PriceMapperImpl();
+
+    private GetPricesUseCase getPricesUseCase;
+    private PriceChangeBus priceChangeBus;
+    private PriceCatalogVersion priceCatalogVersion;
+    private PriceListingSnapshotCache cache;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        getPricesUseCase = mock(GetPricesUseCase.class);
+        priceChangeBus = new PriceChangeBus("node-a", PriceChangeTransport.NONE);
+        IReactivePriceRepository priceRepository = mock(IReactivePriceRepository.class);
+        when(priceRepository.findCatalogStats()).thenReturn(Mono.just(new PriceCatalogStats(2, 2)));
+        priceCatalogVersion = new PriceCatalogVersion(priceRepository, priceChangeBus, Duration.ofHours(1));
+        priceCatalogVersion.start();
+        PriceListingSnapshotConfig config = new PriceListingSnapshotConfig();
+        cache = config.priceListingSnapshotCache(getPricesUseCase, priceMapper, OBJECT_MAPPER, priceCatalogVersion,
+                Duration.ofMillis(20), 1);
+        client = WebTestClient.bindToRouterFunction(config.priceListingSnapshot(cache)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+        priceCatalogVersion.close();
+        priceChangeBus.close();
+    }
+
+    @Test
+    void handle_shouldServeSnapshotAsIs_whenGzipNotAccepted() throws Exception {
+        List<Price> prices = List.of(price(1, "35.50"), price(2, "25.45"));
+        start(prices);
+
+        byte[] body = client.get()
+                .uri("/api/prices")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, priceCatalogVersion.etag())
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .expectHeader().doesNotExist(HttpHeaders.CONTENT_ENCODING)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        assertArrayEquals(json(prices), body);
+    }
+
+    @Test
+    void handle_shouldServeGzipSnapshot_whenGzipAccepted() throws Exception {
+        List<Price> prices = List.of(price(1, "35.50"), price(2, "25.45"));
+        start(prices);
+
+        byte[] body = client.get()
+                .uri("/api/prices")
+                .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertArrayEquals(json(prices), in.readAllBytes());
+        }
+    }
+
+    @Test
+    void handle_shouldReturnNotModified_whenETagMatches() {
+        start(List.of(price(1, "35.50")));
+
+        client.get()
+                .uri("/api/prices")
+                .header(HttpHeaders.IF_NONE_MATCH, priceCatalogVersion.etag())
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void handle_shouldReturnNotFound_whenLatestSnapshotIsEmpty() {
+        start(List.of());
+
+        StepVerifier.create(new PriceListingSnapshotHandler(cache).handle(MockServerRequest.builder().build()))
+                .assertNext(response -> assertEquals(HttpStatus.NOT_FOUND, response.statusCode()))
+                .verifyComplete();
+    }
+
+    @Test
+    void accepts_shouldLeaveRequestsToController_whenSnapshotIsEmptyOrStreamed() {
+        start(List.of());
+
+        // No route matches, so the request would reach the annotated controller
+        client.get()
+                .uri("/api/prices")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().isEmpty();
+
+        client.get()
+                .uri("/api/prices")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void acceptsGzip_shouldFollowQualityValues() {
+        assertTrue(PriceListingSnapshotHandler.acceptsGzip("gzip, deflate, br"));
+        assertTrue(PriceListingSnapshotHandler.acceptsGzip("GZIP;q=0.5"));
+        assertTrue(PriceListingSnapshotHandler.acceptsGzip("*"));
+        assertFalse(PriceListingSnapshotHandler.acceptsGzip(null));
+        assertFalse(PriceListingSnapshotHandler.acceptsGzip("br, deflate"));
+        assertFalse(PriceListingSnapshotHandler.acceptsGzip("gzip;q=0"));
+        assertFalse(PriceListingSnapshotHandler.acceptsGzip("gzip;q=0.0, *"));
+        assertFalse(PriceListingSnapshotHandler.acceptsGzip("identity, *;q=0"));
+    }
+
+    private void start(List<Price> prices) {
+        when(getPricesUseCase.execute()).thenReturn(Flux.fromIterable(prices));
+        cache.start();
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (cache.current() == null) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Snapshot not built within 5 seconds");
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private byte[] json(List<Price> prices) throws Exception {
+        return OBJECT_MAPPER.writeValueAsBytes(prices.stream().map(priceMapper::toResponse).toList());
+    }
+
+    private static Price price(int rateId, String value) {
+        return Price.builder()
+                .id((long) rateId)
+                .brandId(1)
+                .productId(35455)
+                .rateId(rateId)
+                .priority(rateId)
+                .startDate(LocalDateTime.parse("2020-06-14T00:00:00"))
+                .endDate(LocalDateTime.parse("2020-12-31T23:59:59"))
+                .value(Money.parse(value, "EUR"))
+                .build();
+    }
+}
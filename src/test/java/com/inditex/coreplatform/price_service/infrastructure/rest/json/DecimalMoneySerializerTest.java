@@ -0,0 +1,22 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DecimalMoneySerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(Money.class, new DecimalMoneySerializer()));
+
+    @Test
+    void serialize_shouldWriteDecimalOfMoneyScaleWithoutCurrency() throws Exception {
+        assertEquals("35.50", mapper.writeValueAsString(Money.parse("35.50", "EUR")));
+        assertEquals("10.00", mapper.writeValueAsString(Money.parse("10", null)));
+        assertEquals("-0.05", mapper.writeValueAsString(Money.parse("-0.05", null)));
+    }
+}
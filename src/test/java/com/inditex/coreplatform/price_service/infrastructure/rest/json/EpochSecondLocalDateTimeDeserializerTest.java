@@ -0,0 +1,45 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+
+class EpochSecondLocalDateTimeDeserializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule()
+                    .addDeserializer(LocalDateTime.class, new EpochSecondLocalDateTimeDeserializer()));
+
+    @Test
+    void deserialize_shouldReadSecondsSinceEpochInUtc() throws Exception {
+        assertEquals(LocalDateTime.of(2020, 6, 14, 10, 0), mapper.readValue("1592128800", LocalDateTime.class));
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 59), mapper.readValue("-1", LocalDateTime.class));
+    }
+
+    @Test
+    void deserialize_shouldReadIsoStrings() throws Exception {
+        assertEquals(LocalDateTime.of(2020, 6, 14, 10, 0),
+                mapper.readValue("\"2020-06-14T10:00:00\"", LocalDateTime.class));
+    }
+
+    @Test
+    void deserialize_shouldRejectInvalidDates() {
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"tomorrow\"", LocalDateTime.class));
+        assertThrows(InvalidFormatException.class,
+                () -> mapper.readValue(String.valueOf(Long.MAX_VALUE), LocalDateTime.class));
+    }
+
+    @Test
+    void deserialize_shouldRejectOtherTokens() {
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("1.5", LocalDateTime.class));
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("true", LocalDateTime.class));
+    }
+}
@@ -0,0 +1,29 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+class EpochSecondLocalDateTimeSerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule()
+                    .addSerializer(LocalDateTime.class, new EpochSecondLocalDateTimeSerializer()));
+
+    @Test
+    void serialize_shouldWriteSecondsSinceEpochInUtc() throws Exception {
+        assertEquals("1592128800", mapper.writeValueAsString(LocalDateTime.of(2020, 6, 14, 10, 0)));
+        assertEquals("0", mapper.writeValueAsString(LocalDateTime.of(1970, 1, 1, 0, 0)));
+        assertEquals("-1", mapper.writeValueAsString(LocalDateTime.of(1969, 12, 31, 23, 59, 59)));
+    }
+
+    @Test
+    void serialize_shouldDropFractionsOfSecond() throws Exception {
+        assertEquals("1592128800", mapper.writeValueAsString(LocalDateTime.of(2020, 6, 14, 10, 0, 0, 999_000_000)));
+    }
+}
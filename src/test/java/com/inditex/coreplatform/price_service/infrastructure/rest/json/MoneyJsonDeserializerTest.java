@@ -0,0 +1,39 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MoneyJsonDeserializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addDeserializer(Money.class, new MoneyJsonDeserializer()));
+
+    @Test
+    void deserialize_shouldReadNumbersAndStrings() throws Exception {
+        assertEquals(new Money(3550, null), mapper.readValue("35.50", Money.class));
+        assertEquals(new Money(3500, null), mapper.readValue("35", Money.class));
+        assertEquals(new Money(-5, null), mapper.readValue("-0.05", Money.class));
+        assertEquals(new Money(2545, null), mapper.readValue("\"25.45\"", Money.class));
+    }
+
+    @Test
+    void deserialize_shouldRejectMoreThanTwoDecimals() {
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("35.555", Money.class));
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("3.5e1", Money.class));
+        assertThrows(InvalidFormatException.class, () -> mapper.readValue("\"abc\"", Money.class));
+    }
+
+    @Test
+    void deserialize_shouldRejectOtherTokens() {
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("true", Money.class));
+        assertThrows(MismatchedInputException.class, () -> mapper.readValue("{}", Money.class));
+    }
+}
@@ -0,0 +1,44 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+class MoneyJsonSerializerTest {
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new SimpleModule().addSerializer(Money.class, new MoneyJsonSerializer()));
+
+    @Test
+    void serialize_shouldWriteNumberWithoutCurrency() throws Exception {
+        assertEquals("35.5", mapper.writeValueAsString(Money.parse("35.50", "EUR")));
+        assertEquals("25.45", mapper.writeValueAsString(Money.parse("25.45", null)));
+        assertEquals("-0.05", mapper.writeValueAsString(Money.parse("-0.05", null)));
+    }
+
+    @Test
+    void serialize_shouldWriteSameNumbersAsDouble() throws Exception {
+        for (String amount : new String[] { "0", "0.05", "10", "38.95", "9999999.99" }) {
+            assertEquals(mapper.writeValueAsString(Double.valueOf(amount)),
+                    mapper.writeValueAsString(Money.parse(amount, null)));
+        }
+    }
+
+    @Test
+    void serialize_shouldWriteArrayElements() throws Exception {
+        assertEquals("[1.0,2.5]", mapper.writeValueAsString(List.of(new Money(100, null), new Money(250, null))));
+    }
+
+    @Test
+    void serialize_shouldWriteSameBytesAsString() throws Exception {
+        Money money = Money.parse("35.50", null);
+
+        assertEquals(mapper.writeValueAsString(money), new String(mapper.writeValueAsBytes(money)));
+    }
+}
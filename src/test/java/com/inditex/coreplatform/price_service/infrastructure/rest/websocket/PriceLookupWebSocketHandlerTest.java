@@ -0,0 +1,130 @@
+package com.inditex.coreplatform.price_service.infrastructure.rest.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceService;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PriceLookupWebSocketHandlerTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+    private static final String FOUND = "{\"productId\":35455,\"brandId\":1,\"applicationDate\":\"2020-06-14T10:00:00\"}";
+    private static final String NOT_FOUND = "{\"productId\":35456,\"brandId\":1,\"applicationDate\":\"2020-06-14T10:00:00\"}";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final PriceMapperImpl priceMapper = new PriceMapperImpl();
+
+    private IPriceService priceService;
+    private ValidatorFactory validatorFactory;
+    private Price price;
+
+    @BeforeEach
+    void setUp() {
+        priceService = mock(IPriceService.class);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        price = Price.builder()
+                .id(1L)
+                .brandId(1)
+                .productId(35455)
+                .rateId(1)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .value(Money.parse("35.50", "EUR"))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    private PriceLookupWebSocketHandler handler(int maxInFlight) {
+        return new PriceLookupWebSocketHandler(new GetApplicablePriceUseCase(priceService), priceMapper,
+                objectMapper, validatorFactory.getValidator(), maxInFlight);
+    }
+
+    @Test
+    void lookUp_shouldAnswerEachRequestInOrder() {
+        when(priceService.getPriceByProductAndBrandIdAndApplicationDate(35455, 1, DATE))
+                .thenReturn(Mono.just(price).delayElement(Duration.ofMillis(50)));
+        when(priceService.getPriceByProductAndBrandIdAndApplicationDate(35456, 1, DATE))
+                .thenReturn(Mono.empty());
+        PriceLookupWebSocketHandler handler = handler(4);
+
+        StepVerifier.create(handler.lookUp(Flux.just(FOUND, NOT_FOUND)))
+                .expectNext(new ApplicablePriceBatchResponse(35455, 1, DATE, 200, priceMapper.toResponse(price)))
+                .expectNext(new ApplicablePriceBatchResponse(35456, 1, DATE, 404, null))
+                .verifyComplete();
+        assertEquals(2, handler.getLookupCount());
+    }
+
+    @Test
+    void lookUp_shouldAnswerBadRequest_whenMessageIsNotAValidLookup() {
+        StepVerifier.create(handler(4).lookUp(Flux.just("not json", "null",
+                        "{\"productId\":-1,\"brandId\":1,\"applicationDate\":\"2020-06-14T10:00:00\"}",
+                        "{\"productId\":35455,\"brandId\":1}")))
+                .expectNext(new ApplicablePriceBatchResponse(null, null, null, 400, null))
+                .expectNext(new ApplicablePriceBatchResponse(null, null, null, 400, null))
+                .expectNext(new ApplicablePriceBatchResponse(-1, 1, DATE, 400, null))
+                .expectNext(new ApplicablePriceBatchResponse(35455, 1, null, 400, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void lookUp_shouldAnswerServerErrorAndGoOn_whenLookupFails() {
+        when(priceService.getPriceByProductAndBrandIdAndApplicationDate(35455, 1, DATE))
+                .thenReturn(Mono.error(new IllegalStateException("boom")));
+        when(priceService.getPriceByProductAndBrandIdAndApplicationDate(35456, 1, DATE))
+                .thenReturn(Mono.empty());
+
+        StepVerifier.create(handler(4).lookUp(Flux.just(FOUND, NOT_FOUND)))
+                .expectNext(new ApplicablePriceBatchResponse(35455, 1, DATE, 500, null))
+                .expectNext(new ApplicablePriceBatchResponse(35456, 1, DATE, 404, null))
+                .verifyComplete();
+    }
+
+    @Test
+    void lookUp_shouldBoundLookupsInFlight() {
+        AtomicInteger started = new AtomicInteger();
+        when(priceService.getPriceByProductAndBrandIdAndApplicationDate(any(), eq(1), any()))
+                .thenReturn(Mono.<Price>never().doOnSubscribe(subscription -> started.incrementAndGet()));
+
+        StepVerifier.create(handler(2).lookUp(Flux.just(FOUND, FOUND, FOUND, FOUND, FOUND)))
+                .expectSubscription()
+                .expectNoEvent(Duration.ofMillis(100))
+                .thenCancel()
+                .verify();
+
+        assertEquals(2, started.get());
+    }
+
+    @Test
+    void constructor_shouldRejectNonPositiveMaxInFlight() {
+        assertThrows(IllegalArgumentException.class, () -> handler(0));
+    }
+}
@@ -0,0 +1,167 @@
+package com.inditex.coreplatform.price_service.infrastructure.rsocket;
+
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePriceUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.GetApplicablePricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.GetPricesUseCase;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePriceQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetApplicablePricesQuery;
+import com.inditex.coreplatform.price_service.application.usecases.queries.GetPricesQuery;
+import com.inditex.coreplatform.price_service.domain.models.Money;
+import com.inditex.coreplatform.price_service.domain.models.Price;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.models.PriceLookupResult;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapper;
+import com.inditex.coreplatform.price_service.infrastructure.mappers.PriceMapperImpl;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.PriceController;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceBatchResponse;
+import com.inditex.coreplatform.price_service.infrastructure.rest.controllers.dtos.ApplicablePriceRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+class PriceRSocketControllerTest {
+
+    private static final LocalDateTime DATE = LocalDateTime.of(2020, 6, 14, 10, 0);
+
+    private GetApplicablePriceUseCase getApplicablePriceUseCase;
+    private GetApplicablePricesUseCase getApplicablePricesUseCase;
+    private GetPricesUseCase getPricesUseCase;
+    private PriceMapper priceMapper;
+    private ValidatorFactory validatorFactory;
+    private PriceRSocketController controller;
+    private Price price;
+
+    @BeforeEach
+    void setUp() {
+        getApplicablePriceUseCase = mock(GetApplicablePriceUseCase.class);
+        getApplicablePricesUseCase = mock(GetApplicablePricesUseCase.class);
+        getPricesUseCase = mock(GetPricesUseCase.class);
+        priceMapper = new PriceMapperImpl();
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        controller = new PriceRSocketController(getApplicablePriceUseCase, getApplicablePricesUseCase,
+                getPricesUseCase, priceMapper, validatorFactory.getValidator());
+        price = Price.builder()
+                .id(1L)
+                .brandId(1)
+                .productId(35455)
+                .rateId(1)
+                .priority(0)
+                .startDate(LocalDateTime.of(2020, 6, 14, 0, 0))
+                .endDate(LocalDateTime.of(2020, 12, 31, 23, 59, 59))
+                .value(Money.parse("35.50", "EUR"))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void getApplicablePrice_shouldReturnPrice_whenPriceApplies() {
+        when(getApplicablePriceUseCase.execute(new GetApplicablePriceQuery(35455, 1, DATE))).thenReturn(Mono.just(price));
+
+        StepVerifier.create(controller.getApplicablePrice(new ApplicablePriceRequest(35455, 1, DATE)))
+                .expectNext(priceMapper.toResponse(price))
+                .verifyComplete();
+    }
+
+    @Test
+    void getApplicablePrice_shouldCompleteEmpty_whenNoPriceApplies() {
+        when(getApplicablePriceUseCase.execute(any())).thenReturn(Mono.empty());
+
+        StepVerifier.create(controller.getApplicablePrice(new ApplicablePriceRequest(35455, 1, DATE)))
+                .verifyComplete();
+    }
+
+    @Test
+    void getApplicablePrice_shouldFail_whenRequestIsInvalid() {
+        StepVerifier.create(controller.getApplicablePrice(new ApplicablePriceRequest(-1, 1, DATE)))
+                .expectErrorMessage("'productId' must be a positive integer")
+                .verify();
+
+        verify(getApplicablePriceUseCase, never()).execute(any());
+    }
+
+    @Test
+    void streamPrices_shouldReadPricesAsTheyAreRequested() {
+        AtomicLong requested = new AtomicLong();
+        when(getPricesUseCase.execute(new GetPricesQuery(10L, null)))
+                .thenReturn(Flux.range(0, 100).map(i -> price).doOnRequest(requested::addAndGet));
+
+        StepVerifier.create(controller.streamPrices(new PriceStreamRequest(10L, null)), 3)
+                .expectNextCount(3)
+                .thenCancel()
+                .verify();
+
+        assertEquals(3, requested.get());
+    }
+
+    @Test
+    void streamPrices_shouldStreamEveryPrice_whenThereIsNoPayload() {
+        when(getPricesUseCase.execute(new GetPricesQuery(null, null))).thenReturn(Flux.just(price));
+
+        StepVerifier.create(controller.streamPrices(null))
+                .expectNext(priceMapper.toResponse(price))
+                .verifyComplete();
+    }
+
+    @Test
+    void streamPrices_shouldFail_whenLimitIsNotPositive() {
+        StepVerifier.create(controller.streamPrices(new PriceStreamRequest(null, 0)))
+                .expectErrorMessage("'limit' must be a positive integer")
+                .verify();
+    }
+
+    @Test
+    void getApplicablePrices_shouldAnswerEveryLookupInOrderInBatches() {
+        when(getApplicablePricesUseCase.execute(any())).thenAnswer(invocation -> {
+            GetApplicablePricesQuery query = invocation.getArgument(0);
+            return Flux.fromIterable(query.lookups())
+                    .map(lookup -> new PriceLookup(lookup.productId(), lookup.brandId(), lookup.applicationDate()))
+                    .map(lookup -> new PriceLookupResult(lookup, lookup.productId() == 35455 ? price : null));
+        });
+        int lookups = PriceController.MAX_BATCH_SIZE + 1;
+
+        StepVerifier.create(controller.getApplicablePrices(Flux.range(0, lookups)
+                        .map(i -> new ApplicablePriceRequest(i == 0 ? 35455 : 35456, 1, DATE))))
+                .expectNext(new ApplicablePriceBatchResponse(35455, 1, DATE, 200, priceMapper.toResponse(price)))
+                .expectNextCount(lookups - 2)
+                .expectNext(new ApplicablePriceBatchResponse(35456, 1, DATE, 404, null))
+                .verifyComplete();
+
+        verify(getApplicablePricesUseCase, times(2)).execute(any());
+    }
+
+    @Test
+    void getApplicablePrices_shouldAnswerBadRequestAndGoOn_whenLookupIsInvalid() {
+        when(getApplicablePricesUseCase.execute(new GetApplicablePricesQuery(List.of(
+                new GetApplicablePriceQuery(35456, 1, DATE)))))
+                .thenReturn(Flux.just(new PriceLookupResult(new PriceLookup(35456, 1, DATE), null)));
+
+        StepVerifier.create(controller.getApplicablePrices(Flux.just(
+                        new ApplicablePriceRequest(null, 1, DATE),
+                        new ApplicablePriceRequest(35456, 1, DATE))))
+                .expectNext(new ApplicablePriceBatchResponse(null, 1, DATE, 400, null))
+                .expectNext(new ApplicablePriceBatchResponse(35456, 1, DATE, 404, null))
+                .verifyComplete();
+    }
+}
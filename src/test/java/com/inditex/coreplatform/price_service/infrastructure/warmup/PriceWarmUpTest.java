@@ -0,0 +1,129 @@
+package com.inditex.coreplatform.price_service.infrastructure.warmup;
+
+import com.inditex.coreplatform.price_service.domain.models.PriceLookup;
+import com.inditex.coreplatform.price_service.domain.ports.IPriceRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+class PriceWarmUpTest {
+
+    private static final List<PriceLookup> LOOKUPS = List.of(
+            new PriceLookup(35455, 1, LocalDateTime.of(2020, 6, 14, 10, 0)),
+            new PriceLookup(35455, 1, LocalDateTime.of(2020, 6, 14, 16, 0)));
+
+    private IPriceRepository priceRepository;
+    private MeterRegistry meterRegistry;
+    private List<ClientRequest> requests;
+    private WebClient webClient;
+
+    @BeforeEach
+    void setUp() {
+        priceRepository = mock(IPriceRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        requests = new CopyOnWriteArrayList<>();
+        webClient = WebClient.builder()
+                .baseUrl("http://localhost:8080")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+                })
+                .build();
+    }
+
+    @Test
+    void run_shouldReplayEveryLookupInEachPass() {
+        when(priceRepository.whenLoaded()).thenReturn(Mono.empty());
+        PriceWarmUp warmUp = new PriceWarmUp(priceRepository, WebClient.builder(), meterRegistry, LOOKUPS, 3, 2,
+                Duration.ofSeconds(5));
+
+        warmUp.run(webClient);
+
+        assertEquals(9, requests.size());
+        assertEquals(9, warmUp.getRequestCount());
+        assertEquals(6, requests.stream().filter(request -> request.method() == HttpMethod.GET).count());
+        assertEquals("/api/prices/applicable", requests.get(0).url().getPath());
+        assertEquals("productId=35455&brandId=1&applicationDate=2020-06-14T10:00:00",
+                requests.get(0).url().getQuery());
+        assertEquals("/api/prices/applicable:batch", requests.get(2).url().getPath());
+        assertTrue(warmUp.getDuration() >= 0);
+        assertTrue(warmUp.getFirstPassLatency() >= 0);
+        assertTrue(warmUp.getLastPassLatency() >= 0);
+    }
+
+    @Test
+    void run_shouldRemoveTheMetersOfTheWarmUpRequests() {
+        when(priceRepository.whenLoaded()).thenReturn(Mono.empty());
+        Timer.builder("http.server.requests").tag("uri", "/api/prices/applicable").register(meterRegistry);
+        Timer.builder("price.lookup").tag("layer", "controller").register(meterRegistry);
+        Timer.builder("price.lookup").tag("layer", "usecase").register(meterRegistry);
+        Timer.builder("jvm.gc.pause").register(meterRegistry);
+        PriceWarmUp warmUp = new PriceWarmUp(priceRepository, WebClient.builder(), meterRegistry, LOOKUPS, 3, 2,
+                Duration.ofSeconds(5));
+
+        warmUp.run(webClient);
+
+        assertNull(meterRegistry.find("http.server.requests").meter());
+        assertNull(meterRegistry.find("price.lookup").meter());
+        assertNotNull(meterRegistry.find("jvm.gc.pause").meter());
+    }
+
+    @Test
+    void run_shouldGiveUp_whenTimeoutExpires() {
+        when(priceRepository.whenLoaded()).thenReturn(Mono.never());
+        PriceWarmUp warmUp = new PriceWarmUp(priceRepository, WebClient.builder(), meterRegistry, LOOKUPS, 3, 2,
+                Duration.ofMillis(100));
+
+        warmUp.run(webClient);
+
+        assertEquals(0, requests.size());
+        assertTrue(warmUp.getDuration() >= Duration.ofMillis(100).toNanos());
+        assertEquals(-1, warmUp.getFirstPassLatency());
+    }
+
+    @Test
+    void run_shouldDoNothing_whenNoLookups() {
+        PriceWarmUp warmUp = new PriceWarmUp(priceRepository, WebClient.builder(), meterRegistry, List.of(), 3, 2,
+                Duration.ofSeconds(5));
+
+        warmUp.run(webClient);
+
+        assertEquals(0, requests.size());
+        assertEquals(-1, warmUp.getDuration());
+    }
+
+    @Test
+    void parseLookup_shouldReadProductBrandAndDate() {
+        assertEquals(new PriceLookup(35455, 1, LocalDateTime.of(2020, 6, 14, 10, 0)),
+                PriceWarmUp.parseLookup(" 35455/1/2020-06-14T10:00:00 "));
+    }
+
+    @Test
+    void parseLookup_shouldRejectMalformedLookups() {
+        assertThrows(IllegalArgumentException.class, () -> PriceWarmUp.parseLookup("35455/1"));
+        assertThrows(IllegalArgumentException.class, () -> PriceWarmUp.parseLookup("35455/one/2020-06-14T10:00:00"));
+        assertThrows(IllegalArgumentException.class, () -> PriceWarmUp.parseLookup("35455/1/tomorrow"));
+    }
+}